@@ -11,11 +11,17 @@ import dev.arzor.pickyourdifficulty.listeners.*;
 import dev.arzor.pickyourdifficulty.managers.*;
 import dev.arzor.pickyourdifficulty.storage.CooldownTracker;
 import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.storage.PlayerRecordCache;
+import dev.arzor.pickyourdifficulty.storage.StorageManager;
+import dev.arzor.pickyourdifficulty.storage.WriteBehindFlusher;
+import dev.arzor.pickyourdifficulty.utils.TextUtil;
 
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.function.Supplier;
+
 // ─────────────────────────────────────────────────────────────
 // 🎮 Main plugin entry point
 // ─────────────────────────────────────────────────────────────
@@ -61,6 +67,16 @@ public final class PickYourDifficulty extends JavaPlugin {
         // ⚙️ Load config.yml and apply defaults
         ConfigManager.init(this);
 
+        // 🪵 Start the background debug log writer (no-op unless debugMode + debugLog.toFile)
+        DebugLogManager.start();
+
+        // ╔═══🗄️ Open Storage═══════════════════════════════════════════╗
+        // 💬 storage.backend (yaml / sqlite) — must be open before any player data loads
+        StorageManager.init();
+
+        // 💤 storage.lazyLoading — decides whether the loads below load everyone or no one
+        PlayerRecordCache.init();
+
         // ╔═══🧠 Load Player Data═══════════════════════════════════════╗
         // 💾 Load previously stored difficulties from disk
         difficultyStorage = PlayerDifficultyStorage.getInstance();
@@ -70,13 +86,27 @@ public final class PickYourDifficulty extends JavaPlugin {
         playerDataManager = new PlayerDataManager(difficultyStorage);
 
         // 🎨 Load GUI templates and prepare menus
+        GUITemplateCache.compile();
         guiManager = GUIManager.getInstance();
 
+        // 🔊 Resolve configured sounds (and Geyser overrides) once up front
+        SoundManager.compile();
+
         // ╔═══⏳ Load Cooldowns═════════════════════════════════════════╗
         CooldownTracker.loadFromDisk();
 
+        // ╔═══💾 Start Write-Behind Persistence═════════════════════════╗
+        // 💬 Changes are written in the background instead of only saved on shutdown
+        WriteBehindFlusher.start(this);
+
+        // 🧹 Drop cooldowns as they end (memory + storage)
+        CooldownTracker.start(this);
+
         // ╔═══🎧 Register Event Listeners═════════════════════════════╗
 
+        // 💤 Load player data on login (storage.lazyLoading)
+        getServer().getPluginManager().registerEvents(new PlayerPreLoginListener(), this);
+
         // 👋 Handle join + GUI open
         getServer().getPluginManager().registerEvents(new JoinListener(guiManager, playerDataManager), this);
 
@@ -87,10 +117,10 @@ public final class PickYourDifficulty extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new DespawnTimerListener(difficultyStorage), this);
 
         // 🛡️ Warn when grace period is ending
-        getServer().getPluginManager().registerEvents(new GraceReminderListener(difficultyStorage), this);
+        getServer().getPluginManager().registerEvents(new GraceReminderListener(), this);
 
         // 🛡️ Prevent damage during grace period
-        getServer().getPluginManager().registerEvents(new GraceProtectionListener(difficultyStorage), this);
+        getServer().getPluginManager().registerEvents(new GraceProtectionListener(), this);
 
         // 🎒 Store dropped items before despawn
         getServer().getPluginManager().registerEvents(new ItemPickupListener(), this);
@@ -98,7 +128,10 @@ public final class PickYourDifficulty extends JavaPlugin {
 
         // 🖱️ GUI click handling (main + confirm)
         getServer().getPluginManager().registerEvents(new GUIClickListener(guiManager, playerDataManager), this);
-        getServer().getPluginManager().registerEvents(new ConfirmGUIClickListener(guiManager), this);
+        getServer().getPluginManager().registerEvents(new ConfirmGUIClickListener(), this);
+
+        // 🔌 Track PlaceholderAPI being enabled/disabled after we start
+        getServer().getPluginManager().registerEvents(new PluginHookListener(), this);
 
         // 📜 AcceptTheRules integration auto-registers listener
         new RulesAcceptListener(this, guiManager, playerDataManager);
@@ -120,8 +153,9 @@ public final class PickYourDifficulty extends JavaPlugin {
         // ╔═══🔌 External Integrations═════════════════════════════════╗
 
         // 🔤 PlaceholderAPI (placeholder registration)
+        TextUtil.refreshPlaceholderAPIHook();
         if (ConfigManager.enablePlaceholderAPI()) {
-            if (Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+            if (TextUtil.isPlaceholderAPIEnabled()) {
                 dev.arzor.pickyourdifficulty.placeholders.PlaceholderRegistrar.register(playerDataManager);
                 getLogger().info("🔤 PlaceholderAPI detected – Placeholder support enabled.");
             } else {
@@ -159,9 +193,15 @@ public final class PickYourDifficulty extends JavaPlugin {
         // 🔄 Restore dropped item holograms from memory
         HologramManager.restoreAll();
 
+        // 💤 Players already online (e.g. /reload) — lazy loading only
+        PlayerRecordCache.reloadOnline();
+
         // 🔁 Start recurring update task
         HologramTaskManager.start(this);
 
+        // ⏰ Start grace expiry + interval reminder deadlines
+        GraceScheduler.start(this);
+
         // ✅ Final enable log
         getLogger().info("✅ PickYourDifficulty has been enabled. Ready for players!");
     }
@@ -176,9 +216,18 @@ public final class PickYourDifficulty extends JavaPlugin {
         // 🧹 Stop hologram updates and clean visuals
         HologramTaskManager.stop();
 
-        // 💾 Persist cooldowns and difficulty storage to disk
-        CooldownTracker.saveToDisk();
-        PlayerDifficultyStorage.getInstance().saveToDisk();
+        // ⏰ Stop grace deadline polling
+        GraceScheduler.stop();
+
+        // ⏳ Stop cooldown pruning
+        CooldownTracker.stop();
+
+        // 💾 Write any pending changes, compact the backend, then stop the flusher
+        WriteBehindFlusher.stop();
+        StorageManager.shutdown();
+
+        // 🪵 Flush buffered debug lines and stop the writer thread
+        DebugLogManager.stop();
 
         // ❌ Final disable log
         getLogger().info("❌ PickYourDifficulty has been disabled.");
@@ -212,11 +261,40 @@ public final class PickYourDifficulty extends JavaPlugin {
     // 🪵 Debug Logger — Global debug print controlled by config
     // ─────────────────────────────────────────────────────────────
 
-    // 💬 Logs debug output to console if debug mode is enabled
+    // 💬 Logs debug output if debug mode is enabled — to logs/debug-N.log via
+    //    DebugLogManager when debugLog.toFile is on, otherwise to the console
     // ✅ Usage: PickYourDifficulty.debug("Something happened!");
     // 🪵 Prefix is auto-added for consistency/
     public static void debug(String message) {
-        if (ConfigManager.isDebugMode()) {
+        debug(DebugLogManager.GENERAL, message);
+    }
+
+    // 💬 Lazy variant — the message is only built when debug mode is on
+    // ✅ Usage: PickYourDifficulty.debug(() -> "Loaded " + count + " entries");
+    // ⚡ With debug off this costs one volatile read: no concatenation, no
+    //    toString() calls, and a lambda that captures nothing is never re-allocated.
+    //    A lambda that captures locals is allocated before this is called — on
+    //    per-event paths, guard it with ConfigManager.isDebugMode()
+    public static void debug(Supplier<String> message) {
+        debug(DebugLogManager.GENERAL, message);
+    }
+
+    // 💬 Category variants — noisy subsystems tag their lines so debugLog.sampling
+    //    can keep 1 in N of them (sampled out lines are never built)
+    public static void debug(String category, String message) {
+        if (ConfigManager.isDebugMode() && DebugLogManager.sample(category)) {
+            emitDebug(category, message);
+        }
+    }
+
+    public static void debug(String category, Supplier<String> message) {
+        if (ConfigManager.isDebugMode() && DebugLogManager.sample(category)) {
+            emitDebug(category, message.get());
+        }
+    }
+
+    private static void emitDebug(String category, String message) {
+        if (!DebugLogManager.offer(category, message)) {
             instance.getLogger().info("[PickYourDifficulty] [DEBUG] " + message);
         }
     }
@@ -9,14 +9,13 @@ package dev.arzor.pickyourdifficulty.commands;
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
 import dev.arzor.pickyourdifficulty.managers.GUIManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 import dev.arzor.pickyourdifficulty.managers.SoundManager;
 import dev.arzor.pickyourdifficulty.storage.CooldownTracker;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
 import dev.arzor.pickyourdifficulty.utils.TimeFormatUtil;
 
-import net.kyori.adventure.text.minimessage.MiniMessage;
-
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -29,13 +28,6 @@ import javax.annotation.Nonnull;
 // ─────────────────────────────────────────────────────────────
 public class CommandGui implements CommandExecutor {
 
-    // ─────────────────────────────────────────────────────────────
-    // 📦 Dependencies
-    // ─────────────────────────────────────────────────────────────
-
-    // 💬 MiniMessage instance for deserializing formatted messages
-    private final MiniMessage mm = MiniMessage.miniMessage();
-
     // ─────────────────────────────────────────────────────────────
     // ⚙️ Command Execution
     // ─────────────────────────────────────────────────────────────
@@ -43,23 +35,23 @@ public class CommandGui implements CommandExecutor {
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
         // 📦 Debug: Received command execution request
-        PickYourDifficulty.debug("Command /pyd gui invoked by: " + sender.getName());
+        PickYourDifficulty.debug(() -> "Command /pyd gui invoked by: " + sender.getName());
 
         // ╔═══🚫 Must Be Player═══════════════════════════════════════╗
         // This command cannot be used from console or command blocks
         if (!(sender instanceof Player player)) {
             PickYourDifficulty.debug("Command blocked — sender is not a player.");
-            sender.sendMessage(mm.deserialize(MessagesManager.get("error.players-only")));
+            sender.sendMessage(MessagesManager.format(MessageKey.ERROR_PLAYERS_ONLY));
             return true;
         }
 
         // ╔═══🔐 Permission Check═════════════════════════════════════╗
         // Only allow access if permission enforcement is enabled AND player has permission
         if (ConfigManager.requireCommandPermissions() && !PermissionUtil.hasGuiAccess(player)) {
-            PickYourDifficulty.debug(player.getName() + " lacks permission to open GUI.");
+            PickYourDifficulty.debug(() -> player.getName() + " lacks permission to open GUI.");
 
             // 🚫 Inform sender they don't have permission to use this command
-            player.sendMessage(mm.deserialize(MessagesManager.get("error.no-permission-gui")));
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION_GUI));
             return true;
         }
 
@@ -70,8 +62,8 @@ public class CommandGui implements CommandExecutor {
                 .getDifficultyStorage().hasSelectedDifficulty(player)) {
 
             // 💬 Tell the player they can't change it again
-            PickYourDifficulty.debug(player.getName() + " attempted to open GUI, but switching is disabled and already selected.");
-            player.sendMessage(mm.deserialize(MessagesManager.get("gui.already-selected")));
+            PickYourDifficulty.debug(() -> player.getName() + " attempted to open GUI, but switching is disabled and already selected.");
+            player.sendMessage(MessagesManager.format(MessageKey.GUI_ALREADY_SELECTED));
 
             // 🔇 Play denied sound to signal the GUI is locked
             SoundManager.playDeniedSound(player, false);
@@ -83,29 +75,26 @@ public class CommandGui implements CommandExecutor {
         long secondsLeft = CooldownTracker.getRemainingSeconds(player.getUniqueId());
 
         if (secondsLeft > 0) {
-            PickYourDifficulty.debug(player.getName() + " is under cooldown — " + secondsLeft + "s remaining.");
+            PickYourDifficulty.debug(() -> player.getName() + " is under cooldown — " + secondsLeft + "s remaining.");
 
             // 🧮 Convert raw seconds to friendly text format (e.g. "1m 12s")
             // This helps players understand how long they must wait before retrying.
             // TimeFormatUtil internally breaks the time into minutes + seconds and returns a human-readable string.
             String formatted = TimeFormatUtil.formatCooldown(secondsLeft);
 
-            // 💬 Replace <time> placeholder in cooldown message
-            String rawMessage = MessagesManager.get("gui.cooldown-wait").replace("<time>", formatted);
-
-            // 🔕 Inform player and play cooldown-denied sound variant
-            player.sendMessage(mm.deserialize(rawMessage));
+            // 🔕 Inform player (with <time> filled in) and play cooldown-denied sound variant
+            player.sendMessage(MessagesManager.format(MessageKey.GUI_COOLDOWN_WAIT, MessagesManager.placeholder("time", formatted)));
             SoundManager.playDeniedSound(player, true);
             return true;
         }
 
         // ╔═══✅ All checks passed — open GUI══════════════════════════╗
 
-        PickYourDifficulty.debug(player.getName() + " passed all checks — opening GUI.");
+        PickYourDifficulty.debug(() -> player.getName() + " passed all checks — opening GUI.");
         GUIManager.getInstance().openDifficultyGUI(player);
 
         // 💬 Optional placeholder message (can be used in messages.yml to confirm GUI opened)
-        player.sendMessage(mm.deserialize(MessagesManager.get("gui.open-placeholder")));
+        player.sendMessage(MessagesManager.format(MessageKey.GUI_OPEN_PLACEHOLDER));
         return true;
     }
 }
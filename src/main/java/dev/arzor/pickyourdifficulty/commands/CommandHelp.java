@@ -7,6 +7,7 @@
 package dev.arzor.pickyourdifficulty.commands;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
 
@@ -43,13 +44,13 @@ public class CommandHelp implements CommandExecutor {
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
         // 📦 Debug: Help command received
-        PickYourDifficulty.debug("/pyd help invoked by: " + sender.getName());
+        PickYourDifficulty.debug(() -> "/pyd help invoked by: " + sender.getName());
 
         // ╔═══🚫 Must Be Player═══════════════════════════════════════╗
         // This command cannot be run from console or command blocks
         if (!(sender instanceof Player player)) {
             PickYourDifficulty.debug("Blocked /pyd help — sender is not a player.");
-            sender.sendMessage(MessagesManager.format("error.players-only"));
+            sender.sendMessage(MessagesManager.format(MessageKey.ERROR_PLAYERS_ONLY));
             return true;
         }
 
@@ -59,15 +60,16 @@ public class CommandHelp implements CommandExecutor {
                 || PermissionUtil.has(player, "*")
                 || PermissionUtil.has(player, "pickyourdifficulty.*");
 
-        PickYourDifficulty.debug("Help menu shown to: " + player.getName() + " | showPermissions=" + showPermissions);
+        PickYourDifficulty.debug(() -> "Help menu shown to: " + player.getName() + " | showPermissions=" + showPermissions);
 
         // ╔═══🧾 Send Header═══════════════════════════════════════════╗
-        player.sendMessage(MessagesManager.format("help.header"));
+        player.sendMessage(MessagesManager.format(MessageKey.HELP_HEADER));
 
         // ╔═══📌 Command Entries════════════════════════════════════════════════════════════════════════════╗
         // Each help entry includes click-to-suggest and optional hover permission
         sendEntry(player, "gui", showPermissions);               // 🧭 /pyd gui
         sendEntry(player, "info", showPermissions);              // ℹ️ /pyd info
+        sendEntry(player, "migrate", showPermissions);           // 🚚 /pyd migrate <backend>
         sendEntry(player, "reload", showPermissions);            // 🔁 /pyd reload
         sendEntry(player, "reset", showPermissions);             // 🧹 /pyd reset <player>
         sendEntry(player, "set", showPermissions);               // 🎯 /pyd set <player> <difficulty>
@@ -84,19 +86,19 @@ public class CommandHelp implements CommandExecutor {
     private void sendEntry(Player player, String key, boolean showPermissions) {
 
         // 📥 Grab permission node required for this command
-        String permission = MessagesManager.get("help.commands." + key + ".permission");
+        String permission = MessagesManager.get(MessageKey.helpEntry(key, "permission"));
 
         // ❌ Skip if the player has no permission AND we're not showing hidden commands
         if (!PermissionUtil.hasAny(player, List.of(permission)) && !showPermissions) {
-            PickYourDifficulty.debug("Skipping help entry for /pyd " + key + " — no permission and showPermissions=false");
+            PickYourDifficulty.debug(() -> "Skipping help entry for /pyd " + key + " — no permission and showPermissions=false");
             return;
         }
 
         // 📥 Load the text to display and the suggested command for click
-        String text = MessagesManager.get("help.commands." + key + ".text");       // Line text (MiniMessage)
-        String suggest = MessagesManager.get("help.commands." + key + ".suggest"); // Suggested command on click
+        String text = MessagesManager.get(MessageKey.helpEntry(key, "text")); // Line text (MiniMessage)
+        String suggest = MessagesManager.get(MessageKey.helpEntry(key, "suggest")); // Suggested command on click
 
-        PickYourDifficulty.debug("Adding help entry: /pyd " + key + " → suggests: '" + suggest + "'");
+        PickYourDifficulty.debug(() -> "Adding help entry: /pyd " + key + " → suggests: '" + suggest + "'");
 
         // ✅ Build a clickable message using MiniMessage
         Component entry = mm.deserialize(text)
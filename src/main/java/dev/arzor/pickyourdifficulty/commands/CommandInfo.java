@@ -9,6 +9,7 @@ package dev.arzor.pickyourdifficulty.commands;
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
 import dev.arzor.pickyourdifficulty.managers.DifficultyManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
 
@@ -27,13 +28,6 @@ import javax.annotation.Nonnull;
 // ─────────────────────────────────────────────────────────────
 public class CommandInfo implements CommandExecutor {
 
-    // ─────────────────────────────────────────────────────────────
-    // 🧰 Utilities
-    // ─────────────────────────────────────────────────────────────
-
-    // 💬 MiniMessage instance for formatting rich chat components
-    private final MiniMessage mm = MiniMessage.miniMessage();
-
     // ─────────────────────────────────────────────────────────────
     // ⚙️ Command Execution
     // ─────────────────────────────────────────────────────────────
@@ -41,23 +35,23 @@ public class CommandInfo implements CommandExecutor {
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
         // 📦 Debug: Info command triggered
-        PickYourDifficulty.debug("/pyd info invoked by: " + sender.getName());
+        PickYourDifficulty.debug(() -> "/pyd info invoked by: " + sender.getName());
 
         // ╔═══🚫 Must Be Player═══════════════════════════════════════╗
         // This command cannot be run from console or command blocks
         if (!(sender instanceof Player player)) {
             PickYourDifficulty.debug("Blocked /pyd info — sender is not a player.");
-            sender.sendMessage(mm.deserialize(MessagesManager.get("error.players-only")));
+            sender.sendMessage(MessagesManager.format(MessageKey.ERROR_PLAYERS_ONLY));
             return true;
         }
 
         // ╔═══🔐 Permission Check═════════════════════════════════════╗
         // Only allow access if permission enforcement is enabled AND player has permission
         if (ConfigManager.requireCommandPermissions() && !PermissionUtil.hasInfoAccess(player)) {
-            PickYourDifficulty.debug("Blocked /pyd info — " + player.getName() + " lacks permission.");
+            PickYourDifficulty.debug(() -> "Blocked /pyd info — " + player.getName() + " lacks permission.");
 
             // 🚫 Inform sender they don't have permission to use this command
-            player.sendMessage(mm.deserialize(MessagesManager.get("error.no-permission-info")));
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION_INFO));
             return true;
         }
 
@@ -68,18 +62,17 @@ public class CommandInfo implements CommandExecutor {
                 .getDifficultyStorage()
                 .getDifficulty(player.getUniqueId());
 
-        PickYourDifficulty.debug(player.getName() + " has difficulty: " + difficulty);
+        PickYourDifficulty.debug(() -> player.getName() + " has difficulty: " + difficulty);
 
         // ╔═══💬 Send Difficulty Label════════════════════════════════╗
         // Display the difficulty using the configured MiniMessage template
-        player.sendMessage(mm.deserialize(
-                MessagesManager.get("pyd.info-current").replace("<difficulty>", difficulty)
-        ));
+        player.sendMessage(MessagesManager.format(MessageKey.PYD_INFO_CURRENT,
+                MessagesManager.placeholder("difficulty", difficulty)));
 
         // ╔═══📖 Send Difficulty Summary══════════════════════════════╗
         // Shows summary info like grace time, despawn time, etc.
         String summary = DifficultyManager.getDifficultySummary(difficulty);
-        PickYourDifficulty.debug("Sending difficulty summary to " + player.getName() + ": " + summary);
+        PickYourDifficulty.debug(() -> "Sending difficulty summary to " + player.getName() + ": " + summary);
         player.sendMessage(Component.text(summary));
 
         return true;
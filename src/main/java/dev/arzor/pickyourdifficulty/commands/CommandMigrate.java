@@ -0,0 +1,145 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                    🚚 CommandMigrate.java                          ║
+// ║   Handles /pyd migrate <yaml|sqlite> — copies stored player data   ║
+// ║   from another backend into the active one                         ║
+// ║   Requires permission: pickyourdifficulty.migrate                  ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.commands;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend;
+import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.HologramManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
+import dev.arzor.pickyourdifficulty.managers.MessagesManager;
+import dev.arzor.pickyourdifficulty.storage.CooldownTracker;
+import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.storage.PlayerRecordCache;
+import dev.arzor.pickyourdifficulty.storage.StorageManager;
+import dev.arzor.pickyourdifficulty.storage.StorageMigrator;
+import dev.arzor.pickyourdifficulty.storage.WriteBehindFlusher;
+import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.Map;
+
+// ─────────────────────────────────────────────────────────────
+// 🚚 CommandMigrate — One-shot backend → backend copy
+// ─────────────────────────────────────────────────────────────
+// 💬 Typical use: set storage.backend to sqlite, restart, then run
+//    /pyd migrate yaml to bring the old YAML data across.
+// 💬 The copy runs on the storage writer thread; memory is reloaded from
+//    the active backend on the main thread once it finishes.
+public class CommandMigrate implements CommandExecutor {
+
+    // 🔒 One migration at a time (main thread only)
+    private static boolean running = false;
+
+    // ─────────────────────────────────────────────────────────────
+    // ⚙️ Command Execution
+    // ─────────────────────────────────────────────────────────────
+    @Override
+    public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
+
+        // 📦 Debug: Migrate command triggered
+        PickYourDifficulty.debug(() -> "/pyd migrate invoked by: " + sender.getName());
+
+        // ╔═══🔐 Permission Check═════════════════════════════════════╗
+        // Only allow access if permission enforcement is enabled AND sender has permission
+        if (ConfigManager.requireCommandPermissions() && !PermissionUtil.hasMigratePermission(sender)) {
+            PickYourDifficulty.debug(() -> sender.getName() + " tried to run /pyd migrate without permission.");
+
+            // 🚫 Inform sender they don't have permission to use this command
+            sender.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION));
+            return true;
+        }
+
+        // ╔═══📏 Argument Validation═══════════════════════════════════╗
+
+        // ✅ Ensure we received 2 args: /pyd migrate <from>
+        if (args.length < 2) {
+            PickYourDifficulty.debug("Invalid usage of /pyd migrate — missing source backend.");
+            sender.sendMessage(MessagesManager.format(MessageKey.MIGRATE_USAGE));
+            return true;
+        }
+
+        StorageBackend target = StorageManager.getBackend();
+        StorageBackend source = StorageManager.create(args[1]);
+
+        // ❓ Not a backend we know
+        if (source == null) {
+            sender.sendMessage(MessagesManager.format(MessageKey.MIGRATE_UNKNOWN_BACKEND, Map.of(
+                    "backend", args[1],
+                    "backends", String.join(", ", StorageManager.BACKEND_NAMES)
+            )));
+            return true;
+        }
+
+        // 🔁 Copying the active backend onto itself would just wipe it
+        if (source.getName().equals(target.getName())) {
+            sender.sendMessage(MessagesManager.format(MessageKey.MIGRATE_SAME_BACKEND, Map.of("backend", target.getName())));
+            return true;
+        }
+
+        if (running) {
+            sender.sendMessage(MessagesManager.format(MessageKey.MIGRATE_IN_PROGRESS));
+            return true;
+        }
+
+        // ╔═══🚚 Copy on the Writer Thread══════════════════════════════╗
+        running = true;
+        sender.sendMessage(MessagesManager.format(MessageKey.MIGRATE_STARTED, Map.of(
+                "source", source.getName(),
+                "target", target.getName()
+        )));
+
+        WriteBehindFlusher.submit(() -> {
+            try {
+                source.open();
+                int copied = StorageMigrator.migrate(source, target);
+
+                Bukkit.getScheduler().runTask(PickYourDifficulty.getInstance(), () -> {
+                    reloadPlayerData();
+                    running = false;
+
+                    PickYourDifficulty.getInstance().getLogger().info("🚚 Migrated " + copied + " entries from "
+                            + source.getName() + " to " + target.getName() + " storage");
+                    sender.sendMessage(MessagesManager.format(MessageKey.MIGRATE_SUCCESS, Map.of(
+                            "count", String.valueOf(copied),
+                            "source", source.getName(),
+                            "target", target.getName()
+                    )));
+                });
+
+            } catch (IOException | RuntimeException e) {
+                PickYourDifficulty.getInstance().getLogger().warning("❌ Migration from " + source.getName() + " failed: " + e.getMessage());
+
+                Bukkit.getScheduler().runTask(PickYourDifficulty.getInstance(), () -> {
+                    running = false;
+                    sender.sendMessage(MessagesManager.format(MessageKey.MIGRATE_FAILED, Map.of("error", String.valueOf(e.getMessage()))));
+                });
+
+            } finally {
+                source.close();
+            }
+        });
+
+        return true;
+    }
+
+    // 💬 Memory still holds what the active backend had before the copy
+    private static void reloadPlayerData() {
+        WriteBehindFlusher.flushAllAndWait();
+        PlayerDifficultyStorage.getInstance().loadFromDisk();
+        CooldownTracker.loadFromDisk();
+        HologramManager.restoreAll();
+        PlayerRecordCache.reloadOnline();
+    }
+}
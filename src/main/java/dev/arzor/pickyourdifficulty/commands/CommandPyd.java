@@ -1,12 +1,14 @@
 // ╔════════════════════════════════════════════════════════════════════╗
 // ║                        🎮 CommandPyd.java                          ║
 // ║   Main handler for /pyd and all subcommands                        ║
-// ║   Routes to: gui, help, info, reload, reset, set, toggleholograms  ║
+// ║   Routes to: gui, help, info, migrate, reload, reset, set,         ║
+// ║   toggleholograms                                                  ║
 // ╚════════════════════════════════════════════════════════════════════╝
 
 package dev.arzor.pickyourdifficulty.commands;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 
 import org.bukkit.command.Command;
@@ -27,7 +29,7 @@ public class CommandPyd implements CommandExecutor {
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
         // 📦 Debug: Show the base command and first argument
-        PickYourDifficulty.debug("/pyd invoked by: " + sender.getName() + " | args=" + String.join(" ", args));
+        PickYourDifficulty.debug(() -> "/pyd invoked by: " + sender.getName() + " | args=" + String.join(" ", args));
 
         // ╔═══🧭 /pyd or /pyd gui — open difficulty GUI══════════════════════════════════════════════════════╗
         // If no argument is passed or the argument is "gui", open the GUI
@@ -50,6 +52,13 @@ public class CommandPyd implements CommandExecutor {
             return new CommandInfo().onCommand(sender, command, label, args);
         }
 
+        // ╔═══🚚 /pyd migrate <backend> — copy stored data between backends═════════════════════════════════╗
+        // Copies player data from another storage backend into the active one
+        if (args[0].equalsIgnoreCase("migrate")) {
+            PickYourDifficulty.debug("Routing to: CommandMigrate");
+            return new CommandMigrate().onCommand(sender, command, label, args);
+        }
+
         // ╔═══🔄 /pyd reload — reload plugin settings═══════════════════════════════════════════════════════╗
         // Reloads the plugin’s configuration and resets internal caches
         if (args[0].equalsIgnoreCase("reload")) {
@@ -80,8 +89,8 @@ public class CommandPyd implements CommandExecutor {
 
         // ╔═══❓ Unknown subcommand — show error═════════════════════════════════════════════════════════════╗
         // Unrecognized subcommand — show a friendly error message
-        PickYourDifficulty.debug("Unknown subcommand: " + args[0]);
-        sender.sendMessage(MessagesManager.format("pyd.unknown-subcommand"));
+        PickYourDifficulty.debug(() -> "Unknown subcommand: " + args[0]);
+        sender.sendMessage(MessagesManager.format(MessageKey.PYD_UNKNOWN_SUBCOMMAND));
         return true;
     }
 }
\ No newline at end of file
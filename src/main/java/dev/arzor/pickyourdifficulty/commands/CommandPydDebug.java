@@ -11,7 +11,11 @@ package dev.arzor.pickyourdifficulty.commands;
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.*;
 import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.storage.StorageManager;
+import dev.arzor.pickyourdifficulty.storage.WriteBehindFlusher;
+import dev.arzor.pickyourdifficulty.utils.LruCache;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
+import dev.arzor.pickyourdifficulty.utils.TextUtil;
 import dev.arzor.pickyourdifficulty.utils.TimeFormatUtil;
 
 import net.kyori.adventure.text.Component;
@@ -52,12 +56,12 @@ public class CommandPydDebug implements CommandExecutor {
     @Override
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
-        PickYourDifficulty.debug("Executing /pyddebug by: " + sender.getName() + " with args: " + Arrays.toString(args));
+        PickYourDifficulty.debug(() -> "Executing /pyddebug by: " + sender.getName() + " with args: " + Arrays.toString(args));
 
         // 💬 Admin-only: Make sure the sender has permission to view debug info
         if (!PermissionUtil.isAdmin(sender)) {
-            PickYourDifficulty.debug("Denied access to /pyddebug for: " + sender.getName());
-            sender.sendMessage(MessagesManager.format("debug.no-permission"));
+            PickYourDifficulty.debug(() -> "Denied access to /pyddebug for: " + sender.getName());
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_NO_PERMISSION));
             return true;
         }
 
@@ -74,15 +78,15 @@ public class CommandPydDebug implements CommandExecutor {
                 if (args[0].equalsIgnoreCase("players")) {
                     onlyPlayersFlat = true;
                     playersPage = page;
-                    PickYourDifficulty.debug("Parsed player debug page: " + page);
+                    PickYourDifficulty.debug(() -> "Parsed player debug page: " + page);
                 } else if (args[0].equalsIgnoreCase("stored")) {
                     onlyStored = true;
                     storedPage = page;
-                    PickYourDifficulty.debug("Parsed stored debug page: " + page);
+                    PickYourDifficulty.debug(() -> "Parsed stored debug page: " + page);
                 }
             } catch (NumberFormatException e) {
-                PickYourDifficulty.debug("Invalid page number: " + args[1]);
-                sender.sendMessage(MessagesManager.format("debug.invalid-page"));
+                PickYourDifficulty.debug(() -> "Invalid page number: " + args[1]);
+                sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_INVALID_PAGE));
                 return true;
             }
         }
@@ -90,15 +94,31 @@ public class CommandPydDebug implements CommandExecutor {
         // ╔═══🌐 General plugin info═══════════════════════════════════════════════════════════════════════════╗
         if (!onlyPlayersFlat && !onlyStored) {
             PickYourDifficulty.debug("Displaying general plugin info");
-            sender.sendMessage(MessagesManager.format("debug.prefix"));
-            sender.sendMessage(MessagesManager.format("debug.online-players", Map.of("count", String.valueOf(Bukkit.getOnlinePlayers().size()))));
-            sender.sendMessage(MessagesManager.format("debug.fallback", Map.of("difficulty", ConfigManager.getFallbackDifficulty())));
-            sender.sendMessage(MessagesManager.format("debug.dev-mode", Map.of("state", ConfigManager.devModeAlwaysShow() ? "<green>Enabled" : "<red>Disabled")));
-            sender.sendMessage(MessagesManager.format("debug.switching", Map.of("state", ConfigManager.allowDifficultyChange() ? "<green>Yes" : "<red>No")));
-            sender.sendMessage(MessagesManager.format("debug.holograms", Map.of("state", ConfigManager.hologramsEnabled() ? "<green>Yes" : "<red>No")));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_PREFIX));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_ONLINE_PLAYERS, Map.of("count", String.valueOf(Bukkit.getOnlinePlayers().size()))));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_FALLBACK, Map.of("difficulty", ConfigManager.getFallbackDifficulty())));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_DEV_MODE, Map.of("state", ConfigManager.devModeAlwaysShow() ? "<green>Enabled" : "<red>Disabled")));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_SWITCHING, Map.of("state", ConfigManager.allowDifficultyChange() ? "<green>Yes" : "<red>No")));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_HOLOGRAMS, Map.of("state", ConfigManager.hologramsEnabled() ? "<green>Yes" : "<red>No")));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_LOG_FILE, Map.of(
+                    "state", DebugLogManager.isFileSinkActive() ? "<green>Active" : "<gray>Off",
+                    "written", String.valueOf(DebugLogManager.getWrittenCount()),
+                    "dropped", String.valueOf(DebugLogManager.getDroppedCount())
+            )));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_STORAGE_FLUSH, Map.of(
+                    "backend", StorageManager.getBackend().getName(),
+                    "syncs", String.valueOf(WriteBehindFlusher.getSyncCount()),
+                    "compactions", String.valueOf(WriteBehindFlusher.getCompactionCount()),
+                    "failed", String.valueOf(WriteBehindFlusher.getFailedWrites()),
+                    "pending", String.valueOf(WriteBehindFlusher.getPendingRecordCount()),
+                    "journal", String.valueOf(WriteBehindFlusher.getPendingLogBytes()),
+                    "last", formatMillis(WriteBehindFlusher.getLastLatencyNanos()),
+                    "max", formatMillis(WriteBehindFlusher.getMaxLatencyNanos()),
+                    "bytes", String.valueOf(WriteBehindFlusher.getBytesWritten())
+            )));
 
             // 🔌 Show plugin hook status
-            sender.sendMessage(MessagesManager.format("debug.hooks-header"));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_HOOKS_HEADER));
             checkPlugin(sender, "PlaceholderAPI", ConfigManager.enablePlaceholderAPI());
             checkPlugin(sender, "AcceptTheRules", ConfigManager.enableAcceptTheRules());
             checkPlugin(sender, "Geyser", ConfigManager.enableGeyserSupport());
@@ -110,8 +130,9 @@ public class CommandPydDebug implements CommandExecutor {
         if (!onlyStored) {
             List<Player> allPlayers = new ArrayList<>(Bukkit.getOnlinePlayers());
             allPlayers.sort(Comparator.comparing(Player::getName));
-            PickYourDifficulty.debug("Displaying online players: " + allPlayers.size() + " total, page " + playersPage);
-            paginatePlayerList(sender, allPlayers, ConfigManager.getDebugOnlinePlayersPerPage(), playersPage);
+            int page = playersPage;
+            PickYourDifficulty.debug(() -> "Displaying online players: " + allPlayers.size() + " total, page " + page);
+            paginatePlayerList(sender, allPlayers, ConfigManager.getDebugOnlinePlayersPerPage(), page);
         }
 
         // ╔═══📦 Stored difficulty data (paginated)═══════════════════════════════════════════════════════════╗
@@ -122,46 +143,59 @@ public class CommandPydDebug implements CommandExecutor {
                 OfflinePlayer p = Bukkit.getOfflinePlayer(entry.getKey());
                 return p.getName() != null ? p.getName() : "~";
             }));
-            PickYourDifficulty.debug("Displaying stored players: " + storedList.size() + " total, page " + storedPage);
-            paginateStoredList(sender, storedList, ConfigManager.getDebugStoredDifficultyPerPage(), storedPage);
+            int page = storedPage;
+            PickYourDifficulty.debug(() -> "Displaying stored players: " + storedList.size() + " total, page " + page);
+            paginateStoredList(sender, storedList, ConfigManager.getDebugStoredDifficultyPerPage(), page);
         }
 
         // ╔═══👁️ Hologram visibility summary══════════════════════════════════════════════════════════════════╗
         if (!onlyPlayersFlat && !onlyStored && ConfigManager.hologramsEnabled()) {
             PickYourDifficulty.debug("Displaying hologram visibility summary");
-            sender.sendMessage(MessagesManager.format("debug.holograms-hidden", Map.of("count", String.valueOf(HologramManager.getHiddenPlayers().size()))));
-            sender.sendMessage(MessagesManager.format("debug.holograms-active", Map.of("count", String.valueOf(HologramManager.getHologramMap().size()))));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_HOLOGRAMS_HIDDEN, Map.of("count", String.valueOf(HologramManager.getHiddenPlayers().size()))));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_HOLOGRAMS_ACTIVE, Map.of("count", String.valueOf(HologramManager.getHologramMap().size()))));
         }
 
         // ╔═══♻️ Reloadable class summary═════════════════════════════════════════════════════════════════════╗
         if (!onlyPlayersFlat && !onlyStored) {
             PickYourDifficulty.debug("Listing reloadable class implementations");
-            sender.sendMessage(MessagesManager.format("debug.reloadables-header"));
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_RELOADABLES_HEADER));
             for (var reloadable : ReloadManager.getReloadables()) {
-                sender.sendMessage(MessagesManager.format("debug.reloadables-entry", Map.of(
+                sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_RELOADABLES_ENTRY, Map.of(
                         "class", reloadable.getClass().getSimpleName()
                 )));
             }
         }
 
+        // ╔═══🗂️ Cache statistics═════════════════════════════════════════════════════════════════════════════╗
+        if (!onlyPlayersFlat && !onlyStored) {
+            PickYourDifficulty.debug("Displaying cache statistics");
+            sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_CACHES_HEADER));
+
+            GUIManager gui = GUIManager.getInstance();
+            sendCacheLine(sender, "GUI layouts", gui.getCachedLayoutCount(), gui.getLayoutCacheHits(), gui.getLayoutCacheMisses());
+            for (LruCache<?, ?> cache : TextUtil.getCaches()) {
+                sendCacheLine(sender, cache.getName(), cache.size(), cache.getHits(), cache.getMisses());
+            }
+        }
+
         return true;
     }
 
     // ─────────────────────────────────────────────────────────────
     // 🧠 Online Players Pagination
     // ─────────────────────────────────────────────────────────────
-    private void paginatePlayerList(CommandSender sender, List<Player> players, int perPage, int page) {
+    private void paginatePlayerList(CommandSender sender, List<Player> players, int perPage, int requestedPage) {
         sender.sendMessage(Component.text("🧠 Online Player Data:", NamedTextColor.GOLD));
 
         // 🧮 Calculate total number of pages
         int totalPages = Math.max(1, (int) Math.ceil(players.size() / (double) perPage));
-        PickYourDifficulty.debug("Paginating online players — page " + page + "/" + totalPages + ", perPage=" + perPage);
+        PickYourDifficulty.debug(() -> "Paginating online players — page " + requestedPage + "/" + totalPages + ", perPage=" + perPage);
 
         // 🧮 Clamp current page between 1 and totalPages
-        page = Math.min(page, totalPages);
+        int page = Math.min(requestedPage, totalPages);
         int start = (page - 1) * perPage;
         int end = Math.min(start + perPage, players.size());
-        PickYourDifficulty.debug("Displaying players[" + start + " → " + end + "]");
+        PickYourDifficulty.debug(() -> "Displaying players[" + start + " → " + end + "]");
 
         // 💬 Show each player on current page
         for (Player player : players.subList(start, end)) {
@@ -204,9 +238,9 @@ public class CommandPydDebug implements CommandExecutor {
             // If graceTotal is 0 (e.g. Hardcore), default to 100% (1.0) to avoid divide-by-zero.
             double percentLeft = graceTotal > 0 ? (graceRemaining / (double) graceTotal) : 1.0;
 
-            PickYourDifficulty.debug("→ " + player.getName() + " [" + difficulty + "] — graceRemaining=" + graceRemaining + "s (" + (int)(percentLeft * 100) + "%), despawn=" + despawn + "s");
+            PickYourDifficulty.debug(() -> "→ " + player.getName() + " [" + difficulty + "] — graceRemaining=" + graceRemaining + "s (" + (int)(percentLeft * 100) + "%), despawn=" + despawn + "s");
 
-            Component line = MessagesManager.format("debug.player-line", Map.of(
+            Component line = MessagesManager.format(MessageKey.DEBUG_PLAYER_LINE, Map.of(
                     "player", player.getName(),
                     "difficulty", difficulty,
                     "grace", formattedGrace,
@@ -220,40 +254,67 @@ public class CommandPydDebug implements CommandExecutor {
 
         // 💬 Navigation bar
         if (totalPages > 1) {
-            PickYourDifficulty.debug("Building navigation bar for players (" + totalPages + " pages total)");
+            PickYourDifficulty.debug(() -> "Building navigation bar for players (" + totalPages + " pages total)");
             sender.sendMessage(buildPageNavigation("🧠 Online Player Data", "players", page, totalPages));
         }
 
         // 💬 Difficulty jump links
         Set<String> difficulties = new TreeSet<>();
         for (Player p : players) difficulties.add(difficultyStorage.getDifficulty(p));
-        PickYourDifficulty.debug("Built difficulty jump line: " + difficulties);
+        PickYourDifficulty.debug(() -> "Built difficulty jump line: " + difficulties);
         sender.sendMessage(buildDifficultyJumpLine(difficulties, "players"));
     }
 
+    // ─────────────────────────────────────────────────────────────
+    // ⏱️ Flush Latency Formatting
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Nanoseconds → "1.25" (milliseconds, two decimals)
+    private String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🗂️ Cache Stat Line
+    // ─────────────────────────────────────────────────────────────
+    private void sendCacheLine(CommandSender sender, String name, int size, long hits, long misses) {
+
+        // 🧮 Hit rate = hits / lookups (0% before the first lookup)
+        long lookups = hits + misses;
+        String rate = lookups == 0 ? "0%" : String.format(Locale.ROOT, "%.1f%%", hits * 100.0 / lookups);
+
+        sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_CACHE_LINE, Map.of(
+                "name", name,
+                "size", String.valueOf(size),
+                "hits", String.valueOf(hits),
+                "misses", String.valueOf(misses),
+                "rate", rate
+        )));
+    }
+
     // ─────────────────────────────────────────────────────────────
     // 📦 Stored Data Pagination
     // ─────────────────────────────────────────────────────────────
-    private void paginateStoredList(CommandSender sender, List<Map.Entry<UUID, String>> stored, int perPage, int page) {
+    private void paginateStoredList(CommandSender sender, List<Map.Entry<UUID, String>> stored, int perPage, int requestedPage) {
 
         // 💬 Header: Show total number of stored players
-        sender.sendMessage(MessagesManager.format("debug.stored-header", Map.of("count", String.valueOf(stored.size()))));
+        sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_STORED_HEADER, Map.of("count", String.valueOf(stored.size()))));
 
         // 🧮 Calculate total number of pages needed
         // totalPages = ceil(stored.size / perPage)
         // Always at least 1 page, even if there are 0 entries.
         int totalPages = Math.max(1, (int) Math.ceil(stored.size() / (double) perPage));
-        PickYourDifficulty.debug("Paginating stored players — page " + page + "/" + totalPages + ", perPage=" + perPage);
+        PickYourDifficulty.debug(() -> "Paginating stored players — page " + requestedPage + "/" + totalPages + ", perPage=" + perPage);
 
         // 🧮 Clamp page number to be within range (1 to totalPages)
-        page = Math.min(page, totalPages);
+        int page = Math.min(requestedPage, totalPages);
 
         // 🧮 Determine which slice of entries to show
         // start = (page - 1) * perPage
         // end = min(start + perPage, total)
         int start = (page - 1) * perPage;
         int end = Math.min(start + perPage, stored.size());
-        PickYourDifficulty.debug("Displaying stored[" + start + " → " + end + "]");
+        PickYourDifficulty.debug(() -> "Displaying stored[" + start + " → " + end + "]");
 
         // 💬 Show each stored entry in this page
         for (Map.Entry<UUID, String> entry : stored.subList(start, end)) {
@@ -265,10 +326,10 @@ public class CommandPydDebug implements CommandExecutor {
             // 💬 Get config values for this difficulty
             int grace = ConfigManager.getGraceTime(entry.getValue());
             int despawn = ConfigManager.getDespawnTime(entry.getValue());
-            PickYourDifficulty.debug("→ " + name + " [" + entry.getValue() + "] — grace=" + grace + "s, despawn=" + despawn + "s");
+            PickYourDifficulty.debug(() -> "→ " + name + " [" + entry.getValue() + "] — grace=" + grace + "s, despawn=" + despawn + "s");
 
             // 💬 Format stored line with hover showing UUID
-            Component line = MessagesManager.format("debug.stored-line", Map.of(
+            Component line = MessagesManager.format(MessageKey.DEBUG_STORED_LINE, Map.of(
                     "player", name,
                     "difficulty", entry.getValue(),
                     "grace", String.valueOf(grace),
@@ -279,7 +340,7 @@ public class CommandPydDebug implements CommandExecutor {
 
         // 💬 Add page navigation if there's more than 1 page
         if (totalPages > 1) {
-            PickYourDifficulty.debug("Building navigation bar for stored entries (" + totalPages + " pages total)");
+            PickYourDifficulty.debug(() -> "Building navigation bar for stored entries (" + totalPages + " pages total)");
             sender.sendMessage(buildPageNavigation("📦 Stored Difficulty Data", "stored", page, totalPages));
         }
 
@@ -289,7 +350,7 @@ public class CommandPydDebug implements CommandExecutor {
             difficulties.add(entry.getValue());
         }
 
-        PickYourDifficulty.debug("Built difficulty jump line: " + difficulties);
+        PickYourDifficulty.debug(() -> "Built difficulty jump line: " + difficulties);
         sender.sendMessage(buildDifficultyJumpLine(difficulties, "stored"));
     }
 
@@ -369,7 +430,7 @@ public class CommandPydDebug implements CommandExecutor {
                 : (expected ? "<red>Missing ❌" : "<gray>Not required");
 
         // 💬 Send the plugin status line using the configured format
-        sender.sendMessage(MessagesManager.format("debug.hook-line", Map.of(
+        sender.sendMessage(MessagesManager.format(MessageKey.DEBUG_HOOK_LINE, Map.of(
                 "plugin", plugin,
                 "status", status
         )));
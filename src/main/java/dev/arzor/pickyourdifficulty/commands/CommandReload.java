@@ -8,13 +8,12 @@ package dev.arzor.pickyourdifficulty.commands;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 import dev.arzor.pickyourdifficulty.managers.ReloadManager;
 import dev.arzor.pickyourdifficulty.storage.GraceReminderTracker;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
 
-import net.kyori.adventure.text.minimessage.MiniMessage;
-
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -26,13 +25,6 @@ import javax.annotation.Nonnull;
 // ─────────────────────────────────────────────────────────────
 public class CommandReload implements CommandExecutor {
 
-    // ─────────────────────────────────────────────────────────────
-    // 🧰 Utilities
-    // ─────────────────────────────────────────────────────────────
-
-    // 💬 MiniMessage instance for formatting colored output
-    private final MiniMessage mm = MiniMessage.miniMessage();
-
     // ─────────────────────────────────────────────────────────────
     // ⚙️ Command Execution
     // ─────────────────────────────────────────────────────────────
@@ -40,15 +32,15 @@ public class CommandReload implements CommandExecutor {
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
         // 📦 Debug: Toggle command triggered
-        PickYourDifficulty.debug("/pyd reload invoked by: " + sender.getName());
+        PickYourDifficulty.debug(() -> "/pyd reload invoked by: " + sender.getName());
 
         // ╔═══🔐 Permission Check═════════════════════════════════════╗
         // Only allow access if permission enforcement is enabled AND sender has permission
         if (ConfigManager.requireCommandPermissions() && !PermissionUtil.hasReloadPermission(sender)) {
-            PickYourDifficulty.debug(sender.getName() + " attempted to reload without permission.");
+            PickYourDifficulty.debug(() -> sender.getName() + " attempted to reload without permission.");
 
             // 🚫 Inform sender they don't have permission to use this command
-            sender.sendMessage(mm.deserialize(MessagesManager.get("error.no-permission")));
+            sender.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION));
             return true;
         }
 
@@ -79,7 +71,7 @@ public class CommandReload implements CommandExecutor {
 
         // 💬 Let the sender know the reload succeeded
         PickYourDifficulty.debug("Reload completed successfully — notifying sender.");
-        sender.sendMessage(MessagesManager.get("command.reload-success"));
+        sender.sendMessage(MessagesManager.format(MessageKey.COMMAND_RELOAD_SUCCESS));
 
         return true;
     }
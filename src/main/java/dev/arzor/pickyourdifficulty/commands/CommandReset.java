@@ -8,13 +8,13 @@ package dev.arzor.pickyourdifficulty.commands;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 import dev.arzor.pickyourdifficulty.storage.CooldownTracker;
 import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.storage.PlayerRecordCache;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
 
-import net.kyori.adventure.text.minimessage.MiniMessage;
-
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
@@ -29,13 +29,6 @@ import java.util.UUID;
 // ─────────────────────────────────────────────────────────────
 public class CommandReset implements CommandExecutor {
 
-    // ─────────────────────────────────────────────────────────────
-    // 🧰 Utilities
-    // ─────────────────────────────────────────────────────────────
-
-    // 💬 MiniMessage formatter for sending formatted colored messages
-    private final MiniMessage mm = MiniMessage.miniMessage();
-
     // ─────────────────────────────────────────────────────────────
     // ⚙️ Command Execution
     // ─────────────────────────────────────────────────────────────
@@ -43,15 +36,15 @@ public class CommandReset implements CommandExecutor {
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
         // 📦 Debug: Toggle command triggered
-        PickYourDifficulty.debug("/pyd reset invoked by: " + sender.getName());
+        PickYourDifficulty.debug(() -> "/pyd reset invoked by: " + sender.getName());
 
         // ╔═══🔐 Permission Check═════════════════════════════════════╗
         // Only allow access if permission enforcement is enabled AND sender has permission
         if (ConfigManager.requireCommandPermissions() && !PermissionUtil.hasResetPermission(sender)) {
-            PickYourDifficulty.debug(sender.getName() + " attempted to run /pyd reset without permission.");
+            PickYourDifficulty.debug(() -> sender.getName() + " attempted to run /pyd reset without permission.");
 
             // 🚫 Inform sender they don't have permission to use this command
-            sender.sendMessage(mm.deserialize(MessagesManager.get("error.no-permission-reset")));
+            sender.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION_RESET));
             return true;
         }
 
@@ -60,7 +53,7 @@ public class CommandReset implements CommandExecutor {
         // 💬 Must specify a player name (e.g., /pyd reset ArZor)
         if (args.length < 2) {
             PickYourDifficulty.debug("Missing player argument for /pyd reset. Showing usage.");
-            sender.sendMessage(mm.deserialize(MessagesManager.get("reset.usage")));
+            sender.sendMessage(MessagesManager.format(MessageKey.RESET_USAGE));
             return true;
         }
 
@@ -71,20 +64,44 @@ public class CommandReset implements CommandExecutor {
         OfflinePlayer target = Bukkit.getOfflinePlayer(targetName);
         UUID targetUUID = target.getUniqueId();
 
-        PickYourDifficulty.debug(sender.getName() + " is attempting to reset player: " + targetName + " (" + targetUUID + ")");
+        PickYourDifficulty.debug(() -> sender.getName() + " is attempting to reset player: " + targetName + " (" + targetUUID + ")");
+
+        // 💤 Offline player not in memory (lazy loading) — fetch their record first
+        if (!PlayerRecordCache.isLoaded(targetUUID)) {
+            PickYourDifficulty.debug(() -> "Player " + targetName + " is not loaded — fetching stored data before reset.");
+            PlayerRecordCache.loadAsync(targetUUID).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    sender.sendMessage(MessagesManager.format(MessageKey.ERROR_PLAYER_DATA_UNAVAILABLE,
+                            MessagesManager.placeholder("player", targetName)));
+                    return;
+                }
+                reset(sender, target, targetName);
+            });
+            return true;
+        }
+
+        reset(sender, target, targetName);
+        return true;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧹 Reset — Target's data is in memory by now
+    // ─────────────────────────────────────────────────────────────
+    private static void reset(CommandSender sender, OfflinePlayer target, String targetName) {
+        UUID targetUUID = target.getUniqueId();
 
         // ❓ Check if this player has selected a difficulty before
         if (!PlayerDifficultyStorage.getInstance().hasSelected(targetUUID)) {
-            PickYourDifficulty.debug("Reset aborted — player " + targetName + " has no selected difficulty.");
-            sender.sendMessage(MessagesManager.format("admin.no-difficulty"));
-            return true;
+            PickYourDifficulty.debug(() -> "Reset aborted — player " + targetName + " has no selected difficulty.");
+            sender.sendMessage(MessagesManager.format(MessageKey.ADMIN_NO_DIFFICULTY));
+            return;
         }
 
         // ╔═══🧹 Clear Difficulty + Cooldown═════════════════════════════════════════════════════════════════╗
 
         // 👤 If the player is online, try clearing their difficulty using the Player object
         if (target.isOnline()) {
-            PickYourDifficulty.debug("Player " + targetName + " is online — clearing live difficulty.");
+            PickYourDifficulty.debug(() -> "Player " + targetName + " is online — clearing live difficulty.");
             if (target.getPlayer() != null) {
                 PlayerDifficultyStorage.getInstance().clearDifficulty(target.getPlayer());
             } else {
@@ -94,21 +111,19 @@ public class CommandReset implements CommandExecutor {
             }
         } else {
             // 🌐 Player is offline — clear using UUID-based storage
-            PickYourDifficulty.debug("Player " + targetName + " is offline — clearing by UUID.");
+            PickYourDifficulty.debug(() -> "Player " + targetName + " is offline — clearing by UUID.");
             PlayerDifficultyStorage.getInstance().clearDifficulty(targetUUID);
         }
 
         // ⏱️ Also clear their cooldown if one exists
-        PickYourDifficulty.debug("Clearing cooldown for player: " + targetName);
+        PickYourDifficulty.debug(() -> "Clearing cooldown for player: " + targetName);
         CooldownTracker.clearCooldown(targetUUID);
 
         // ╔═══✅ Confirmation Message════════════════════════════════════════════════════════════════════════╗
 
         // 📣 Inform the sender that the reset was successful
-        PickYourDifficulty.debug("Reset complete for player: " + targetName);
-        sender.sendMessage(mm.deserialize(MessagesManager.get("reset.success")
-                .replace("<player>", target.getName() != null ? target.getName() : targetUUID.toString())));
-
-        return true;
+        PickYourDifficulty.debug(() -> "Reset complete for player: " + targetName);
+        sender.sendMessage(MessagesManager.format(MessageKey.RESET_SUCCESS,
+                MessagesManager.placeholder("player", target.getName() != null ? target.getName() : targetUUID.toString())));
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ package dev.arzor.pickyourdifficulty.commands;
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
 import dev.arzor.pickyourdifficulty.managers.HologramManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
 
@@ -26,13 +27,6 @@ import javax.annotation.Nonnull;
 // ─────────────────────────────────────────────────────────────
 public class CommandToggleHolograms implements CommandExecutor {
 
-    // ─────────────────────────────────────────────────────────────
-    // 📦 Utilities
-    // ─────────────────────────────────────────────────────────────
-
-    // 💬 MiniMessage parser for deserializing text from messages.yml
-    private final MiniMessage mm = MiniMessage.miniMessage();
-
     // ─────────────────────────────────────────────────────────────
     // ⚙️ Command Execution
     // ─────────────────────────────────────────────────────────────
@@ -40,23 +34,23 @@ public class CommandToggleHolograms implements CommandExecutor {
     public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label, @Nonnull String[] args) {
 
         // 📦 Debug: Toggle command triggered
-        PickYourDifficulty.debug("/pyd toggleholograms invoked by: " + sender.getName());
+        PickYourDifficulty.debug(() -> "/pyd toggleholograms invoked by: " + sender.getName());
 
         // ╔═══🚫 Must Be Player═══════════════════════════════════════╗
         // This command cannot be used from console or command blocks
         if (!(sender instanceof Player player)) {
             PickYourDifficulty.debug("Blocked /pyd toggleholograms — sender is not a player.");
-            sender.sendMessage(mm.deserialize(MessagesManager.get("toggle.players-only")));
+            sender.sendMessage(MessagesManager.format(MessageKey.TOGGLE_PLAYERS_ONLY));
             return true;
         }
 
         // ╔═══🔐 Permission Check═════════════════════════════════════╗
         // Only allow access if permission enforcement is enabled AND player has permission
         if (ConfigManager.requireCommandPermissions() && !PermissionUtil.hasHologramTogglePermission(player)) {
-            PickYourDifficulty.debug("Blocked /pyd toggleholograms — " + player.getName() + " lacks permission.");
+            PickYourDifficulty.debug(() -> "Blocked /pyd toggleholograms — " + player.getName() + " lacks permission.");
 
             // 🚫 Inform sender they don't have permission to use this command
-            player.sendMessage(mm.deserialize(MessagesManager.get("toggle.no-permission")));
+            player.sendMessage(MessagesManager.format(MessageKey.TOGGLE_NO_PERMISSION));
             return true;
         }
 
@@ -64,13 +58,13 @@ public class CommandToggleHolograms implements CommandExecutor {
 
         // 🔄 Flip visibility for this player
         boolean nowHidden = HologramManager.toggleHidden(player);
-        PickYourDifficulty.debug("Toggled hologram visibility for " + player.getName() + " → nowHidden = " + nowHidden);
+        PickYourDifficulty.debug(() -> "Toggled hologram visibility for " + player.getName() + " → nowHidden = " + nowHidden);
 
         // 📩 Determine which message to show
-        String messageKey = nowHidden ? "toggle.success-off" : "toggle.success-on";
+        MessageKey messageKey = nowHidden ? MessageKey.TOGGLE_SUCCESS_OFF : MessageKey.TOGGLE_SUCCESS_ON;
 
         // 📨 Send updated status message
-        player.sendMessage(mm.deserialize(MessagesManager.get(messageKey)));
+        player.sendMessage(MessagesManager.format(messageKey));
 
         return true;
     }
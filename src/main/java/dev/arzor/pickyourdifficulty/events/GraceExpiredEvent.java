@@ -0,0 +1,51 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                    ⌛ GraceExpiredEvent.java                        ║
+// ║   Fired once when an online player's grace period runs out.        ║
+// ║   Other components (and other plugins) can react to the change.    ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.events;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+// ─────────────────────────────────────────────────────────────
+// ⌛ GraceExpiredEvent — Protected → unprotected transition
+// ─────────────────────────────────────────────────────────────
+// 💬 Only fired for a transition observed while the player is online.
+//    Players whose grace was already used up when they joined do not get one.
+// 💬 Always called on the main thread.
+public class GraceExpiredEvent extends PlayerEvent {
+
+    private static final HandlerList handlers = new HandlerList();
+
+    private final String difficulty;
+    private final int graceSeconds;
+
+    public GraceExpiredEvent(@NotNull Player player, String difficulty, int graceSeconds) {
+        super(player);
+        this.difficulty = difficulty;
+        this.graceSeconds = graceSeconds;
+    }
+
+    // 💬 Difficulty the grace period belonged to
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    // 💬 Configured grace length for that difficulty
+    public int getGraceSeconds() {
+        return graceSeconds;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return handlers;
+    }
+
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
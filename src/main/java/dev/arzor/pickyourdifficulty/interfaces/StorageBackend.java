@@ -0,0 +1,157 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                     🗄️ StorageBackend.java                         ║
+// ║   Interface for where persistent player data lives (YAML, SQLite)  ║
+// ║   Used by PlayerDifficultyStorage, CooldownTracker, holograms      ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.interfaces;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// ─────────────────────────────────────────────────────────────
+// 🧩 StorageBackend Interface
+// ─────────────────────────────────────────────────────────────
+// Every data set is a UUID → string mapping (difficulty key, epoch
+// seconds, expiry millis, true/false). Implementations decide how it is
+// laid out on disk.
+//
+// Reads (load / get / page) are used on the main thread at enable and
+// reload. Writes go through WriteBehindFlusher, which calls apply() with
+// batches of changes on its writer thread. Implementations must be safe
+// to call from both.
+
+public interface StorageBackend {
+
+    // ╔═══🗂️ DataSet — What is stored═════════════════════════════════════════════╗
+    // fileName → the YAML file the set has always lived in
+    // code     → one-letter tag used in the change journal
+
+    enum DataSet {
+        DIFFICULTIES("playerdata.yml", 'D'),       // player → difficulty key
+        COOLDOWNS("cooldowns.yml", 'C'),           // player → epoch seconds of last change
+        HOLOGRAMS("holograms.yml", 'H'),           // item   → despawn time (epoch millis)
+        HOLOGRAM_TOGGLES("holograms_toggles.yml", 'T'); // player → holograms hidden (true/false)
+
+        private final String fileName;
+        private final char code;
+
+        DataSet(String fileName, char code) {
+            this.fileName = fileName;
+            this.code = code;
+        }
+
+        public String fileName() {
+            return fileName;
+        }
+
+        public char code() {
+            return code;
+        }
+
+        public static DataSet fromCode(char code) {
+            for (DataSet set : values()) {
+                if (set.code == code) return set;
+            }
+            return null;
+        }
+    }
+
+    // ╔═══✏️ Change — One write═════════════════════════════════════════════════════╗
+    // value == null → delete uuid; uuid == null → clear the whole set
+
+    record Change(DataSet set, UUID uuid, String value) {
+
+        public static Change put(DataSet set, UUID uuid, String value) {
+            return new Change(set, uuid, value);
+        }
+
+        public static Change delete(DataSet set, UUID uuid) {
+            return new Change(set, uuid, null);
+        }
+
+        public static Change clear(DataSet set) {
+            return new Change(set, null, null);
+        }
+
+        public boolean isClear() {
+            return uuid == null;
+        }
+
+        public boolean isDelete() {
+            return uuid != null && value == null;
+        }
+    }
+
+    // ╔═══🏷️ getName() — "yaml", "sqlite" (config value + /pyddebug)═══════════════╗
+    String getName();
+
+    // ╔═══🔌 Lifecycle════════════════════════════════════════════════════════════╗
+    void open() throws IOException;
+
+    void close();
+
+    // ╔═══📥 Reads════════════════════════════════════════════════════════════════╗
+
+    // Every entry in a set
+    Map<UUID, String> loadAll(DataSet set) throws IOException;
+
+    // Single entry (null if absent)
+    String get(DataSet set, UUID uuid) throws IOException;
+
+    // Up to limit entries ordered by UUID string, starting after `after`
+    // (null = from the start). An empty result means the set is exhausted.
+    Map<UUID, String> page(DataSet set, UUID after, int limit) throws IOException;
+
+    // Visits every entry in pages of up to pageSize, in UUID string order
+    default void forEachPage(DataSet set, int pageSize, PageHandler handler) throws IOException {
+        UUID after = null;
+        while (true) {
+            Map<UUID, String> page = page(set, after, pageSize);
+            if (page.isEmpty()) return;
+
+            handler.accept(page);
+            for (UUID uuid : page.keySet()) after = uuid;
+        }
+    }
+
+    @FunctionalInterface
+    interface PageHandler {
+        void accept(Map<UUID, String> page) throws IOException;
+    }
+
+    // ╔═══✍️ Writes═══════════════════════════════════════════════════════════════╗
+
+    // Applies changes in order as one batch (one transaction / one fsync).
+    // Returns the number of bytes appended, or 0 if the backend can't tell.
+    long apply(List<Change> changes) throws IOException;
+
+    default void upsert(DataSet set, Map<UUID, String> entries) throws IOException {
+        List<Change> changes = new ArrayList<>(entries.size());
+        entries.forEach((uuid, value) -> changes.add(Change.put(set, uuid, value)));
+        apply(changes);
+    }
+
+    default void delete(DataSet set, Collection<UUID> uuids) throws IOException {
+        List<Change> changes = new ArrayList<>(uuids.size());
+        uuids.forEach(uuid -> changes.add(Change.delete(set, uuid)));
+        apply(changes);
+    }
+
+    // ╔═══🧹 Compaction (append-only backends)═══════════════════════════════════╗
+    // Backends that write in place keep the defaults.
+
+    // Bytes of change log not yet folded into the main files
+    default long getPendingLogBytes() {
+        return 0L;
+    }
+
+    // Folds the change log into the main files. Returns bytes written.
+    default long compact() throws IOException {
+        return 0L;
+    }
+}
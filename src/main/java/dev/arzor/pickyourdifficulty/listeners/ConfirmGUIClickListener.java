@@ -8,19 +8,12 @@ package dev.arzor.pickyourdifficulty.listeners;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.*;
-import dev.arzor.pickyourdifficulty.utils.TextUtil;
 
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 // ─────────────────────────────────────────────────────────────
 // 🧩 ConfirmGUIClickListener — Confirms or cancels difficulty
@@ -33,26 +26,20 @@ import org.bukkit.inventory.meta.ItemMeta;
 //
 // 🎛️ It blocks sneaky shift-clicks and hotbar swaps.
 // 🧼 It ensures only the actual confirmation GUI is handled.
-// 🧠 It pulls data from GUIManager to know the pending selection.
+// 🧠 It reads the pending selection from the GUI's ConfirmationGUIHolder.
 public class ConfirmGUIClickListener implements Listener {
 
-    // 🧵 MiniMessage parser for GUI title and labels
-    private static final MiniMessage mm = MiniMessage.miniMessage();
-
-    // 🗃️ Access to GUI memory (stores selected difficulty per player)
-    private final GUIManager guiManager;
-
-    // 📦 Inject dependency
-    public ConfirmGUIClickListener(GUIManager guiManager) {
-        this.guiManager = guiManager;
-    }
-
     // ─────────────────────────────────────────────────────────────
     // 🖱️ Handle Clicks Inside Confirmation GUI
     // ─────────────────────────────────────────────────────────────
     @EventHandler
     public void onConfirmGUIClick(InventoryClickEvent event) {
 
+        // ╔═══🪪 Match GUI holder═══════════════════════════════════════════════════════════════════════════╗
+
+        // ⚡ Fast reject: only our confirmation GUI has a ConfirmationGUIHolder (no block-state snapshot)
+        if (!(event.getView().getTopInventory().getHolder(false) instanceof ConfirmationGUIHolder holder)) return;
+
         // ╔═══🧑 Must Be Player══════════════════════════════════════════════════════════════════════════════╗
 
         // 📦 Only players can trigger this — not console or entities
@@ -61,22 +48,6 @@ public class ConfirmGUIClickListener implements Listener {
         // 📦 Ignore cases where the clicked inventory is null (edge cases)
         if (event.getClickedInventory() == null) return;
 
-        // ╔═══🪪 Match GUI title════════════════════════════════════════════════════════════════════════════╗
-
-        // 🧠 Pull the expected GUI title from config and apply placeholder replacements
-        String rawTitle = ConfigManager.getConfirmationGuiTitle();
-        String expectedTitle = mm.deserialize(TextUtil.replacePlaceholders(rawTitle, player)).toString();
-
-        // 📋 Get the actual GUI title from the player's view
-        String actualTitle = event.getView().title().toString();
-
-        // 📦 Debug: Compare actual vs expected GUI titles
-        PickYourDifficulty.debug("Confirm GUI title check for " + player.getName() +
-                ": expected = " + expectedTitle + " | actual = " + actualTitle);
-
-        // 🚪 Exit early if this GUI is not the confirmation screen
-        if (!actualTitle.equals(expectedTitle)) return;
-
         // ╔═══⛔ Block interaction types════════════════════════════════════════════════════════════════════╗
 
         // 🛑 Cancel the event to prevent any item movement
@@ -88,85 +59,67 @@ public class ConfirmGUIClickListener implements Listener {
                 || event.getClick() == ClickType.CONTROL_DROP || event.getClick() == ClickType.DROP) {
 
             // 💬 Tell player this kind of click is blocked
-            PickYourDifficulty.debug("Blocked sneaky click type from " + player.getName() + ": " + event.getClick());
-            player.sendMessage(mm.deserialize(MessagesManager.get("error.gui-interact-blocked")));
+            PickYourDifficulty.debug(() -> "Blocked sneaky click type from " + player.getName() + ": " + event.getClick());
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_GUI_INTERACT_BLOCKED));
             SoundManager.playCancelSound(player);
             return;
         }
 
-        // ╔═══📦 Check clicked item═════════════════════════════════════════════════════════════════╗
-
-        // 🎯 Get the item they clicked
-        ItemStack clicked = event.getCurrentItem();
-        if (clicked == null || clicked.getType() == Material.AIR) return;
-
-        // 🧾 Ensure the item has metadata and a name
-        ItemMeta meta = clicked.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) return;
-
-        // 🏷️ Get the actual display name
-        Component actualName = meta.displayName();
-        if (actualName == null) return;
-
-        // ╔═══✅ Confirm Button Clicked═════════════════════════════════════════════════════════════════════╗
-
-        // 📋 Determine the correct confirm button text depending on lock-in status
-        Component confirmName = mm.deserialize(ConfigManager.lockInDifficulty()
-                ? ConfigManager.getLockedConfirmButtonName()
-                : ConfigManager.getConfirmButtonName());
+        // ╔═══🎯 Resolve clicked slot═══════════════════════════════════════════════════════════════════╗
 
-        // ✅ If they clicked the confirm button
-        if (confirmName.equals(actualName)) {
-            PickYourDifficulty.debug(player.getName() + " clicked Confirm button");
-
-            // 🧠 Retrieve their last selected difficulty from GUI memory
-            String selectedDifficulty = guiManager.getLastSelectedDifficulty(player);
-
-            // ❌ If for some reason it's null, show error
-            if (selectedDifficulty == null) {
-                PickYourDifficulty.debug("No difficulty selected for " + player.getName() + " — aborting.");
-                player.sendMessage(mm.deserialize(MessagesManager.get("error.no-selection-found")));
-                SoundManager.playCancelSound(player);
-                player.closeInventory();
-                return;
+        // 💬 Slot table comes from the compiled template — no display-name comparisons
+        switch (holder.getAction(event.getRawSlot())) {
+            case CONFIRM -> handleConfirm(player, holder);
+            case CANCEL -> {
+                // 🧯 Cancel the pending difficulty selection
+                PickYourDifficulty.debug(() -> player.getName() + " clicked Cancel button");
+                ConfirmationGUIManager.cancelSelection(player);
             }
+            default -> { } // 🧱 Filler, info banner or empty slot — nothing to do
+        }
+    }
 
-            // 🧼 Normalize to canonical key (e.g. easy → Easy)
-            String canonical = DifficultyManager.getCanonicalKey(selectedDifficulty.toLowerCase());
-
-            // ❌ Invalid or unrecognized difficulty key
-            if (canonical == null) {
-                PickYourDifficulty.debug("Invalid difficulty: " + selectedDifficulty);
-                player.sendMessage(mm.deserialize(MessagesManager.get("error.invalid-difficulty")));
-                SoundManager.playCancelSound(player);
-                player.closeInventory();
-                return;
-            }
+    // ─────────────────────────────────────────────────────────────
+    // ✅ handleConfirm — Validate and finalize the pending selection
+    // ─────────────────────────────────────────────────────────────
+    private void handleConfirm(Player player, ConfirmationGUIHolder holder) {
+        PickYourDifficulty.debug(() -> player.getName() + " clicked Confirm button");
 
-            // ⛔ If they don’t have permission for this difficulty, cancel
-            if (DifficultyManager.cannotSelect(player, canonical)) {
-                PickYourDifficulty.debug(player.getName() + " lacks permission for difficulty: " + canonical);
-                player.sendMessage(mm.deserialize(MessagesManager.get("error.no-permission")));
-                SoundManager.playCancelSound(player);
-                player.closeInventory();
-                return;
-            }
+        // 🧠 The holder knows exactly which difficulty this GUI was opened for
+        String selectedDifficulty = holder.getDifficulty();
 
-            // 🎉 All checks passed — finalize the difficulty
-            PickYourDifficulty.debug("Finalizing difficulty selection for " + player.getName() + ": " + canonical);
-            ConfirmationGUIManager.acceptSelection(player, canonical);
+        // ❌ If for some reason it's null, show error
+        if (selectedDifficulty == null) {
+            PickYourDifficulty.debug(() -> "No difficulty selected for " + player.getName() + " — aborting.");
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_SELECTION_FOUND));
+            SoundManager.playCancelSound(player);
+            player.closeInventory();
             return;
         }
 
-        // ╔═══❌ Cancel button selected══════════════════════════════════════════════════════════════╗
+        // 🧼 Normalize to canonical key (e.g. easy → Easy)
+        String canonical = DifficultyManager.getCanonicalKey(selectedDifficulty.toLowerCase());
 
-        // 🛑 If the clicked button is the cancel button
-        Component cancelName = mm.deserialize(ConfigManager.getCancelButtonName());
+        // ❌ Invalid or unrecognized difficulty key
+        if (canonical == null) {
+            PickYourDifficulty.debug(() -> "Invalid difficulty: " + selectedDifficulty);
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_INVALID_DIFFICULTY));
+            SoundManager.playCancelSound(player);
+            player.closeInventory();
+            return;
+        }
 
-        if (cancelName.equals(actualName)) {
-            // 🧯 Cancel the pending difficulty selection
-            PickYourDifficulty.debug(player.getName() + " clicked Cancel button");
-            ConfirmationGUIManager.cancelSelection(player);
+        // ⛔ If they don’t have permission for this difficulty, cancel
+        if (DifficultyManager.cannotSelect(player, canonical)) {
+            PickYourDifficulty.debug(() -> player.getName() + " lacks permission for difficulty: " + canonical);
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION));
+            SoundManager.playCancelSound(player);
+            player.closeInventory();
+            return;
         }
+
+        // 🎉 All checks passed — finalize the difficulty
+        PickYourDifficulty.debug(() -> "Finalizing difficulty selection for " + player.getName() + ": " + canonical);
+        ConfirmationGUIManager.acceptSelection(player, canonical);
     }
 }
@@ -67,7 +67,7 @@ public class DeathDropListener implements Listener {
 
         // ⏱️ Fetch despawn time for this difficulty
         int despawnSeconds = ConfigManager.getDespawnTime(difficulty);
-        PickYourDifficulty.debug("DeathDropListener: " + player.getName() + " died with difficulty '" + difficulty +
+        PickYourDifficulty.debug(() -> "DeathDropListener: " + player.getName() + " died with difficulty '" + difficulty +
                 "' (despawn = " + despawnSeconds + "s)");
 
         // ╔═══⏳ Delay to Let Drops Spawn═══════════════════════════════════════════════════════════╗
@@ -104,12 +104,12 @@ public class DeathDropListener implements Listener {
                 itemEntity.getPersistentDataContainer().set(DEATH_DROP_KEY, PersistentDataType.INTEGER, 1);
                 taggedCount++;
 
-                PickYourDifficulty.debug("Tagged deathdrop: " + stack.getAmount() + "x " + stack.getType());
+                PickYourDifficulty.debug(() -> "Tagged deathdrop: " + stack.getAmount() + "x " + stack.getType());
 
                 // ╔═══🪧 Create Hologram (Optional)═══════════════════════════════════════════════════╗
 
                 if (ConfigManager.hologramsEnabled()) {
-                    PickYourDifficulty.debug("Spawning hologram for item: " + stack.getType());
+                    PickYourDifficulty.debug(() -> "Spawning hologram for item: " + stack.getType());
                     HologramManager.createHologram(itemEntity, despawnSeconds);
                 }
             }
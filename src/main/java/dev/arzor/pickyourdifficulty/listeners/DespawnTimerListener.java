@@ -9,9 +9,11 @@ package dev.arzor.pickyourdifficulty.listeners;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.DebugLogManager;
+import dev.arzor.pickyourdifficulty.managers.DifficultyProfile;
 import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.storage.PlayerRecordCache;
 
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Item;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -52,8 +54,14 @@ public class DespawnTimerListener implements Listener {
         Item itemEntity = event.getEntity();
         ItemStack itemStack = itemEntity.getItemStack();
 
+        // 💬 Capturing debug lambdas are allocated at the call site, so this
+        //    per-item path only creates them when debug mode is on
+        boolean debug = ConfigManager.isDebugMode();
+
         // 🧪 Debug: Show item spawn info
-        PickYourDifficulty.debug("ItemSpawnEvent: " + itemStack.getAmount() + "x " + itemStack.getType());
+        if (debug) {
+            PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> "ItemSpawnEvent: " + itemStack.getAmount() + "x " + itemStack.getType());
+        }
 
         // 📌 Check for deathdrop tag or metadata-based despawn time
         boolean isDeathDrop = DeathDropListener.isDeathDrop(itemEntity);
@@ -61,11 +69,13 @@ public class DespawnTimerListener implements Listener {
         long previousPickup = PlayerDropItemListener.getSavedPickupTime(itemEntity);
 
         // 🧪 Debug: Deathdrop & tagged info
-        PickYourDifficulty.debug(" - isDeathDrop: " + isDeathDrop + ", taggedDespawn: " + taggedDespawn + ", pickupTime: " + previousPickup);
+        if (debug) {
+            PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> " - isDeathDrop: " + isDeathDrop + ", taggedDespawn: " + taggedDespawn + ", pickupTime: " + previousPickup);
+        }
 
         // 📛 Skip if config restricts to deathdrops only, and this item is neither
         if (ConfigManager.despawnOnlyAffectsDeathDrops() && !isDeathDrop && taggedDespawn <= 0) {
-            PickYourDifficulty.debug(" - Skipped: Not a deathdrop and no manual tag, config restricts.");
+            PickYourDifficulty.debug(DebugLogManager.DESPAWN, " - Skipped: Not a deathdrop and no manual tag, config restricts.");
             return;
         }
 
@@ -76,7 +86,9 @@ public class DespawnTimerListener implements Listener {
         // 📦 Use manually tagged time if present
         if (taggedDespawn > 0) {
             customSeconds = taggedDespawn;
-            PickYourDifficulty.debug(" - Using manually tagged despawn time: " + customSeconds + "s");
+            if (debug) {
+                PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> " - Using manually tagged despawn time: " + customSeconds + "s");
+            }
 
         } else {
             // 📦 Otherwise, fall back to dropper's difficulty
@@ -84,17 +96,50 @@ public class DespawnTimerListener implements Listener {
 
             // ❌ If no UUID, skip
             if (dropperUuid == null) {
-                PickYourDifficulty.debug(" - Skipped: No dropper UUID found in metadata.");
+                PickYourDifficulty.debug(DebugLogManager.DESPAWN, " - Skipped: No dropper UUID found in metadata.");
                 return;
             }
 
-            // 🧠 Lookup dropper's difficulty and get their custom despawn time
-            String difficulty = difficultyStorage.getDifficulty(Bukkit.getOfflinePlayer(dropperUuid));
-            customSeconds = ConfigManager.getDespawnTime(difficulty);
+            // 💤 Dropper's record isn't in memory (lazy loading) — apply once it's fetched
+            if (!PlayerRecordCache.isLoaded(dropperUuid)) {
+                if (debug) {
+                    PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> " - Dropper " + dropperUuid + " not loaded, fetching before applying timer.");
+                }
+                PlayerRecordCache.loadAsync(dropperUuid).thenRun(() -> {
+                    if (itemEntity.isValid()) {
+                        applyTimer(itemEntity, itemStack, getDropperSeconds(dropperUuid), previousPickup);
+                    }
+                });
+                return;
+            }
 
-            PickYourDifficulty.debug(" - Using dropper difficulty '" + difficulty + "' → " + customSeconds + "s");
+            customSeconds = getDropperSeconds(dropperUuid);
         }
 
+        applyTimer(itemEntity, itemStack, customSeconds, previousPickup);
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧠 Despawn Seconds from the Dropper's Difficulty
+    // ─────────────────────────────────────────────────────────────
+    private int getDropperSeconds(UUID dropperUuid) {
+
+        // 🧠 Lookup dropper's difficulty and resolve its compiled profile
+        String difficulty = difficultyStorage.getDifficulty(dropperUuid);
+        DifficultyProfile profile = ConfigManager.getProfile(difficulty);
+        int customSeconds = profile.despawnSeconds();
+
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> " - Using dropper difficulty '" + difficulty + "' → " + customSeconds + "s");
+        }
+        return customSeconds;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ⏲️ Apply the Timer to the Item Entity
+    // ─────────────────────────────────────────────────────────────
+    private void applyTimer(Item itemEntity, ItemStack itemStack, int customSeconds, long previousPickup) {
+
         // ╔═══🧮 Convert Seconds to Ticks════════════════════════════════════════════════════════════╗
 
         // 🧮 Convert seconds to ticks (1 second = 20 ticks)
@@ -114,7 +159,9 @@ public class DespawnTimerListener implements Listener {
 
             // ✅ Ownership has not yet transferred — treat previous timer as protected
             if (heldMillis < thresholdMillis && itemEntity.getTicksLived() < 0) {
-                PickYourDifficulty.debug(" - Skipped: Preventing downgrade, held for only " + heldMillis + "ms < " + thresholdMillis + "ms");
+                if (ConfigManager.isDebugMode()) {
+                    PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> " - Skipped: Preventing downgrade, held for only " + heldMillis + "ms < " + thresholdMillis + "ms");
+                }
                 return;
             }
         }
@@ -123,12 +170,14 @@ public class DespawnTimerListener implements Listener {
         // This effectively resets the despawn time to customTicks
         itemEntity.setTicksLived(-customTicks);
 
-        // 📣 Log result
-        PickYourDifficulty.debug(" - Custom despawn timer applied: " + customTicks + " ticks (" + customSeconds + "s)");
+        if (ConfigManager.isDebugMode()) {
+            // 📣 Log result
+            PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> " - Custom despawn timer applied: " + customTicks + " ticks (" + customSeconds + "s)");
 
-        // 🧪 Optional verbose log to console
-        PickYourDifficulty.debug("Custom despawn: " + itemStack.getAmount() + "x " + itemStack.getType()
-                + " → " + customSeconds + "s");
+            // 🧪 Optional verbose log to console
+            PickYourDifficulty.debug(DebugLogManager.DESPAWN, () -> "Custom despawn: " + itemStack.getAmount() + "x " + itemStack.getType()
+                    + " → " + customSeconds + "s");
+        }
     }
 
     // ─────────────────────────────────────────────────────────────
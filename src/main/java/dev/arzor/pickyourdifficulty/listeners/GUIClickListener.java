@@ -1,45 +1,39 @@
 // ╔════════════════════════════════════════════════════════════════════╗
 // ║                      GUIClickListener.java                         ║
 // ║   Handles clicks inside the difficulty selection GUI               ║
-// ║   Detects filler vs. difficulty icons and routes accordingly       ║
+// ║   Resolves clicks by slot via the GUI holder and routes them       ║
 // ╚════════════════════════════════════════════════════════════════════╝
 
 package dev.arzor.pickyourdifficulty.listeners;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
-import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.DifficultyGUIHolder;
 import dev.arzor.pickyourdifficulty.managers.DifficultyManager;
 import dev.arzor.pickyourdifficulty.managers.GUIManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
 import dev.arzor.pickyourdifficulty.managers.SoundManager;
 import dev.arzor.pickyourdifficulty.managers.PlayerDataManager;
-import dev.arzor.pickyourdifficulty.utils.TextUtil;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 // ─────────────────────────────────────────────────────────────
 // 🖱️ GUIClickListener — Handles difficulty GUI clicks
 // ─────────────────────────────────────────────────────────────
 // This listener handles:
 //  • Cancelling invalid clicks (shift, hotbar, drop)
-//  • Detecting filler item clicks and blocking them
-//  • Matching valid difficulty icons
+//  • Resolving the clicked slot through the holder's slot table
+//    (filler / locked icon / selectable icon) — no item comparisons
+//  • Re-checking permission for selectable icons at click time
 //  • Routing to confirmation or instant-apply
 public class GUIClickListener implements Listener {
 
-    private static final MiniMessage mm = MiniMessage.miniMessage();
-
     // Fields to inject
     private final GUIManager guiManager;
     private final PlayerDataManager playerDataManager;
@@ -58,21 +52,12 @@ public class GUIClickListener implements Listener {
     @EventHandler
     public void onDifficultyGUIClick(InventoryClickEvent event) {
 
+        // ⚡ Fast reject: only our selector GUI has a DifficultyGUIHolder (no block-state snapshot)
+        if (!(event.getView().getTopInventory().getHolder(false) instanceof DifficultyGUIHolder holder)) return;
+
         // 📦 Mini Block: Only respond to real player interactions
         if (!(event.getWhoClicked() instanceof Player player)) return;
-        Inventory clickedInv = event.getClickedInventory();
-        if (clickedInv == null) return;
-
-        // 🧪 Match against expected GUI title
-        String rawTitle = ConfigManager.getGuiTitle();
-        Component expectedTitle = mm.deserialize(TextUtil.replacePlaceholders(rawTitle, player));
-        Component actualTitle = event.getView().title();
-
-        PickYourDifficulty.debug("GUIClick → Expected title: " + expectedTitle + ", Actual: " + actualTitle);
-        if (!expectedTitle.equals(actualTitle)) {
-            PickYourDifficulty.debug("GUIClick → Title mismatch. Ignoring.");
-            return; // ⛔ Not the custom GUI — ignore click
-        }
+        if (event.getClickedInventory() == null) return;
 
         // ⛔ Cancel all GUI interactions to avoid dragging/moving items
         event.setCancelled(true);
@@ -85,97 +70,73 @@ public class GUIClickListener implements Listener {
                 || event.getClick() == ClickType.DROP
                 || event.getClick() == ClickType.CONTROL_DROP) {
 
-            PickYourDifficulty.debug("GUIClick → Blocked invalid click type: " + event.getClick());
-            player.sendMessage(mm.deserialize(MessagesManager.get("error.gui-interact-blocked")));
+            PickYourDifficulty.debug(() -> "GUIClick → Blocked invalid click type: " + event.getClick());
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_GUI_INTERACT_BLOCKED));
             SoundManager.playCancelSound(player);
             return;
         }
 
-        // 🪙 Get the clicked item
-        ItemStack clicked = event.getCurrentItem();
-        if (clicked == null || clicked.getType() == Material.AIR) {
-            PickYourDifficulty.debug("GUIClick → Clicked empty slot.");
-            return;
-        }
-
         // ─────────────────────────────────────────────────────────────
-        // 📦 Filler Check — Ignore clicks on filler slots
+        // 🎯 Resolve the click from the holder's slot table
         // ─────────────────────────────────────────────────────────────
-        Material fillerMat = Material.getMaterial(ConfigManager.getGuiFillerItemMaterial().toUpperCase());
-        if (fillerMat == null) {
-            PickYourDifficulty.getInstance().getLogger().warning("Invalid GUI filler material in config!");
-            return;
-        }
-        String fillerName = ConfigManager.getGuiFillerItemName();
-        if (clicked.getType() == fillerMat && hasDisplayName(clicked, fillerName)) {
-            PickYourDifficulty.debug("GUIClick → Clicked filler item. Ignoring.");
-            SoundManager.playCancelSound(player);
-            return;
-        }
+        // 💬 Raw slots past the top inventory (player's own inventory) map to NONE
+        int rawSlot = event.getRawSlot();
+        switch (holder.getAction(rawSlot)) {
 
-        // ─────────────────────────────────────────────────────────────
-        // 🔍 Try to Match Click to a Defined Difficulty Option
-        // ─────────────────────────────────────────────────────────────
-        for (String difficultyId : DifficultyManager.getAllDifficulties()) {
-            Material expectedMat = Material.getMaterial(ConfigManager.getMaterial(difficultyId).toUpperCase());
-            String expectedName = ConfigManager.getName(difficultyId);
-
-            // ✅ If icon + name match, this is a valid difficulty option
-            if (clicked.getType() == expectedMat && hasDisplayName(clicked, expectedName)) {
-
-                PickYourDifficulty.debug("GUIClick → Matched difficulty icon: " + difficultyId);
-
-                // ⛔ If the player lacks permission for this difficulty, deny it
-                if (DifficultyManager.cannotSelect(player, difficultyId)) {
-                    PickYourDifficulty.debug("GUIClick → " + player.getName() + " lacks permission for " + difficultyId);
-                    player.sendMessage(mm.deserialize(MessagesManager.get("error.no-permission")));
-                    SoundManager.playDeniedSound(player, true);
-                    return;
-                }
-
-                // ⏳ Check if player is under cooldown before allowing selection
-                if (playerDataManager.isGuiCooldownActive(player)) {
-
-                    // 🧮 Get the number of seconds remaining before player can reselect
-                    int secondsLeft = playerDataManager.getCooldownSecondsLeft(player);
-                    PickYourDifficulty.debug("GUIClick → " + player.getName() + " is under cooldown: " + secondsLeft + "s remaining");
-
-                    // 💬 Send a user-friendly cooldown wait message
-                    Component msg = MessagesManager.format("error.cooldown-wait", player, secondsLeft);
-                    player.sendMessage(msg);
-
-                    // 🔇 Play denied sound (soft version for cooldowns)
-                    SoundManager.playDeniedSound(player, false);
-                    return;
-                }
-
-                // ✅ Proceed to confirmation or instant apply (based on config)
-                PickYourDifficulty.debug("GUIClick → " + player.getName() + " selected difficulty: " + difficultyId.toLowerCase());
-                guiManager.handleDifficultySelected(player, difficultyId.toLowerCase());
-
-                // 🔊 Play confirm sound and close the GUI
-                SoundManager.playConfirmSound(player);
-                player.closeInventory();
-                return;
+            case FILLER -> {
+                PickYourDifficulty.debug("GUIClick → Clicked filler item. Ignoring.");
+                SoundManager.playCancelSound(player);
             }
-        }
 
-        // 🚫 Click didn't match any known difficulty — no action taken
-        PickYourDifficulty.debug("GUIClick → No matching difficulty found for click.");
+            case LOCKED -> {
+                // ⛔ Icon was rendered locked for this player — deny it
+                PickYourDifficulty.debug(() -> "GUIClick → " + player.getName() + " lacks permission for " + holder.getDifficulty(rawSlot));
+                player.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION));
+                SoundManager.playDeniedSound(player, true);
+            }
+
+            case SELECT -> handleSelect(player, holder.getDifficulty(rawSlot));
+
+            default -> PickYourDifficulty.debug(() -> "GUIClick → Clicked non-action slot " + rawSlot + ".");
+        }
     }
 
     // ─────────────────────────────────────────────────────────────
-    // 🧪 Utility: Check Item Display Name Matches MiniMessage String
+    // ✅ handleSelect — Permission + cooldown checks, then route the selection
     // ─────────────────────────────────────────────────────────────
-    private boolean hasDisplayName(ItemStack item, String expectedMiniMessage) {
-        if (!item.hasItemMeta()) return false;
+    private void handleSelect(Player player, String difficultyId) {
+        PickYourDifficulty.debug(() -> "GUIClick → Matched difficulty icon: " + difficultyId);
+
+        // ⛔ Re-check permission live — the slot table reflects the player's
+        //    permissions when the GUI was opened, which may since have been revoked
+        if (DifficultyManager.cannotSelect(player, difficultyId)) {
+            PickYourDifficulty.debug(() -> "GUIClick → " + player.getName() + " lacks permission for " + difficultyId);
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_NO_PERMISSION));
+            SoundManager.playDeniedSound(player, true);
+            return;
+        }
+
+        // ⏳ Check if player is under cooldown before allowing selection
+        if (playerDataManager.isGuiCooldownActive(player)) {
 
-        ItemMeta meta = item.getItemMeta();
-        if (!meta.hasDisplayName()) return false;
+            // 🧮 Get the number of seconds remaining before player can reselect
+            int secondsLeft = playerDataManager.getCooldownSecondsLeft(player);
+            PickYourDifficulty.debug(() -> "GUIClick → " + player.getName() + " is under cooldown: " + secondsLeft + "s remaining");
 
-        Component actualName = meta.displayName();
-        Component expectedName = mm.deserialize(expectedMiniMessage);
+            // 💬 Send a user-friendly cooldown wait message
+            Component msg = MessagesManager.formatCooldown(MessageKey.ERROR_COOLDOWN_WAIT, player, secondsLeft);
+            player.sendMessage(msg);
+
+            // 🔇 Play denied sound (soft version for cooldowns)
+            SoundManager.playDeniedSound(player, false);
+            return;
+        }
 
-        return expectedName.equals(actualName);
+        // ✅ Proceed to confirmation or instant apply (based on config)
+        //    Either path plays its own sound and manages the open inventory,
+        //    so the selector must not be closed here (that would close the
+        //    confirmation GUI that was just opened in its place).
+        PickYourDifficulty.debug(() -> "GUIClick → " + player.getName() + " selected difficulty: " + difficultyId);
+        guiManager.handleDifficultySelected(player, difficultyId);
     }
 }
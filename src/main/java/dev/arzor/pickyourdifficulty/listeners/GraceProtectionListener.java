@@ -8,16 +8,15 @@ package dev.arzor.pickyourdifficulty.listeners;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
-import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.managers.DebugLogManager;
+import dev.arzor.pickyourdifficulty.storage.GraceSessionTracker;
 
-import org.bukkit.Statistic;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
 
-import java.util.List;
-
 // ─────────────────────────────────────────────────────────────
 // 🛡️ GraceProtectionListener — Cancels damage if under grace
 // ─────────────────────────────────────────────────────────────
@@ -30,13 +29,6 @@ import java.util.List;
 //    graceMode.bypassDamageTypes
 public class GraceProtectionListener implements Listener {
 
-    // 🧠 Storage access to retrieve player difficulty
-    private final PlayerDifficultyStorage difficultyStorage;
-
-    public GraceProtectionListener(PlayerDifficultyStorage difficultyStorage) {
-        this.difficultyStorage = difficultyStorage;
-    }
-
     // ─────────────────────────────────────────────────────────────
     // 🛡️ Block Damage While Under Grace Period
     // ─────────────────────────────────────────────────────────────
@@ -46,56 +38,49 @@ public class GraceProtectionListener implements Listener {
         // 📦 Target Check: Only apply to players
         if (!(event.getEntity() instanceof Player player)) return;
 
-        // 🧪 Debug: Start of damage check
-        PickYourDifficulty.debug("DamageEvent: " + player.getName() + " took " + event.getDamage() + " from " + event.getCause());
+        // 💬 Capturing debug lambdas are allocated at the call site, so this
+        //    per-hit path only creates them when debug mode is on
+        boolean debug = ConfigManager.isDebugMode();
 
-        // 📦 Grace Mode Enabled?
-        if (!ConfigManager.enableGraceMode()) {
-            PickYourDifficulty.debug(" - Skipped: Grace mode not enabled.");
-            return;
+        // 🧪 Debug: Start of damage check
+        if (debug) {
+            PickYourDifficulty.debug(DebugLogManager.GRACE, () -> "DamageEvent: " + player.getName() + " took " + event.getDamage() + " from " + event.getCause());
         }
 
-        // 💬 Get this player's selected difficulty
-        String difficulty = difficultyStorage.getDifficulty(player);
-        PickYourDifficulty.debug(" - Difficulty: " + difficulty);
-
-        // ⏳ Fetch grace time for that difficulty
-        int graceSeconds = ConfigManager.getGraceTime(difficulty);
-        PickYourDifficulty.debug(" - Grace duration: " + graceSeconds + "s");
-
-        // 🧮 Convert playtime ticks to seconds (20 ticks = 1 sec)
-        long playTicks = player.getStatistic(Statistic.PLAY_ONE_MINUTE);
-        int playSeconds = (int) (playTicks / 20);
-        PickYourDifficulty.debug(" - Playtime so far: " + playSeconds + "s");
+        // ⏳ Cached deadline — computed on join / difficulty change, not per hit
+        GraceSessionTracker.GraceSession session = GraceSessionTracker.get(player);
 
-        // 📦 If grace expired or grace = 0, allow damage
-        if (graceSeconds <= 0) {
-            PickYourDifficulty.debug(" - Skipped: Grace period is zero.");
+        // ⚡ Grace off, zero, or used up before this session — fastest exit
+        if (session.isNeverProtected()) {
+            PickYourDifficulty.debug(DebugLogManager.GRACE, " - Skipped: Not under grace.");
             return;
         }
 
-        if (playSeconds >= graceSeconds) {
-            PickYourDifficulty.debug(" - Skipped: Grace has expired.");
+        // 📦 If grace expired during this session, allow damage (and cache the flag)
+        if (!session.isProtected(Bukkit.getCurrentTick())) {
+            GraceSessionTracker.expire(player);
+            PickYourDifficulty.debug(DebugLogManager.GRACE, " - Skipped: Grace has expired.");
             return;
         }
 
         // 📦 Block Specific Damage Causes While Under Grace
         EntityDamageEvent.DamageCause cause = event.getCause();
-        List<String> protectedTypes = ConfigManager.getGraceBypassDamageTypes();
 
-        // 🧠 These are the causes we want to CANCEL during grace period
-        if (protectedTypes.contains(cause.name())) {
+        // 🧠 These are the causes we want to CANCEL during grace period (EnumSet lookup)
+        if (ConfigManager.getGracePolicy().protects(cause)) {
             event.setCancelled(true); // 🛑 Block damage
 
             // 🧪 Log the cancel for debugging
-            PickYourDifficulty.debug(" - Cancelled: " + cause + " damage blocked (under grace)");
+            if (debug) {
+                PickYourDifficulty.debug(DebugLogManager.GRACE, () -> " - Cancelled: " + cause + " damage blocked (under grace)");
+            }
 
             // 📣 Broadcast to console (or log)
             PickYourDifficulty.getInstance().getLogger().info(
                     "[PickYourDifficulty] Cancelled " + cause + " damage for " + player.getName() + " (under grace)"
             );
-        } else {
-            PickYourDifficulty.debug(" - Allowed: " + cause + " not in grace bypass list.");
+        } else if (debug) {
+            PickYourDifficulty.debug(DebugLogManager.GRACE, () -> " - Allowed: " + cause + " not in grace bypass list.");
         }
     }
 }
\ No newline at end of file
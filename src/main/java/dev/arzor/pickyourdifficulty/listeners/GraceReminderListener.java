@@ -7,10 +7,12 @@
 package dev.arzor.pickyourdifficulty.listeners;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.events.GraceExpiredEvent;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
-import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
 import dev.arzor.pickyourdifficulty.storage.GraceReminderTracker;
+import dev.arzor.pickyourdifficulty.storage.GraceSessionTracker;
 
 import net.kyori.adventure.text.Component;
 
@@ -19,37 +21,19 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.scheduler.BukkitRunnable;
-
-import java.util.UUID;
 
 // ─────────────────────────────────────────────────────────────
 // 📣 GraceReminderListener — Sends grace reminders to players
 // ─────────────────────────────────────────────────────────────
 // This listener handles:
 //  • Reminders on join
-//  • Repeating interval reminders
+//  • The "grace expired" notice when a GraceExpiredEvent fires
 //
 // 🔁 Mode is configurable: "onLogin", "interval", or "both"
-// ⏰ Respects reminder cooldown via GraceReminderTracker
+// ⏰ Interval reminders are delivered by GraceScheduler, per player deadline
 // 🌍 Skips players in excluded worlds
 public class GraceReminderListener implements Listener {
 
-    private final PlayerDifficultyStorage difficultyStorage;
-
-    public GraceReminderListener(PlayerDifficultyStorage difficultyStorage) {
-        this.difficultyStorage = difficultyStorage;
-
-        // 📦 Mini Block: Only start repeating task if grace is enabled and interval reminders are active
-        if (ConfigManager.enableGraceMode()
-                && (reminderMode().equals("interval") || reminderMode().equals("both"))) {
-            PickYourDifficulty.debug("GraceReminderListener → Starting interval task for grace reminders.");
-            startIntervalTask();
-        } else {
-            PickYourDifficulty.debug("GraceReminderListener → Not starting interval task (config says not needed).");
-        }
-    }
-
     // ─────────────────────────────────────────────────────────────
     // 🚪 onPlayerJoin — Send reminder if mode includes "onLogin"
     // ─────────────────────────────────────────────────────────────
@@ -74,68 +58,41 @@ public class GraceReminderListener implements Listener {
 
         // 📦 Mini Block: Check if world is excluded
         if (shouldIgnoreWorld(player)) {
-            PickYourDifficulty.debug("JoinReminder: Skipped for " + player.getName() + " — world excluded.");
+            PickYourDifficulty.debug(() -> "JoinReminder: Skipped for " + player.getName() + " — world excluded.");
             return;
         }
 
         // ✅ Send reminder only if player is still under grace
         if (isInGrace(player)) {
-            PickYourDifficulty.debug("JoinReminder: Sending to " + player.getName());
+            PickYourDifficulty.debug(() -> "JoinReminder: Sending to " + player.getName());
             sendReminder(player);
         } else {
-            PickYourDifficulty.debug("JoinReminder: Skipped for " + player.getName() + " — grace expired.");
+            PickYourDifficulty.debug(() -> "JoinReminder: Skipped for " + player.getName() + " — grace expired.");
         }
     }
 
     // ─────────────────────────────────────────────────────────────
-    // ♻️ startIntervalTask — Repeating reminder based on config interval
+    // ⌛ onGraceExpired — Tell the player their protection has ended
     // ─────────────────────────────────────────────────────────────
-    private void startIntervalTask() {
-        if (ConfigManager.disableReminder()) return; // ⛔ Redundant safety check
-
-        // 🕐 Get the interval delay in seconds from config and convert to ticks
-        int intervalSeconds = ConfigManager.getGraceReminderIntervalSeconds();
-        long intervalTicks = intervalSeconds * 20L;
-
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (shouldIgnoreWorld(player)) {
-                        PickYourDifficulty.debug("IntervalReminder: Skipped for " + player.getName() + " — world excluded.");
-                        continue;
-                    }
-
-                    // 📦 Mini Block: Send reminder only if player is still under grace
-                    if (!isInGrace(player)) {
-                        PickYourDifficulty.debug("IntervalReminder: Skipped for " + player.getName() + " — grace expired.");
-                        continue;
-                    }
-
-                    // 🕒 Check last reminder time
-                    UUID uuid = player.getUniqueId();
-                    long secondsElapsed = GraceReminderTracker.getSecondsSinceLastReminder(uuid);
-
-                    PickYourDifficulty.debug("IntervalReminder: Checking " + player.getName()
-                            + " → last reminder " + secondsElapsed + "s ago (interval = " + intervalSeconds + "s)");
-
-                    // 📦 Mini Block: Send reminder if interval exceeded
-                    if (secondsElapsed >= intervalSeconds) {
-                        PickYourDifficulty.debug("IntervalReminder: Sending reminder to " + player.getName());
-                        sendReminder(player);
-                    }
-                }
-            }
-
-            // 🕐 Initial delay = 20 ticks (1s), repeat using config interval
-        }.runTaskTimer(PickYourDifficulty.getInstance(), 20L, intervalTicks);
+    @EventHandler
+    public void onGraceExpired(GraceExpiredEvent event) {
+        if (ConfigManager.disableReminder()) return;    // ⛔ Reminders globally disabled
+
+        Player player = event.getPlayer();
+        if (shouldIgnoreWorld(player)) {
+            PickYourDifficulty.debug(() -> "ExpiredNotice: Skipped for " + player.getName() + " — world excluded.");
+            return;
+        }
+
+        player.sendMessage(MessagesManager.format(MessageKey.GRACE_EXPIRED));
+        PickYourDifficulty.debug(() -> "ExpiredNotice: Sent to " + player.getName() + " (" + event.getDifficulty() + ")");
     }
 
     // ─────────────────────────────────────────────────────────────
     // 📬 Send Reminder Message
     // ─────────────────────────────────────────────────────────────
-    private void sendReminder(Player player) {
-        Component msg = MessagesManager.get("grace-active", player);
+    public static void sendReminder(Player player) {
+        Component msg = MessagesManager.formatGrace(MessageKey.GRACE_ACTIVE, player);
         player.sendMessage(msg);
 
         // 🧾 Update reminder tracker timestamp
@@ -153,24 +110,21 @@ public class GraceReminderListener implements Listener {
     // 🔍 Grace Check — Is Player Still In Grace?
     // ─────────────────────────────────────────────────────────────
     private boolean isInGrace(Player player) {
-        String difficulty = difficultyStorage.getDifficulty(player);
-        int graceTotal = ConfigManager.getGraceTime(difficulty);
-
-        // 🧮 Convert play ticks to seconds (20 ticks = 1 second)
-        long playTicks = player.getStatistic(org.bukkit.Statistic.PLAY_ONE_MINUTE);
-        int playSeconds = (int) (playTicks / 20);
+        // ⏳ Cached session deadline (computed on join by JoinListener)
+        GraceSessionTracker.GraceSession session = GraceSessionTracker.get(player);
+        int now = Bukkit.getCurrentTick();
 
-        PickYourDifficulty.debug("GraceCheck: " + player.getName() + " → grace=" + graceTotal + "s, played=" + playSeconds + "s");
+        PickYourDifficulty.debug(() -> "GraceCheck: " + player.getName() + " → grace=" + session.graceSeconds()
+                + "s, remaining=" + session.getRemainingSeconds(now) + "s");
 
-        return graceTotal > 0 && playSeconds < graceTotal;
+        return session.isProtected(now);
     }
 
     // ─────────────────────────────────────────────────────────────
     // 🌍 World Exclusion Check — Skip Reminder if World Is Ignored
     // ─────────────────────────────────────────────────────────────
-    private boolean shouldIgnoreWorld(Player player) {
-        return ConfigManager.getDisabledOverrideWorlds().stream()
-                .anyMatch(world -> world.equalsIgnoreCase(player.getWorld().getName()));
+    private static boolean shouldIgnoreWorld(Player player) {
+        return ConfigManager.getGracePolicy().isExcludedWorld(player.getWorld());
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -55,7 +55,7 @@ public class ItemPickupListener implements Listener {
             int amount = item.getItemStack().getAmount();
 
             // 💬 Output pickup log
-            PickYourDifficulty.debug("ItemPickup → " + pickerName + " picked up " + amount + "x " + itemName);
+            PickYourDifficulty.debug(() -> "ItemPickup → " + pickerName + " picked up " + amount + "x " + itemName);
         }
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 // ╔════════════════════════════════════════════════════════════════════╗
 // ║                        🧩 JoinListener.java                         ║
 // ║   Handles player join logic: auto GUI open + difficulty reload     ║
-// ║   Also clears reminders and cooldowns on quit                      ║
+// ║   Also clears reminders and session caches on quit                 ║
 // ╚════════════════════════════════════════════════════════════════════╝
 
 package dev.arzor.pickyourdifficulty.listeners;
@@ -10,9 +10,11 @@ import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
 import dev.arzor.pickyourdifficulty.managers.GUIManager;
 import dev.arzor.pickyourdifficulty.managers.PlayerDataManager;
+import dev.arzor.pickyourdifficulty.managers.MessageKey;
 import dev.arzor.pickyourdifficulty.managers.MessagesManager;
-import dev.arzor.pickyourdifficulty.storage.CooldownTracker;
+import dev.arzor.pickyourdifficulty.placeholders.PlaceholderCache;
 import dev.arzor.pickyourdifficulty.storage.GraceReminderTracker;
+import dev.arzor.pickyourdifficulty.storage.GraceSessionTracker;
 
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
@@ -28,7 +30,7 @@ import java.util.UUID;
 // This listener handles:
 //  • GUI opening logic (auto or dev mode)
 //  • Difficulty application + grace reminders
-//  • Quit cleanup of cooldown and grace memory
+//  • Quit cleanup of grace and placeholder memory (cooldowns outlive the session)
 public class JoinListener implements Listener {
 
     private final GUIManager guiManager;
@@ -50,11 +52,14 @@ public class JoinListener implements Listener {
         Player player = event.getPlayer();
 
         // 🧪 Debug: Log the join event with UUID
-        PickYourDifficulty.debug("Player joined: " + player.getName() + " (UUID: " + player.getUniqueId() + ")");
+        PickYourDifficulty.debug(() -> "Player joined: " + player.getName() + " (UUID: " + player.getUniqueId() + ")");
+
+        // 🛡️ Compute the grace deadline once for this session
+        GraceSessionTracker.refresh(player);
 
         // 📦 Already Selected Difficulty → Apply + Welcome
         if (dataManager.hasSelectedDifficulty(player)) {
-            PickYourDifficulty.debug("Difficulty already selected for " + player.getName() + " — applying difficulty.");
+            PickYourDifficulty.debug(() -> "Difficulty already selected for " + player.getName() + " — applying difficulty.");
 
             // ✅ Apply saved difficulty effects
             dataManager.applyDifficulty(player);
@@ -62,15 +67,15 @@ public class JoinListener implements Listener {
             // 💬 Send welcome message (if enabled in config)
             String difficulty = dataManager.getDifficultyStorage().getDifficulty(player);
             if (ConfigManager.showWelcomeOnJoin() && difficulty != null && !difficulty.isEmpty()) {
-                player.sendMessage(MessagesManager.format(difficulty));
-                PickYourDifficulty.debug("Welcome message sent for difficulty: " + difficulty);
+                player.sendMessage(MessagesManager.format(MessageKey.welcome(difficulty)));
+                PickYourDifficulty.debug(() -> "Welcome message sent for difficulty: " + difficulty);
             }
 
             // 🛡️ Grace Reminder (if grace time > 0)
             int graceTime = ConfigManager.getGraceTime(difficulty);
             if (graceTime > 0) {
-                player.sendMessage(MessagesManager.get("grace-active", player));
-                PickYourDifficulty.debug("Grace reminder sent to " + player.getName() + " (" + graceTime + "s)");
+                player.sendMessage(MessagesManager.formatGrace(MessageKey.GRACE_ACTIVE, player));
+                PickYourDifficulty.debug(() -> "Grace reminder sent to " + player.getName() + " (" + graceTime + "s)");
             }
 
             return;
@@ -78,25 +83,25 @@ public class JoinListener implements Listener {
 
         // 📦 Dev Mode GUI Override → Force GUI open
         if (ConfigManager.devModeAlwaysShow()) {
-            PickYourDifficulty.debug("Dev mode active — forcing GUI open for " + player.getName());
+            PickYourDifficulty.debug(() -> "Dev mode active — forcing GUI open for " + player.getName());
             guiManager.openDifficultyGUI(player);
             return;
         }
 
         // 📦 Auto-Open Disabled → Skip
         if (!ConfigManager.autoOpenIfUnchosen()) {
-            PickYourDifficulty.debug("Auto-open disabled — skipping GUI for " + player.getName());
+            PickYourDifficulty.debug(() -> "Auto-open disabled — skipping GUI for " + player.getName());
             return;
         }
 
         // 📦 GUI Cooldown Active → Skip
         if (dataManager.isGuiCooldownActive(player)) {
-            PickYourDifficulty.debug("GUI cooldown active — skipping GUI for " + player.getName());
+            PickYourDifficulty.debug(() -> "GUI cooldown active — skipping GUI for " + player.getName());
             return;
         }
 
         // 🪟 Open the difficulty GUI for first-time chooser
-        PickYourDifficulty.debug("Opening difficulty GUI for new player: " + player.getName());
+        PickYourDifficulty.debug(() -> "Opening difficulty GUI for new player: " + player.getName());
         guiManager.openDifficultyGUI(player);
     }
 
@@ -109,8 +114,9 @@ public class JoinListener implements Listener {
         String name = event.getPlayer().getName();
 
         GraceReminderTracker.clear(uuid);        // 🧼 Clear grace tracker
-        CooldownTracker.clearCooldown(uuid);     // 🧼 Clear cooldowns
+        PlaceholderCache.invalidate(uuid);       // 🧼 Drop rendered placeholder values
+        GraceSessionTracker.clear(uuid);         // 🧼 Drop grace session
 
-        PickYourDifficulty.debug("Player quit: " + name + " — cleared grace + cooldown cache.");
+        PickYourDifficulty.debug(() -> "Player quit: " + name + " — cleared grace + placeholder cache.");
     }
 }
\ No newline at end of file
@@ -50,7 +50,7 @@ public class PlayerDropItemListener implements Listener {
         Item droppedItem = event.getItemDrop();
 
         // 🧪 Debug: Event triggered
-        PickYourDifficulty.debug("PlayerDropItemEvent triggered by " + player.getName());
+        PickYourDifficulty.debug(() -> "PlayerDropItemEvent triggered by " + player.getName());
 
         // 📦 Mini Block: Respect config if drops are limited to deaths only
         if (ConfigManager.despawnOnlyAffectsDeathDrops()) {
@@ -61,7 +61,7 @@ public class PlayerDropItemListener implements Listener {
         // 🛑 Skip if no difficulty is set for this player
         String difficulty = PickYourDifficulty.getInstance().getPlayerDifficultyStorage().getDifficulty(player);
         if (difficulty == null) {
-            PickYourDifficulty.debug("Drop ignored — no difficulty set for " + player.getName());
+            PickYourDifficulty.debug(() -> "Drop ignored — no difficulty set for " + player.getName());
             return;
         }
 
@@ -69,7 +69,7 @@ public class PlayerDropItemListener implements Listener {
         int despawnSeconds = ConfigManager.getDespawnTime(difficulty);
 
         // 🧪 Debug: Show time being applied
-        PickYourDifficulty.debug("Applying despawn time of " + despawnSeconds + "s for difficulty '" + difficulty + "'");
+        PickYourDifficulty.debug(() -> "Applying despawn time of " + despawnSeconds + "s for difficulty '" + difficulty + "'");
 
         // 🏷️ Save despawn time to item metadata (for tracking)
         droppedItem.getPersistentDataContainer().set(
@@ -79,14 +79,14 @@ public class PlayerDropItemListener implements Listener {
         );
 
         // 🧪 Debug: Show final applied drop info
-        PickYourDifficulty.debug("Manual drop: "
+        PickYourDifficulty.debug(() -> "Manual drop: "
                 + droppedItem.getItemStack().getAmount() + "x " + droppedItem.getItemStack().getType()
                 + " from " + player.getName() + " (Despawn in " + despawnSeconds + "s)");
 
         // 🪧 Show hologram if enabled globally
         if (ConfigManager.hologramsEnabled()) {
             HologramManager.createHologram(droppedItem, despawnSeconds);
-            PickYourDifficulty.debug("Hologram created above dropped item for " + player.getName());
+            PickYourDifficulty.debug(() -> "Hologram created above dropped item for " + player.getName());
         }
     }
 
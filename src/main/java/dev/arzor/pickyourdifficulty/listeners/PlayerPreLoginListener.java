@@ -0,0 +1,44 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                  💤 PlayerPreLoginListener.java                    ║
+// ║   Loads a player's stored data while they log in (lazy loading)    ║
+// ║   and hands it back to the LRU when they quit                      ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.listeners;
+
+import dev.arzor.pickyourdifficulty.storage.PlayerRecordCache;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+// ─────────────────────────────────────────────────────────────
+// 💤 PlayerPreLoginListener — PlayerRecordCache residency hooks
+// ─────────────────────────────────────────────────────────────
+// 💬 Every handler is a no-op unless storage.lazyLoading is active.
+// 💬 Join runs at LOWEST so the record is in memory before JoinListener
+//    and other handlers read it; quit runs at MONITOR so it is only
+//    released after everyone else is done with it.
+public class PlayerPreLoginListener implements Listener {
+
+    // 📥 Login thread — only fetch for logins that will actually go through
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        PlayerRecordCache.prefetch(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        PlayerRecordCache.join(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        PlayerRecordCache.quit(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,42 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                    🔌 PluginHookListener.java                      ║
+// ║   Keeps soft-dependency hook state in sync when other plugins are  ║
+// ║   enabled or disabled at runtime (e.g. by a plugin manager).       ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.listeners;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.utils.TextUtil;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+
+// ─────────────────────────────────────────────────────────────
+// 🔌 PluginHookListener — Tracks PlaceholderAPI availability
+// ─────────────────────────────────────────────────────────────
+// 💬 TextUtil caches whether PlaceholderAPI is present instead of asking the
+//    plugin manager per string; this listener is what keeps that flag current.
+public class PluginHookListener implements Listener {
+
+    private static final String PLACEHOLDER_API = "PlaceholderAPI";
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        if (!PLACEHOLDER_API.equals(event.getPlugin().getName())) return;
+
+        TextUtil.setPlaceholderAPIHooked(true);
+        PickYourDifficulty.debug("🔌 PlaceholderAPI enabled — placeholder hook active");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (!PLACEHOLDER_API.equals(event.getPlugin().getName())) return;
+
+        TextUtil.setPlaceholderAPIHooked(false);
+        PickYourDifficulty.debug("🔌 PlaceholderAPI disabled — placeholder hook inactive");
+    }
+}
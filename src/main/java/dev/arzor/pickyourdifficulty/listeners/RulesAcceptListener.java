@@ -91,17 +91,17 @@ public class RulesAcceptListener implements Listener {
                 Player player = (Player) event.getClass().getMethod("getPlayer").invoke(event);
 
                 // 🧪 Debug: Player confirmed
-                PickYourDifficulty.debug("Player accepted rules: " + player.getName());
+                PickYourDifficulty.debug(() -> "Player accepted rules: " + player.getName());
 
                 // 🔐 Only open GUI if not already selected
                 if (!dataManager.hasSelectedDifficulty(player)) {
                     guiManager.openDifficultyGUI(player);
 
                     // 🧪 Debug: GUI opened
-                    PickYourDifficulty.debug("Difficulty GUI opened for " + player.getName());
+                    PickYourDifficulty.debug(() -> "Difficulty GUI opened for " + player.getName());
                 } else {
                     // 🧪 Debug: Player already has a difficulty
-                    PickYourDifficulty.debug("No GUI opened — " + player.getName() + " already selected a difficulty.");
+                    PickYourDifficulty.debug(() -> "No GUI opened — " + player.getName() + " already selected a difficulty.");
                 }
 
             } catch (Exception ex) {
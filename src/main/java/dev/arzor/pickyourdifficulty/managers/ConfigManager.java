@@ -9,11 +9,23 @@ package dev.arzor.pickyourdifficulty.managers;
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
 
+import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class ConfigManager implements Reloadable {
 
@@ -25,6 +37,20 @@ public class ConfigManager implements Reloadable {
     /** Cached config instance */
     private static FileConfiguration config;
 
+    /** Compiled `difficulties:` table — replaced as a whole on every load/reload */
+    private static volatile DifficultyTable difficultyTable = DifficultyTable.EMPTY;
+
+    /** Compiled `graceMode:` settings — replaced as a whole on every load/reload */
+    private static volatile GracePolicy gracePolicy = GracePolicy.EMPTY;
+
+    /** Cached `debugMode` flag — read on every debug call, so never looked up in YAML there */
+    private static volatile boolean debugMode;
+
+    /** Cached `despawnBehavior:` settings — read on every ItemSpawnEvent */
+    private static volatile boolean despawnOnlyAffectsDeathDrops = true;
+    private static volatile boolean preventDespawnTimerDowngrade = true;
+    private static volatile int ownershipTransferThresholdSeconds = 30;
+
     // ╔═══🔁 Config Initialization & Reload═══════════════════════════════╗
 
     static {
@@ -34,14 +60,14 @@ public class ConfigManager implements Reloadable {
     /** Initializes and loads the default config */
     public static void init(JavaPlugin plugin) {
         plugin.saveDefaultConfig();
-        config = plugin.getConfig();
+        apply(plugin.getConfig());
     }
 
     /** Reloads the config from disk */
     @Override
     public void reload() {
         plugin.reloadConfig();
-        config = plugin.getConfig();
+        apply(plugin.getConfig());
 
         // 🧪 Optional debug log when config is reloaded manually
         if (isDebugMode()) {
@@ -49,6 +75,17 @@ public class ConfigManager implements Reloadable {
         }
     }
 
+    /** Adopts a loaded config and recompiles everything derived from it (also used by the benchmarks) */
+    static void apply(FileConfiguration loaded) {
+        config = loaded;
+        debugMode = config.getBoolean("debugMode", false);
+        despawnOnlyAffectsDeathDrops = config.getBoolean("despawnBehavior.onlyAffectsDeathDrops", true);
+        preventDespawnTimerDowngrade = config.getBoolean("despawnBehavior.preventTimerDowngrade", true);
+        ownershipTransferThresholdSeconds = config.getInt("despawnBehavior.ownershipTransferThreshold", 30);
+        compileDifficulties();
+        compileGracePolicy();
+    }
+
     // ╔═══🧭 General Settings═══════════════════════════════════════════════╗
 
     /** Whether to auto-open GUI after AcceptTheRules completion */
@@ -99,69 +136,192 @@ public class ConfigManager implements Reloadable {
 
     /** Whether despawn timer applies only to death drops */
     public static boolean despawnOnlyAffectsDeathDrops() {
-        return config.getBoolean("despawnBehavior.onlyAffectsDeathDrops", true);
+        return despawnOnlyAffectsDeathDrops;
     }
 
     /** Prevent downgrading despawn timers if higher difficulty picks up */
     public static boolean preventDespawnTimerDowngrade() {
-        return config.getBoolean("despawnBehavior.preventTimerDowngrade", true);
+        return preventDespawnTimerDowngrade;
     }
 
     /** Seconds a player must hold an item before they're considered the owner */
     public static int ownershipTransferThresholdSeconds() {
-        return config.getInt("despawnBehavior.ownershipTransferThreshold", 30);
+        return ownershipTransferThresholdSeconds;
     }
 
     // ╔═══🎮 Difficulty Presets════════════════════════════════════════╗
 
+    /** Immutable snapshot of every compiled difficulty, in config order */
+    private record DifficultyTable(Map<String, DifficultyProfile> byKey,
+                                   Map<String, DifficultyProfile> byLowerKey,
+                                   List<DifficultyProfile> ordered,
+                                   List<String> names) {
+        static final DifficultyTable EMPTY = new DifficultyTable(Map.of(), Map.of(), List.of(), List.of());
+    }
+
+    /** Compiles the `difficulties:` section into profiles and publishes them atomically */
+    private static void compileDifficulties() {
+        ConfigurationSection section = config.getConfigurationSection("difficulties");
+        if (section == null) {
+            difficultyTable = DifficultyTable.EMPTY;
+            plugin.getLogger().warning("⚠️ No 'difficulties' section found in config.yml.");
+            return;
+        }
+
+        Map<String, DifficultyProfile> byKey = new HashMap<>();
+        Map<String, DifficultyProfile> byLowerKey = new HashMap<>();
+        List<DifficultyProfile> ordered = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection entry = section.getConfigurationSection(key);
+            if (entry == null) {
+                plugin.getLogger().warning("⚠️ Difficulty '" + key + "' is not a section. Skipping.");
+                continue;
+            }
+
+            DifficultyProfile profile = new DifficultyProfile(
+                    key,
+                    ordered.size(),
+                    entry.getInt("slot", 0),
+                    entry.getInt("despawn-seconds", 300),
+                    entry.getInt("grace-playtime-seconds", 0),
+                    entry.getString("icon.material", "STONE"),
+                    entry.getString("icon.name"),
+                    entry.getStringList("icon.lore"),
+                    config.getStringList("difficultyCommands." + key)
+            );
+
+            byKey.put(key, profile);
+            ordered.add(profile);
+
+            // 🔡 First key wins on case-only clashes (same as the old equalsIgnoreCase scan)
+            DifficultyProfile clash = byLowerKey.putIfAbsent(key.toLowerCase(Locale.ROOT), profile);
+            if (clash != null) {
+                plugin.getLogger().warning("⚠️ Difficulty '" + key + "' only differs in case from '" + clash.key() + "'. Lookups will resolve to '" + clash.key() + "'.");
+            }
+            names.add(key);
+        }
+
+        // 🔁 Single volatile write — readers see either the old table or the new one, never a mix
+        difficultyTable = new DifficultyTable(
+                Collections.unmodifiableMap(byKey),
+                Collections.unmodifiableMap(byLowerKey),
+                Collections.unmodifiableList(ordered),
+                Collections.unmodifiableList(names)
+        );
+
+        PickYourDifficulty.debug(() -> "🎚️ Compiled " + ordered.size() + " difficulty profiles: " + names);
+    }
+
+    /** Returns the compiled profile for a difficulty, or {@link DifficultyProfile#UNKNOWN} if not configured */
+    public static DifficultyProfile getProfile(String difficulty) {
+        if (difficulty == null) return DifficultyProfile.UNKNOWN;
+        return difficultyTable.byKey().getOrDefault(difficulty, DifficultyProfile.UNKNOWN);
+    }
+
+    /** Case-insensitive profile lookup; returns null if no difficulty matches */
+    public static DifficultyProfile findProfileIgnoreCase(String difficulty) {
+        if (difficulty == null) return null;
+
+        // 💬 Lowercase index only, so case-only clashes resolve to the first key in
+        //    config order even when the input is an exact match for a later one.
+        // ⚡ toLowerCase() returns the same String when nothing changes — lowercase input costs no copy
+        return difficultyTable.byLowerKey().get(difficulty.toLowerCase(Locale.ROOT));
+    }
+
+    /** Returns all compiled profiles in config order */
+    public static List<DifficultyProfile> getProfiles() {
+        return difficultyTable.ordered();
+    }
+
     /** Returns all difficulty keys defined in config */
     public static List<String> getDifficultyNames() {
-        ConfigurationSection section = config.getConfigurationSection("difficulties");
-        return section != null ? section.getKeys(false).stream().toList() : List.of();
+        return difficultyTable.names();
     }
 
     /** Gets GUI slot number for a given difficulty */
     public static int getSlot(String difficulty) {
-        return config.getInt("difficulties." + difficulty + ".slot", 0);
+        return getProfile(difficulty).slot();
     }
 
     /** Gets item despawn time for a difficulty */
     public static int getDespawnTime(String difficulty) {
-        return config.getInt("difficulties." + difficulty + ".despawn-seconds", 300);
+        return getProfile(difficulty).despawnSeconds();
     }
 
     /** Gets grace period time for a difficulty */
     public static int getGraceTime(String difficulty) {
-        return config.getInt("difficulties." + difficulty + ".grace-playtime-seconds", 0);
+        return getProfile(difficulty).graceSeconds();
     }
 
     /** Returns material of the icon for a difficulty */
     public static String getMaterial(String difficulty) {
-        return config.getString("difficulties." + difficulty + ".icon.material", "STONE");
+        return getProfile(difficulty).iconMaterial();
     }
 
     /** Returns name text of the icon */
     public static String getName(String difficulty) {
-        return config.getString("difficulties." + difficulty + ".icon.name");
+        return getProfile(difficulty).iconName();
     }
 
     /** Returns lore lines for the difficulty's icon */
     public static List<String> getLore(String difficulty) {
-        return config.getStringList("difficulties." + difficulty + ".icon.lore");
+        return getProfile(difficulty).iconLore();
     }
 
     // ╔═══⚙️ Per-Difficulty Commands═══════════════════════════════════════╗
 
     /** Returns a list of console/player commands to run when selecting a difficulty */
     public static List<String> getCommands(String difficulty) {
-        return config.getStringList("difficultyCommands." + difficulty);
+        return getProfile(difficulty).commands();
     }
 
     // ╔═══🛡️ Grace Period Mechanics═══════════════════════════════════════╗
 
     /** Whether grace mode is enabled overall */
     public static boolean enableGraceMode() {
-        return config.getBoolean("graceMode.enabled", true);
+        return gracePolicy.enabled();
+    }
+
+    /** Compiles the `graceMode:` section, warning once per unknown damage cause or world */
+    private static void compileGracePolicy() {
+        // 🔥 Damage causes — validated against the enum once, here
+        EnumSet<EntityDamageEvent.DamageCause> causes = EnumSet.noneOf(EntityDamageEvent.DamageCause.class);
+        for (String name : config.getStringList("graceMode.bypassDamageTypes")) {
+            try {
+                causes.add(EntityDamageEvent.DamageCause.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("⚠️ Unknown damage type '" + name + "' in graceMode.bypassDamageTypes. Ignoring it.");
+            }
+        }
+
+        // 🌍 Excluded worlds — resolved to UIDs; worlds not loaded yet are kept by name
+        Set<UUID> worldIds = new HashSet<>();
+        Set<String> worldNames = new HashSet<>();
+        for (String name : getDisabledOverrideWorlds()) {
+            World world = Bukkit.getWorlds().stream()
+                    .filter(w -> w.getName().equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElse(null);
+
+            if (world != null) {
+                worldIds.add(world.getUID());
+            } else {
+                worldNames.add(name.toLowerCase(Locale.ROOT));
+                plugin.getLogger().warning("⚠️ World '" + name + "' in graceMode.override-worlds.disabled is not loaded. It will be matched by name if it loads later.");
+            }
+        }
+
+        gracePolicy = new GracePolicy(config.getBoolean("graceMode.enabled", true), causes, worldIds, worldNames);
+
+        PickYourDifficulty.debug(() -> "🛡️ Compiled grace policy: causes=" + causes
+                + ", excluded worlds=" + worldIds.size() + " loaded + " + worldNames.size() + " by name");
+    }
+
+    /** Returns the compiled grace settings */
+    public static GracePolicy getGracePolicy() {
+        return gracePolicy;
     }
 
     /** Worlds where grace mode is disabled */
@@ -495,11 +655,90 @@ public class ConfigManager implements Reloadable {
     // ╔═══💬 Messages & MiniMessage Formatting════════════════════════════╗
     // Messages are stored in messages.yml and loaded separately by MessageManager.
 
+    // ╔═══💾 Data Storage═══════════════════════════════════════════════════╗
+
+    /** Storage backend ("yaml" or "sqlite") — read once at startup */
+    public static String getStorageBackend() {
+        return config.getString("storage.backend", "yaml");
+    }
+
+    /** Whether the yaml backend deflates playerdata.dat */
+    public static boolean compressSnapshots() {
+        return config.getBoolean("storage.compressSnapshots", true);
+    }
+
+    /** Whether stored difficulties are kept in a memory-mapped file instead of the heap */
+    public static boolean useMappedDifficultyIndex() {
+        return config.getBoolean("storage.mappedIndex.enabled", false);
+    }
+
+    /** Changed players held in memory before they are merged into the mapped index */
+    public static int getIndexOverlayMax() {
+        return config.getInt("storage.mappedIndex.overlayMax", 4096);
+    }
+
+    /** Whether player records are loaded on login instead of all at startup (sqlite only) */
+    public static boolean useLazyLoading() {
+        return config.getBoolean("storage.lazyLoading.enabled", false);
+    }
+
+    /** Offline players kept in memory after they quit (lazy loading only) */
+    public static int getLazyRecentPlayers() {
+        return config.getInt("storage.lazyLoading.recentPlayers", 1000);
+    }
+
+    /** Ticks between batched writes — pending changes reach the backend at least this often */
+    public static int getJournalSyncIntervalTicks() {
+        return config.getInt("storage.journalSyncIntervalTicks", 20);
+    }
+
+    /** Pending change count that triggers a write before the interval is up */
+    public static int getJournalSyncBatchSize() {
+        return config.getInt("storage.journalSyncBatchSize", 100);
+    }
+
+    /** Journal size (KB) at which it is folded into the YAML files (yaml backend only) */
+    public static int getJournalCompactKb() {
+        return config.getInt("storage.journalCompactKb", 1024);
+    }
+
     // ╔═══🐞 Debug Settings═════════════════════════════════════════════════╗
 
     /** Whether debug info should be logged */
     public static boolean isDebugMode() {
-        return config.getBoolean("debugMode", false);
+        return debugMode;
+    }
+
+    /** Whether debug lines go to logs/debug-N.log on a background thread instead of the console */
+    public static boolean debugLogToFile() {
+        return config.getBoolean("debugLog.toFile", true);
+    }
+
+    /** Lines the debug ring buffer holds before new lines are dropped */
+    public static int getDebugLogBufferSize() {
+        return config.getInt("debugLog.bufferSize", 8192);
+    }
+
+    /** Size at which debug-1.log is rotated, in kilobytes */
+    public static int getDebugLogMaxFileSizeKb() {
+        return config.getInt("debugLog.maxFileSizeKb", 5120);
+    }
+
+    /** Number of rotated debug log files kept */
+    public static int getDebugLogMaxFiles() {
+        return config.getInt("debugLog.maxFiles", 5);
+    }
+
+    /** 1-in-N sampling rate per debug category (missing categories keep every line) */
+    public static Map<String, Integer> getDebugLogSampling() {
+        Map<String, Integer> sampling = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("debugLog.sampling");
+        if (section != null) {
+            for (String category : section.getKeys(false)) {
+                sampling.put(category, section.getInt(category, 1));
+            }
+        }
+        return sampling;
     }
 
     /** Max online players per page in /pyddebug output */
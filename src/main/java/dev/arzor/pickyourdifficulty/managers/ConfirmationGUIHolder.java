@@ -0,0 +1,49 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                  🪪 ConfirmationGUIHolder.java                     ║
+// ║   Marks an inventory as the confirmation GUI and carries the       ║
+// ║   difficulty it is confirming, so no per-player cache is needed.   ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import net.kyori.adventure.text.Component;
+
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+
+// ─────────────────────────────────────────────────────────────
+// 🪪 ConfirmationGUIHolder — Owner of the confirmation inventory
+// ─────────────────────────────────────────────────────────────
+public class ConfirmationGUIHolder implements InventoryHolder {
+
+    private final Inventory inventory;
+
+    // 🎚️ Canonical difficulty key being confirmed in this GUI
+    private final String difficulty;
+
+    // 🎯 Slot → action table from the compiled template (shared, never modified)
+    private final GUISlotAction[] actions;
+
+    // 💬 Creates the holder and the inventory it owns in one step
+    public ConfirmationGUIHolder(int size, Component title, String difficulty, GUISlotAction[] actions) {
+        this.difficulty = difficulty;
+        this.actions = actions;
+        this.inventory = Bukkit.createInventory(this, size, title);
+    }
+
+    // 💬 Click meaning for a raw slot of the open view
+    public GUISlotAction getAction(int rawSlot) {
+        return GUISlotAction.at(actions, rawSlot);
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+}
@@ -0,0 +1,343 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                      🪵 DebugLogManager.java                       ║
+// ║   Asynchronous debug sink: callers push lines into a lock-free     ║
+// ║   ring buffer, a background thread writes them to rotating         ║
+// ║   logs/debug-N.log files. Supports per-category sampling.          ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+// ─────────────────────────────────────────────────────────────
+// 🪵 DebugLogManager — Off-thread debug file writer
+// ─────────────────────────────────────────────────────────────
+// 💬 The calling thread only samples, builds the line and does one CAS.
+//    All formatting of timestamps, file I/O and rotation happens on the
+//    writer thread, so a flood of debug lines never touches the tick.
+// 💬 When the buffer is full new lines are dropped (and counted) instead
+//    of blocking — a noisy log must never stall the server.
+public class DebugLogManager implements Reloadable {
+
+    // ╔═══🏷️ Categories═══════════════════════════════════════════════════╗
+    // 💬 Keys under debugLog.sampling in config.yml
+
+    public static final String GENERAL = "general";
+    public static final String DESPAWN = "despawn";
+    public static final String GRACE = "grace";
+    public static final String HOLOGRAMS = "holograms";
+    public static final String PERMISSIONS = "permissions";
+
+    // ╔═══🔂 Singleton Structure═══════════════════════════════════════════╗
+
+    private static final DebugLogManager instance = new DebugLogManager();
+
+    private DebugLogManager() {} // ❌ Prevent external instantiation
+
+    static {
+        ReloadManager.register(instance); // ⏺️ Restart the writer with the new settings on /pyd reload
+    }
+
+    // ╔═══📦 State═════════════════════════════════════════════════════════╗
+
+    // 💬 Current sink — null when debug mode is off, file logging is disabled
+    //    or the writer thread has failed (it clears itself, see Sink.run)
+    private static final AtomicReference<Sink> sink = new AtomicReference<>();
+
+    // 💬 Sampling rate per category (1 = keep every line) + per-category counters
+    private static volatile Map<String, Sampler> samplers = Map.of();
+
+    // ─────────────────────────────────────────────────────────────
+    // ▶️ Lifecycle
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Starts the writer thread if debug mode + file logging are enabled
+    public static synchronized void start() {
+        stop();
+
+        // 🎲 Sampling applies to console output too, so compile it regardless of the sink
+        Map<String, Sampler> compiled = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : ConfigManager.getDebugLogSampling().entrySet()) {
+            compiled.put(entry.getKey(), new Sampler(Math.max(1, entry.getValue())));
+        }
+        samplers = Map.copyOf(compiled);
+
+        if (!ConfigManager.isDebugMode() || !ConfigManager.debugLogToFile()) return;
+
+        File folder = new File(PickYourDifficulty.getInstance().getDataFolder(), "logs");
+        Sink created = new Sink(
+                folder,
+                ConfigManager.getDebugLogBufferSize(),
+                ConfigManager.getDebugLogMaxFileSizeKb() * 1024L,
+                ConfigManager.getDebugLogMaxFiles());
+        sink.set(created); // 💬 Published before the thread starts, so an early failure can clear it
+        created.thread.start();
+
+        PickYourDifficulty.getInstance().getLogger().info(
+                "🪵 Debug output is being written to " + new File(folder, "debug-1.log").getPath());
+    }
+
+    // 💬 Drains whatever is buffered, closes the file and stops the thread
+    public static synchronized void stop() {
+        Sink current = sink.getAndSet(null);
+        if (current == null) return;
+
+        current.running = false;
+        LockSupport.unpark(current.thread);
+        try {
+            current.thread.join(2000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void reload() {
+        start();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ✍️ Logging Entry Points (called from PickYourDifficulty.debug)
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 True if this line should be kept under the category's 1-in-N sampling
+    public static boolean sample(String category) {
+        Sampler sampler = samplers.get(category);
+        return sampler == null || sampler.keep();
+    }
+
+    // 💬 Queues a line for the writer thread; returns false if no file sink is active
+    public static boolean offer(String category, String message) {
+        Sink current = sink.get();
+        if (current == null) return false;
+
+        current.offer(new Line(System.currentTimeMillis(), Thread.currentThread().getName(), category, message));
+        return true;
+    }
+
+    // 📊 Stats for /pyddebug
+    public static boolean isFileSinkActive() {
+        return sink.get() != null;
+    }
+
+    public static long getDroppedCount() {
+        Sink current = sink.get();
+        return current != null ? current.dropped.get() : 0L;
+    }
+
+    public static long getWrittenCount() {
+        Sink current = sink.get();
+        return current != null ? current.written : 0L;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🎲 Sampler — 1 in N per category
+    // ─────────────────────────────────────────────────────────────
+    private static final class Sampler {
+        private final int every;
+        private final AtomicLong counter = new AtomicLong();
+
+        Sampler(int every) {
+            this.every = every;
+        }
+
+        boolean keep() {
+            return every == 1 || counter.getAndIncrement() % every == 0;
+        }
+    }
+
+    // 🧾 One queued line — formatted on the writer thread
+    private record Line(long timeMillis, String thread, String category, String message) {}
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧺 Sink — Ring buffer + writer thread + rotating file
+    // ─────────────────────────────────────────────────────────────
+    // 💬 Multi-producer / single-consumer ring:
+    //    • producers claim a sequence number with CAS on `head`, then publish
+    //      the line into slot (seq & mask)
+    //    • the writer reads slot (tail & mask); null means "claimed but not yet
+    //      published", so it waits for that producer instead of skipping ahead
+    //    • the writer clears the slot before advancing `tail`, which is what
+    //      frees it for reuse
+    private static final class Sink implements Runnable {
+
+        private static final DateTimeFormatter TIME = DateTimeFormatter
+                .ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+                .withZone(ZoneId.systemDefault());
+
+        // 💬 Writer naps this long when the buffer is empty
+        private static final long IDLE_PARK_NANOS = 50_000_000L; // 50ms
+
+        private final AtomicReferenceArray<Line> slots;
+        private final int mask;
+        private final AtomicLong head = new AtomicLong(); // next sequence to claim
+        private volatile long tail;                       // next sequence to write (writer-owned)
+
+        private final AtomicLong dropped = new AtomicLong();
+        private long reportedDropped;                     // writer-owned
+        private volatile long written;
+
+        private final File folder;
+        private final long maxBytes;
+        private final int maxFiles;
+
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private BufferedWriter out;
+        private long fileBytes;
+
+        Sink(File folder, int capacity, long maxBytes, int maxFiles) {
+            int size = Integer.highestOneBit(Math.max(64, capacity - 1)) << 1; // 🧮 Next power of two
+            this.slots = new AtomicReferenceArray<>(size);
+            this.mask = size - 1;
+            this.folder = folder;
+            this.maxBytes = Math.max(64 * 1024L, maxBytes);
+            this.maxFiles = Math.max(1, maxFiles);
+
+            this.thread = new Thread(this, "PickYourDifficulty-DebugLog");
+            this.thread.setDaemon(true);
+        }
+
+        // ╔═══📥 Producer side═════════════════════════════════════════════╗
+
+        void offer(Line line) {
+            while (true) {
+                long seq = head.get();
+                if (seq - tail >= slots.length()) {
+                    dropped.incrementAndGet(); // 🧺 Full — drop rather than block the caller
+                    return;
+                }
+                if (head.compareAndSet(seq, seq + 1)) {
+                    slots.set((int) seq & mask, line);
+                    return;
+                }
+            }
+        }
+
+        // ╔═══📤 Consumer side═════════════════════════════════════════════╗
+
+        @Override
+        public void run() {
+            try {
+                openFile();
+                while (running || tail != head.get()) {
+                    int drained = drain();
+                    if (drained == 0) {
+                        out.flush();
+                        if (running) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                        else if (tail != head.get()) Thread.onSpinWait(); // ⏳ Producer mid-publish
+                    }
+                }
+                reportDropped();
+            } catch (IOException e) {
+                // 🔌 Unpublish this sink (unless a reload already replaced it),
+                //    so offer() falls back to the console instead of a dead buffer
+                sink.compareAndSet(this, null);
+                PickYourDifficulty.getInstance().getLogger().warning("⚠ Debug log writer failed: " + e.getMessage());
+            } finally {
+                closeQuietly();
+            }
+        }
+
+        // 💬 Writes every published line; returns how many were written
+        private int drain() throws IOException {
+            int count = 0;
+            long seq = tail;
+            while (seq != head.get()) {
+                int index = (int) seq & mask;
+                Line line = slots.get(index);
+                if (line == null) break; // ⏳ Claimed but not yet published
+
+                slots.set(index, null);
+                tail = ++seq;
+                write(line);
+                count++;
+            }
+            if (count > 0) {
+                written += count;
+                reportDropped();
+            }
+            return count;
+        }
+
+        private void reportDropped() throws IOException {
+            long total = dropped.get();
+            if (total != reportedDropped) {
+                writeRaw(TIME.format(Instant.now()) + " [DebugLog] ⚠ " + (total - reportedDropped)
+                        + " line(s) dropped — buffer full\n");
+                reportedDropped = total;
+            }
+        }
+
+        private void write(Line line) throws IOException {
+            writeRaw(TIME.format(Instant.ofEpochMilli(line.timeMillis()))
+                    + " [" + line.thread() + "] [" + line.category() + "] "
+                    + line.message() + "\n");
+        }
+
+        private void writeRaw(String text) throws IOException {
+            if (fileBytes >= maxBytes) rotate();
+            out.write(text);
+            fileBytes += text.length(); // 🧮 Char count — close enough for a size cap
+        }
+
+        // ╔═══🔁 File rotation═════════════════════════════════════════════╗
+        // 💬 debug-1.log is always the live file; older files shift up to debug-<maxFiles>.log
+
+        private void openFile() throws IOException {
+            if (!folder.exists() && !folder.mkdirs()) {
+                throw new IOException("Could not create " + folder.getPath());
+            }
+            File current = file(1);
+            fileBytes = current.length();
+            out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(current, true), StandardCharsets.UTF_8));
+        }
+
+        private void rotate() throws IOException {
+            out.close();
+
+            File oldest = file(maxFiles);
+            if (oldest.exists() && !oldest.delete()) {
+                throw new IOException("Could not delete " + oldest.getPath());
+            }
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                File from = file(i);
+                if (from.exists() && !from.renameTo(file(i + 1))) {
+                    throw new IOException("Could not rotate " + from.getPath());
+                }
+            }
+            openFile();
+        }
+
+        private File file(int index) {
+            return new File(folder, "debug-" + index + ".log");
+        }
+
+        private void closeQuietly() {
+            if (out == null) return;
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 🧼 Nothing useful to do on shutdown
+            }
+        }
+    }
+}
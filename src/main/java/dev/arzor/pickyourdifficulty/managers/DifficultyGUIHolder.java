@@ -0,0 +1,50 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                   🪪 DifficultyGUIHolder.java                      ║
+// ║   Marks an inventory as the difficulty selector GUI so click       ║
+// ║   listeners can recognise it with a single instanceof check, and   ║
+// ║   maps every slot to its click action + difficulty key.            ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import net.kyori.adventure.text.Component;
+
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+
+// ─────────────────────────────────────────────────────────────
+// 🪪 DifficultyGUIHolder — Owner of the selector inventory
+// ─────────────────────────────────────────────────────────────
+public class DifficultyGUIHolder implements InventoryHolder {
+
+    private final Inventory inventory;
+
+    // 🎯 Slot → action, and slot → canonical difficulty key (null unless SELECT/LOCKED)
+    //    Shared with the cached layout they were rendered from — never modified.
+    private final GUISlotAction[] actions;
+    private final String[] difficulties;
+
+    // 💬 Creates the holder and the inventory it owns in one step
+    public DifficultyGUIHolder(int size, Component title, GUISlotAction[] actions, String[] difficulties) {
+        this.actions = actions;
+        this.difficulties = difficulties;
+        this.inventory = Bukkit.createInventory(this, size, title);
+    }
+
+    // 💬 Click meaning for a raw slot of the open view
+    public GUISlotAction getAction(int rawSlot) {
+        return GUISlotAction.at(actions, rawSlot);
+    }
+
+    // 💬 Difficulty shown at a raw slot (null for non-icon slots)
+    public String getDifficulty(int rawSlot) {
+        return rawSlot >= 0 && rawSlot < difficulties.length ? difficulties[rawSlot] : null;
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+}
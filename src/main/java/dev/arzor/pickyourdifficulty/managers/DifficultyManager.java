@@ -21,12 +21,11 @@ public class DifficultyManager {
     // ╔═══✅ Validate difficulty from config═════════════════════════════╗
     public static boolean isValidDifficulty(String difficultyKey) {
 
-        // 💬 Case-insensitive check: does any config key match this input?
-        boolean valid = ConfigManager.getDifficultyNames().stream()
-                .anyMatch(name -> name.equalsIgnoreCase(difficultyKey));
+        // 💬 Case-insensitive check via the prebuilt lowercase → profile index
+        boolean valid = findProfile(difficultyKey) != null;
 
         // 🧪 Debug: show result of validity check
-        PickYourDifficulty.debug("Validating difficulty key: '" + difficultyKey + "' → " + valid);
+        PickYourDifficulty.debug(() -> "Validating difficulty key: '" + difficultyKey + "' → " + valid);
 
         return valid;
     }
@@ -38,7 +37,7 @@ public class DifficultyManager {
         List<String> names = ConfigManager.getDifficultyNames();
 
         // 🧪 Debug: log loaded keys
-        PickYourDifficulty.debug("Loaded difficulty keys from config: " + names);
+        PickYourDifficulty.debug(() -> "Loaded difficulty keys from config: " + names);
 
         return names;
     }
@@ -48,17 +47,22 @@ public class DifficultyManager {
 
         // 💬 Match the case-insensitive input against known difficulty keys
         // 🔁 Return the exact-cased config key if found (e.g., "Hardcore" instead of "hardcore")
-        String canonical = ConfigManager.getDifficultyNames().stream()
-                .filter(name -> name.equalsIgnoreCase(input))
-                .findFirst()
-                .orElse(null); // 👻 Return null if no match found
+        DifficultyProfile profile = findProfile(input);
+        String canonical = profile != null ? profile.key() : null; // 👻 null if no match found
 
         // 🧪 Debug: log canonical resolution result
-        PickYourDifficulty.debug("Resolving canonical difficulty key: input = '" + input + "', resolved = " + canonical);
+        PickYourDifficulty.debug(() -> "Resolving canonical difficulty key: input = '" + input + "', resolved = " + canonical);
 
         return canonical;
     }
 
+    // ╔═══🔍 O(1) case-insensitive profile lookup══════════════════════╗
+    // 💬 Backed by an index compiled alongside the DifficultyProfile table,
+    //    so it is rebuilt by ConfigManager.reload() on /pyd reload.
+    public static DifficultyProfile findProfile(String input) {
+        return ConfigManager.findProfileIgnoreCase(input);
+    }
+
     // ╔═══🔐 Permission check for selecting a difficulty═════════════════╗
     public static boolean cannotSelect(Player player, String difficulty) {
 
@@ -69,9 +73,9 @@ public class DifficultyManager {
         boolean hasPermission = PermissionUtil.has(player, node);
 
         // 🧪 Debug: log permission check result
-        PickYourDifficulty.debug("Checking if " + player.getName() + " can select '" + difficulty + "' → " + hasPermission + " (perm: " + node + ")");
+        PickYourDifficulty.debug(() -> "Checking if " + player.getName() + " can select '" + difficulty + "' → " + hasPermission + " (perm: " + node + ")");
 
-        return hasPermission;
+        return !hasPermission;
     }
 
     // ╔═══🧾 Difficulty summary for tooltips or info═════════════════════╗
@@ -85,7 +89,7 @@ public class DifficultyManager {
         String summary = "⏱️ Grace: " + grace + "s | 🧺 Despawn: " + despawn + "s";
 
         // 🧪 Debug: log formatted summary
-        PickYourDifficulty.debug("Generated summary for '" + difficulty + "': " + summary);
+        PickYourDifficulty.debug(() -> "Generated summary for '" + difficulty + "': " + summary);
 
         return summary;
     }
@@ -97,7 +101,7 @@ public class DifficultyManager {
         String fallback = ConfigManager.getFallbackDifficulty();
 
         // 🧪 Debug: log fallback result
-        PickYourDifficulty.debug("Resolved fallback difficulty: " + fallback);
+        PickYourDifficulty.debug(() -> "Resolved fallback difficulty: " + fallback);
 
         return fallback;
     }
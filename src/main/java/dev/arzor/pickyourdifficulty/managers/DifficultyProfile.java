@@ -0,0 +1,48 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                    🎚️ DifficultyProfile.java                       ║
+// ║   Immutable, pre-compiled view of one entry under `difficulties:`  ║
+// ║   Built by ConfigManager on load/reload — never read from YAML     ║
+// ║   again on hot paths (item spawns, damage, placeholders).          ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import java.util.List;
+
+// ─────────────────────────────────────────────────────────────
+// 🎚️ DifficultyProfile — One compiled difficulty preset
+// ─────────────────────────────────────────────────────────────
+// 💬 key            → Difficulty key exactly as written in config.yml
+// 💬 ordinal        → Position in the `difficulties:` section (-1 = unknown)
+// 💬 slot           → GUI slot of the icon
+// 💬 despawnSeconds → Item despawn time for this difficulty
+// 💬 graceSeconds   → Playtime-based grace period for this difficulty
+// 💬 iconMaterial / iconName / iconLore → Raw GUI icon settings
+// 💬 commands       → Entries under `difficultyCommands.<key>`
+public record DifficultyProfile(
+        String key,
+        int ordinal,
+        int slot,
+        int despawnSeconds,
+        int graceSeconds,
+        String iconMaterial,
+        String iconName,
+        List<String> iconLore,
+        List<String> commands
+) {
+
+    // 🧱 Defaults mirror the old per-call getters (slot 0, 300s despawn, no grace, STONE icon)
+    public static final DifficultyProfile UNKNOWN =
+            new DifficultyProfile("", -1, 0, 300, 0, "STONE", null, List.of(), List.of());
+
+    public DifficultyProfile {
+        // 🔒 Defensive copies so a profile can be shared freely across threads
+        iconLore = List.copyOf(iconLore);
+        commands = List.copyOf(commands);
+    }
+
+    // 💬 True if this profile came from config (not the UNKNOWN fallback)
+    public boolean isConfigured() {
+        return ordinal >= 0;
+    }
+}
@@ -7,35 +7,31 @@
 package dev.arzor.pickyourdifficulty.managers;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
 import dev.arzor.pickyourdifficulty.storage.CooldownTracker;
 import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
-import dev.arzor.pickyourdifficulty.utils.TextUtil;
 import dev.arzor.pickyourdifficulty.utils.TimeFormatUtil;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 
-import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 // ─────────────────────────────────────────────────────────────
 // 🎨 GUIManager — Opens main difficulty GUI for players
 // ─────────────────────────────────────────────────────────────
-public class GUIManager {
+public class GUIManager implements Reloadable {
 
     // ╔═══════════════════════════════════════════════════════╗
     // ║                 🔂 Singleton Structure                ║
     // ╚═══════════════════════════════════════════════════════╝
 
-    private static final MiniMessage mm = MiniMessage.miniMessage();
     private static final GUIManager instance = new GUIManager(); // 🧩 Singleton
 
     public static GUIManager getInstance() {
@@ -44,12 +40,48 @@ public class GUIManager {
 
     private GUIManager() {} // ❌ Prevent external instantiation
 
+    static {
+        ReloadManager.register(instance); // ⏺️ Drop rendered layouts when templates are recompiled
+    }
+
 
     // ╔═══════════════════════════════════════════════════════╗
-    // ║                🧠 Player Selection Cache              ║
+    // ║              🗂️ Rendered Layout Cache (LRU)            ║
     // ╚═══════════════════════════════════════════════════════╝
 
-    private final Map<Player, String> selectionCache = new HashMap<>();
+    // 💬 Max distinct layouts kept — one per (permission set, placeholder values) combo
+    private static final int MAX_RENDERED_LAYOUTS = 64;
+
+    // 🔑 Permission bitmask (bit i = icon i permitted) + resolved player-dependent text.
+    //    The resolved strings are compared exactly, so a hash collision can never
+    //    show one player another player's placeholder values.
+    private record LayoutKey(long permissionMask, List<String> resolvedText) {}
+
+    // 🖼️ Fully rendered GUI — contents are copied into each new inventory; the slot
+    //    tables are shared by every holder opened from this layout. Never mutated.
+    private record RenderedLayout(Component title, ItemStack[] contents, GUISlotAction[] actions, String[] difficulties) {}
+
+    // 🧠 Access-ordered map → eldest entry is the least recently opened layout
+    private final Map<LayoutKey, RenderedLayout> layoutCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LayoutKey, RenderedLayout> eldest) {
+            return size() > MAX_RENDERED_LAYOUTS;
+        }
+    };
+
+    // 📌 Template the cached layouts were rendered from
+    private GUITemplateCache.SelectorTemplate layoutTemplate;
+
+    // 📊 Simple counters for /pyddebug
+    private long layoutHits;
+    private long layoutMisses;
+
+    @Override
+    public void reload() {
+        layoutCache.clear();
+        layoutTemplate = null;
+        PickYourDifficulty.debug("🗂️ Cleared rendered GUI layout cache");
+    }
 
 
     // ─────────────────────────────────────────────────────────────
@@ -64,129 +96,126 @@ public class GUIManager {
             // 🧮 Format seconds into a readable string
             String formattedTime = TimeFormatUtil.formatCooldown(secondsLeft);
 
-            // 💬 Send denial message with placeholder replaced manually
-            String raw = MessagesManager.get("gui.cooldown-wait").replace("<time>", formattedTime);
-            player.sendMessage(mm.deserialize(raw));
+            // 💬 Send denial message with <time> filled in
+            player.sendMessage(MessagesManager.format(MessageKey.GUI_COOLDOWN_WAIT, MessagesManager.placeholder("time", formattedTime)));
 
             // 🔊 Play cooldown denial sound
             SoundManager.playDeniedSound(player, false);
 
             // 🧪 Debug: cooldown message triggered
-            PickYourDifficulty.debug("GUI not opened — cooldown active for " + player.getName() + " (" + formattedTime + ")");
+            PickYourDifficulty.debug(() -> "GUI not opened — cooldown active for " + player.getName() + " (" + formattedTime + ")");
             return;
         }
 
         // 🧪 Debug: Begin building GUI
-        PickYourDifficulty.debug("Building difficulty GUI for " + player.getName());
+        PickYourDifficulty.debug(() -> "Building difficulty GUI for " + player.getName());
+
+        // 📦 Step 1: Fingerprint this viewer — which icons they may pick + their placeholder values
+        GUITemplateCache.SelectorTemplate template = GUITemplateCache.getSelectorTemplate();
+        if (template != layoutTemplate) {
+            // ♻️ Templates were recompiled since the last open — cached layouts are stale
+            layoutCache.clear();
+            layoutTemplate = template;
+        }
 
-        // 📦 Step 1: Build GUI inventory object
-        String rawTitle = ConfigManager.getGuiTitle();
-        Component title = mm.deserialize(TextUtil.replacePlaceholders(rawTitle, player));
+        List<GUITemplateCache.IconTemplate> icons = template.icons();
+        long permissionMask = 0L;
+        for (int i = 0; i < icons.size(); i++) {
+            if (PermissionUtil.has(player, icons.get(i).permission())) {
+                permissionMask |= 1L << i;
+            }
+        }
 
-        int rows = ConfigManager.getGuiRows();
-        int size = Math.max(rows * 9, 9); // 🧮 Ensure inventory is always minimum 1 row (9 slots)
+        // 📦 Step 2: Reuse a rendered layout, or render and remember it
+        RenderedLayout layout;
+        if (icons.size() <= Long.SIZE) {
+            LayoutKey key = new LayoutKey(permissionMask, template.resolvePlayerText(player));
+            layout = layoutCache.get(key);
+
+            if (layout == null) {
+                layoutMisses++;
+                layout = renderLayout(template, player, permissionMask);
+                layoutCache.put(key, layout);
+            } else {
+                layoutHits++;
+                PickYourDifficulty.debug(() -> "🗂️ Reusing rendered GUI layout for " + player.getName());
+            }
+        } else {
+            // 🧮 More icons than mask bits — render uncached (never happens with sane configs)
+            layout = renderLayout(template, player, permissionMask);
+        }
 
-        Inventory gui = Bukkit.createInventory(null, size, title);
+        // 📦 Step 3: Build GUI inventory object (setContents copies the cached stacks)
+        //    The holder type is how click listeners recognise this GUI.
+        Inventory gui = new DifficultyGUIHolder(template.size(), layout.title(), layout.actions(), layout.difficulties()).getInventory();
+        gui.setContents(layout.contents());
 
-        // 📦 Step 2: Optional GUI filler item
-        if (ConfigManager.fillGuiEmpty()) {
-            Material fillerMaterial = Material.getMaterial(ConfigManager.getGuiFillerItemMaterial().toUpperCase());
+        // 📦 Step 4: Open the GUI
+        player.openInventory(gui);
+        SoundManager.playGuiOpenSound(player);
 
-            if (fillerMaterial != null) {
-                ItemStack filler = new ItemStack(fillerMaterial);
-                ItemMeta meta = filler.getItemMeta();
+        // 🧪 Debug: GUI opened
+        PickYourDifficulty.debug(() -> "GUI opened for " + player.getName() + " (" + layoutCache.size() + " layouts cached)");
+    }
 
-                if (meta != null) {
-                    meta.displayName(mm.deserialize(ConfigManager.getGuiFillerItemName()));
-                    List<String> rawLore = ConfigManager.getGuiFillerItemLore();
-                    meta.lore(TextUtil.deserializeMiniMessageList(rawLore));
-                    filler.setItemMeta(meta);
-                }
+    // ─────────────────────────────────────────────────────────────
+    // 🖌️ renderLayout — Render the selector for one permission set
+    // ─────────────────────────────────────────────────────────────
+    private RenderedLayout renderLayout(GUITemplateCache.SelectorTemplate template, Player player, long permissionMask) {
+        int size = template.size();
+        ItemStack[] contents = new ItemStack[size];
+        GUISlotAction[] actions = new GUISlotAction[size];
+        String[] difficulties = new String[size];
 
-                // 🔁 Fill all slots with filler
-                for (int i = 0; i < size; i++) {
-                    gui.setItem(i, filler);
-                }
+        // 🧪 Debug: Begin building GUI
+        PickYourDifficulty.debug(() -> "Rendering difficulty GUI layout for " + player.getName());
 
-                // 🧪 Debug: filler applied
-                PickYourDifficulty.debug("Filler items added to GUI (" + size + " slots)");
-            }
+        // 🧱 Optional GUI filler item
+        ItemStack filler = template.filler();
+        Arrays.fill(actions, filler != null ? GUISlotAction.FILLER : GUISlotAction.NONE);
+        if (filler != null) {
+            Arrays.fill(contents, filler);
         }
 
-        // 📦 Step 3: Add difficulty options
-        for (String difficultyId : ConfigManager.getDifficultyNames()) {
-
-            // 🔐 Permission check
-            String perm = "pickyourdifficulty.difficulty." + difficultyId.toLowerCase();
-            boolean hasPermission = PermissionUtil.has(player, perm);
-
-            Material iconMaterial = Material.getMaterial(ConfigManager.getMaterial(difficultyId).toUpperCase());
-            if (iconMaterial == null) {
-                if (ConfigManager.isDebugMode()) {
-                    PickYourDifficulty.debug("⚠️ Skipping difficulty '" + difficultyId + "' — invalid material.");
-                }
+        // 🎚️ Difficulty options
+        List<GUITemplateCache.IconTemplate> icons = template.icons();
+        for (int i = 0; i < icons.size(); i++) {
+            GUITemplateCache.IconTemplate icon = icons.get(i);
+            String difficultyId = icon.profile().key();
+            boolean hasPermission = i < Long.SIZE
+                    ? (permissionMask & (1L << i)) != 0
+                    : PermissionUtil.has(player, icon.permission());
+
+            if (!hasPermission && template.hideLocked()) { // 🔒 Completely skip if hidden
+                PickYourDifficulty.debug(() -> "🔒 Hiding unselectable difficulty: " + difficultyId);
                 continue;
             }
 
-            int slot = ConfigManager.getSlot(difficultyId);
-            String name = ConfigManager.getName(difficultyId);
-            List<String> rawLore = ConfigManager.getLore(difficultyId);
-
-            ItemStack icon = new ItemStack(iconMaterial);
-            ItemMeta meta = icon.getItemMeta();
-
-            if (meta != null) {
-                // 🎨 Name and lore with placeholders replaced
-                Component displayName = mm.deserialize(TextUtil.replacePlaceholders(name, player));
-
-                // 🧩 Replace placeholders in each lore line before converting to MiniMessage Components
-                List<Component> loreLines = TextUtil.deserializeMiniMessageList(
-                        rawLore.stream()
-                                .map(line -> TextUtil.replacePlaceholders(line, player))
-                                .toList()
-                );
-
-                if (!hasPermission) {
-                    if (ConfigManager.hideUnselectableDifficulties()) { // 🔒 Completely skip if hidden
-                        if (ConfigManager.isDebugMode()) {
-                            PickYourDifficulty.debug("🔒 Hiding unselectable difficulty: " + difficultyId);
-                        }
-                        continue;
-                    }
-
-                    // 🛑 Show grayed-out unselectable version
-                    displayName = displayName.color(net.kyori.adventure.text.format.NamedTextColor.GRAY);
-                    meta.displayName(displayName);
-
-                    Component hoverLine = mm.deserialize(MessagesManager.get("gui.no-permission-hover"));
-                    meta.lore(List.of(hoverLine));
-                } else {
-                    meta.displayName(displayName);
-                    meta.lore(loreLines);
-                }
-
-                icon.setItemMeta(meta);
-            }
-
-            // ⬇️ Place in slot and store in cache if allowed
+            int slot = icon.slot();
             if (slot >= 0 && slot < size) {
-                gui.setItem(slot, icon);
-                if (hasPermission) {
-                    // 💾 Cache the player's last valid difficulty selection for confirmation tracking
-                    selectionCache.put(player, difficultyId.toLowerCase());
-                }
+                contents[slot] = icon.render(player, hasPermission);
+                actions[slot] = hasPermission ? GUISlotAction.SELECT : GUISlotAction.LOCKED;
+                difficulties[slot] = difficultyId;
 
                 // 🧪 Debug: icon placed
-                PickYourDifficulty.debug("🪪 Placed icon for '" + difficultyId + "' at slot " + slot + " (permitted=" + hasPermission + ")");
+                PickYourDifficulty.debug(() -> "🪪 Placed icon for '" + difficultyId + "' at slot " + slot + " (permitted=" + hasPermission + ")");
             }
         }
 
-        // 📦 Step 4: Open the GUI
-        player.openInventory(gui);
-        SoundManager.playGuiOpenSound(player);
+        return new RenderedLayout(template.title(player), contents, actions, difficulties);
+    }
 
-        // 🧪 Debug: GUI opened
-        PickYourDifficulty.debug("GUI opened for " + player.getName() + " (" + selectionCache.size() + " selections cached)");
+    // 📊 Rendered layout cache stats for /pyddebug
+    public int getCachedLayoutCount() {
+        return layoutCache.size();
+    }
+
+    public long getLayoutCacheHits() {
+        return layoutHits;
+    }
+
+    public long getLayoutCacheMisses() {
+        return layoutMisses;
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -201,42 +230,28 @@ public class GUIManager {
         String canonical = DifficultyManager.getCanonicalKey(normalized);
 
         // 🧪 Debug: click processing
-        PickYourDifficulty.debug("Player clicked difficulty: " + difficultyId);
-        PickYourDifficulty.debug("Resolved canonical difficulty: " + canonical);
+        PickYourDifficulty.debug(() -> "Player clicked difficulty: " + difficultyId);
+        PickYourDifficulty.debug(() -> "Resolved canonical difficulty: " + canonical);
 
         // ❌ If canonical couldn't be resolved, warn and exit
         if (canonical == null) {
             PickYourDifficulty.getInstance().getLogger().warning(
                     "[PickYourDifficulty] Failed to find valid difficulty key: '" + difficultyId + "'"
             );
-            player.sendMessage(MiniMessage.miniMessage().deserialize(
-                    MessagesManager.get("error.invalid-difficulty")
-            ));
+            player.sendMessage(MessagesManager.format(MessageKey.ERROR_INVALID_DIFFICULTY));
             SoundManager.playCancelSound(player);
             return;
         }
 
         // 📋 If confirmation is required, open confirmation GUI
         if (ConfigManager.requireConfirmation()) {
-            PickYourDifficulty.debug("Opening confirmation GUI for " + player.getName() + " → " + canonical);
+            PickYourDifficulty.debug(() -> "Opening confirmation GUI for " + player.getName() + " → " + canonical);
             ConfirmationGUIManager.openConfirmGUI(player, canonical);
         } else {
-            PickYourDifficulty.debug("Confirmation bypassed — accepting selection directly for " + player.getName() + " → " + canonical);
+            PickYourDifficulty.debug(() -> "Confirmation bypassed — accepting selection directly for " + player.getName() + " → " + canonical);
 
             // ✅ No confirmation required — finalize difficulty selection directly
             ConfirmationGUIManager.acceptSelection(player, canonical);
         }
     }
-
-    // ─────────────────────────────────────────────────────────────
-    // 🧠 getLastSelectedDifficulty — Retrieve last clicked difficulty
-    // ─────────────────────────────────────────────────────────────
-    public String getLastSelectedDifficulty(Player player) {
-        String cached = selectionCache.get(player);
-
-        // 🧪 Debug: return from cache
-        PickYourDifficulty.debug("getLastSelectedDifficulty(): " + player.getName() + " → " + cached);
-
-        return cached;
-    }
 }
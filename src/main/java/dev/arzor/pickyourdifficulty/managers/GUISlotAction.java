@@ -0,0 +1,39 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                     🎯 GUISlotAction.java                          ║
+// ║   What a click on a given slot of a plugin GUI means. Each GUI     ║
+// ║   holder carries one entry per slot, filled in at render time.     ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+// ─────────────────────────────────────────────────────────────
+// 🎯 GUISlotAction — Slot → click meaning
+// ─────────────────────────────────────────────────────────────
+public enum GUISlotAction {
+
+    // ⬜ Empty slot (or outside the GUI) — nothing happens
+    NONE,
+
+    // 🧱 Filler pane
+    FILLER,
+
+    // ✅ Selectable difficulty icon (selector GUI)
+    SELECT,
+
+    // 🔒 Difficulty icon the viewer lacks permission for (selector GUI)
+    LOCKED,
+
+    // 📘 Info banner (confirmation GUI)
+    INFO,
+
+    // ✅ Confirm button (confirmation GUI)
+    CONFIRM,
+
+    // ❌ Cancel button (confirmation GUI)
+    CANCEL;
+
+    // 💬 Safe lookup — raw slots from the player's own inventory map to NONE
+    public static GUISlotAction at(GUISlotAction[] actions, int rawSlot) {
+        return rawSlot >= 0 && rawSlot < actions.length ? actions[rawSlot] : NONE;
+    }
+}
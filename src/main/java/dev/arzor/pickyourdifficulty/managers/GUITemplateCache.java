@@ -0,0 +1,392 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                    🧱 GUITemplateCache.java                        ║
+// ║   Pre-built ItemStack prototypes for the difficulty selector and   ║
+// ║   confirmation GUIs. Compiled on enable and on /pyd reload so      ║
+// ║   opening a GUI never resolves materials or parses MiniMessage     ║
+// ║   for parts that do not depend on the viewing player.              ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
+import dev.arzor.pickyourdifficulty.utils.PlaceholderText;
+import dev.arzor.pickyourdifficulty.utils.TextUtil;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// ─────────────────────────────────────────────────────────────
+// 🧱 GUITemplateCache — Immutable GUI prototypes
+// ─────────────────────────────────────────────────────────────
+// 💬 Prototypes are handed straight to Inventory#setItem, which copies
+//    the stack into the inventory — so they are never mutated and need
+//    no clone on the static path.
+// 💬 Only items whose name/lore contain player placeholders are cloned
+//    and re-rendered per viewer.
+public class GUITemplateCache implements Reloadable {
+
+    private static final MiniMessage mm = MiniMessage.miniMessage();
+
+    // 📦 Current templates — replaced as a whole on compile()
+    private static volatile SelectorTemplate selectorTemplate;
+    private static volatile ConfirmTemplate confirmTemplate;
+
+    // ╔═══🔁 Reload Registration═════════════════════════════════════════╗
+
+    static {
+        ReloadManager.register(new GUITemplateCache()); // ⏺️ Recompile after config/messages reload
+    }
+
+    @Override
+    public void reload() {
+        compile();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧾 Template Records
+    // ─────────────────────────────────────────────────────────────
+
+    // 🎚️ One difficulty icon — both the selectable and the locked (no permission) look
+    public record IconTemplate(
+            DifficultyProfile profile,
+            String permission,
+            int slot,
+            ItemStack selectable,
+            ItemStack locked,
+            PlaceholderText name,
+            List<PlaceholderText> lore,
+            boolean playerDependent
+    ) {
+
+        // 💬 Returns the stack to place for this viewer (prototype when nothing varies per player)
+        public ItemStack render(Player player, boolean permitted) {
+            if (!playerDependent) {
+                return permitted ? selectable : locked;
+            }
+
+            ItemStack icon = (permitted ? selectable : locked).clone();
+            ItemMeta meta = icon.getItemMeta();
+            if (meta == null) return icon;
+
+            Component displayName = parse(name, player);
+            if (permitted) {
+                meta.displayName(displayName);
+                meta.lore(parseScannedLines(lore, player));
+            } else if (displayName != null) {
+                // 🛑 Locked lore is static — only the grayed-out name carries placeholders
+                meta.displayName(displayName.color(NamedTextColor.GRAY));
+            }
+
+            icon.setItemMeta(meta);
+            return icon;
+        }
+    }
+
+    // 🪟 Difficulty selector GUI
+    public record SelectorTemplate(
+            PlaceholderText rawTitle,
+            Component staticTitle,
+            int size,
+            ItemStack filler,
+            boolean hideLocked,
+            List<IconTemplate> icons
+    ) {
+
+        // 💬 Static title when possible, otherwise resolved for the viewer
+        public Component title(Player player) {
+            return staticTitle != null ? staticTitle : parse(rawTitle, player);
+        }
+
+        // 💬 Every player-dependent string with placeholders resolved for this viewer.
+        //    Two viewers with equal lists (and equal permissions) see an identical GUI.
+        public List<String> resolvePlayerText(Player player) {
+            List<String> resolved = new ArrayList<>();
+            if (staticTitle == null) {
+                resolved.add(rawTitle.resolve(player));
+            }
+            for (IconTemplate icon : icons) {
+                if (!icon.playerDependent()) continue;
+                if (icon.name() != null) {
+                    resolved.add(icon.name().resolve(player));
+                }
+                for (PlaceholderText line : icon.lore()) {
+                    resolved.add(line.resolve(player));
+                }
+            }
+            return resolved;
+        }
+    }
+
+    // ✅ Confirmation GUI — banner and title are pre-rendered per difficulty
+    public record ConfirmTemplate(
+            int size,
+            ItemStack filler,
+            int infoSlot,
+            Map<String, ItemStack> infoBanners,
+            int confirmSlot,
+            ItemStack confirmButton,
+            int cancelSlot,
+            ItemStack cancelButton,
+            Map<String, PlaceholderText> rawTitles,
+            Map<String, Component> staticTitles,
+            GUISlotAction[] actions
+    ) {
+
+        public ItemStack infoBanner(String difficulty) {
+            return infoBanners.get(difficulty);
+        }
+
+        public Component title(String difficulty, Player player) {
+            Component cached = staticTitles.get(difficulty);
+            if (cached != null) return cached;
+
+            // 🧩 Unknown difficulty or player-dependent title → resolve now
+            PlaceholderText raw = rawTitles.get(difficulty);
+            if (raw == null) {
+                raw = PlaceholderText.of(ConfigManager.getConfirmationGuiTitle().replace("<difficulty>", difficulty));
+            }
+            return parse(raw, player);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧭 Accessors
+    // ─────────────────────────────────────────────────────────────
+
+    public static SelectorTemplate getSelectorTemplate() {
+        if (selectorTemplate == null) compile();
+        return selectorTemplate;
+    }
+
+    public static ConfirmTemplate getConfirmTemplate() {
+        if (confirmTemplate == null) compile();
+        return confirmTemplate;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🛠️ Compile — Build every prototype from config.yml
+    // ─────────────────────────────────────────────────────────────
+
+    public static void compile() {
+        selectorTemplate = compileSelector();
+        confirmTemplate = compileConfirm();
+
+        PickYourDifficulty.debug(() -> "🧱 GUI templates compiled (" + selectorTemplate.icons().size() + " difficulty icons)");
+    }
+
+    private static SelectorTemplate compileSelector() {
+        int size = Math.max(ConfigManager.getGuiRows() * 9, 9); // 🧮 Minimum 1 row (9 slots)
+
+        // 🏷️ Player-dependent text is scanned for tokens once here, not per open
+        PlaceholderText rawTitle = PlaceholderText.of(ConfigManager.getGuiTitle());
+        Component staticTitle = rawTitle.isStatic() ? mm.deserialize(rawTitle.raw()) : null;
+
+        // 🧱 Filler
+        ItemStack filler = null;
+        if (ConfigManager.fillGuiEmpty()) {
+            filler = buildItem(ConfigManager.getGuiFillerItemMaterial(),
+                    ConfigManager.getGuiFillerItemName(),
+                    ConfigManager.getGuiFillerItemLore(),
+                    "gui.filler-item");
+        }
+
+        // 🛑 Locked hover line is the same for every difficulty
+        Component noPermissionLine = MessagesManager.format(MessageKey.GUI_NO_PERMISSION_HOVER);
+
+        // 🎚️ Difficulty icons
+        List<IconTemplate> icons = new ArrayList<>();
+        for (DifficultyProfile profile : ConfigManager.getProfiles()) {
+            Material material = resolveMaterial(profile.iconMaterial(), "difficulties." + profile.key() + ".icon");
+            if (material == null) continue;
+
+            PlaceholderText name = PlaceholderText.of(profile.iconName());
+            List<PlaceholderText> lore = profile.iconLore().stream().map(PlaceholderText::of).toList();
+            boolean playerDependent = (name != null && !name.isStatic())
+                    || lore.stream().anyMatch(line -> !line.isStatic());
+
+            // ✅ Selectable look (raw text is parsed without player context; re-rendered later if dependent)
+            ItemStack selectable = new ItemStack(material);
+            ItemMeta meta = selectable.getItemMeta();
+            Component displayName = parse(profile.iconName(), null);
+            if (meta != null) {
+                meta.displayName(displayName);
+                meta.lore(parseLines(profile.iconLore(), null));
+                selectable.setItemMeta(meta);
+            }
+
+            // 🔒 Locked look — grayed-out name + no-permission hover
+            ItemStack locked = new ItemStack(material);
+            ItemMeta lockedMeta = locked.getItemMeta();
+            if (lockedMeta != null) {
+                if (displayName != null) {
+                    lockedMeta.displayName(displayName.color(NamedTextColor.GRAY));
+                }
+                lockedMeta.lore(List.of(noPermissionLine));
+                locked.setItemMeta(lockedMeta);
+            }
+
+            String permission = "pickyourdifficulty.difficulty." + profile.key().toLowerCase(Locale.ROOT);
+            icons.add(new IconTemplate(profile, permission, profile.slot(), selectable, locked, name, lore, playerDependent));
+        }
+
+        return new SelectorTemplate(rawTitle, staticTitle, size, filler,
+                ConfigManager.hideUnselectableDifficulties(), Collections.unmodifiableList(icons));
+    }
+
+    private static ConfirmTemplate compileConfirm() {
+        int size = Math.max(ConfigManager.getConfirmationGuiRows() * 9, 9);
+        boolean lockedMode = ConfigManager.lockInDifficulty();
+
+        // 🧱 Filler
+        ItemStack filler = null;
+        if (ConfigManager.fillConfirmationGuiEmpty()) {
+            filler = buildItem(ConfigManager.getConfirmationGuiFillerMaterial(),
+                    ConfigManager.getConfirmationGuiFillerName(),
+                    ConfigManager.getConfirmationGuiFillerLore(),
+                    "confirmationGUI.filler-item");
+        }
+
+        // 🧾 Titles + info banners, one per difficulty (<difficulty> baked in)
+        String rawTitle = ConfigManager.getConfirmationGuiTitle();
+        Map<String, PlaceholderText> rawTitles = new HashMap<>();
+        Map<String, Component> staticTitles = new HashMap<>();
+        Map<String, ItemStack> infoBanners = new HashMap<>();
+
+        Material infoMaterial = ConfigManager.isInfoBannerEnabled()
+                ? resolveMaterial(ConfigManager.getInfoBannerMaterial(), "confirmationGUI.buttons.info-banner")
+                : null;
+        String infoName = lockedMode ? ConfigManager.getLockedInfoBannerName() : ConfigManager.getInfoBannerName();
+        List<String> infoLore = lockedMode ? ConfigManager.getLockedInfoBannerLore() : ConfigManager.getInfoBannerLore();
+
+        for (String difficulty : ConfigManager.getDifficultyNames()) {
+            PlaceholderText title = PlaceholderText.of(rawTitle.replace("<difficulty>", difficulty));
+            rawTitles.put(difficulty, title);
+            if (title.isStatic()) {
+                staticTitles.put(difficulty, mm.deserialize(title.raw()));
+            }
+
+            if (infoMaterial != null) {
+                ItemStack info = new ItemStack(infoMaterial);
+                ItemMeta meta = info.getItemMeta();
+                if (meta != null) {
+                    meta.displayName(parse(infoName.replace("<difficulty>", difficulty), null));
+                    meta.lore(parseLines(infoLore.stream()
+                            .map(line -> line.replace("<difficulty>", difficulty))
+                            .toList(), null));
+                    info.setItemMeta(meta);
+                }
+                infoBanners.put(difficulty, info);
+            }
+        }
+
+        // ✅ Confirm button (appearance changes if locked difficulty mode is enabled)
+        ItemStack confirm = lockedMode
+                ? buildItem(ConfigManager.getLockedConfirmButtonMaterial(),
+                        ConfigManager.getLockedConfirmButtonName(),
+                        ConfigManager.getLockedConfirmButtonLore(),
+                        "confirmationGUI.overrides.locked.buttons.confirm-button")
+                : buildItem(ConfigManager.getConfirmButtonMaterial(),
+                        ConfigManager.getConfirmButtonName(),
+                        ConfigManager.getConfirmButtonLore(),
+                        "confirmationGUI.buttons.confirm-button");
+
+        // ❌ Cancel button
+        ItemStack cancel = buildItem(ConfigManager.getCancelButtonMaterial(),
+                ConfigManager.getCancelButtonName(),
+                ConfigManager.getCancelButtonLore(),
+                "confirmationGUI.buttons.cancel-button");
+
+        // 🎯 Slot → action table, written in the same order items are placed (later wins)
+        int infoSlot = ConfigManager.getInfoBannerSlot();
+        int confirmSlot = ConfigManager.getConfirmButtonSlot();
+        int cancelSlot = ConfigManager.getCancelButtonSlot();
+
+        GUISlotAction[] actions = new GUISlotAction[size];
+        Arrays.fill(actions, filler != null ? GUISlotAction.FILLER : GUISlotAction.NONE);
+        if (infoMaterial != null && infoSlot >= 0 && infoSlot < size) actions[infoSlot] = GUISlotAction.INFO;
+        if (confirm != null && confirmSlot >= 0 && confirmSlot < size) actions[confirmSlot] = GUISlotAction.CONFIRM;
+        if (cancel != null && cancelSlot >= 0 && cancelSlot < size) actions[cancelSlot] = GUISlotAction.CANCEL;
+
+        return new ConfirmTemplate(size, filler,
+                infoSlot, Collections.unmodifiableMap(infoBanners),
+                confirmSlot, confirm,
+                cancelSlot, cancel,
+                Collections.unmodifiableMap(rawTitles), Collections.unmodifiableMap(staticTitles),
+                actions);
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧰 Helpers
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Builds a simple named item, or null if the material is invalid
+    private static ItemStack buildItem(String materialName, String name, List<String> lore, String configPath) {
+        Material material = resolveMaterial(materialName, configPath);
+        if (material == null) return null;
+
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.displayName(parse(name, null));
+            meta.lore(parseLines(lore, null));
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    // 💬 Resolves a material once, warning (instead of silently skipping on every open) if invalid
+    private static Material resolveMaterial(String materialName, String configPath) {
+        Material material = materialName != null ? Material.getMaterial(materialName.toUpperCase(Locale.ROOT)) : null;
+        if (material == null) {
+            PickYourDifficulty.getInstance().getLogger().warning(
+                    "⚠️ Invalid material '" + materialName + "' at " + configPath + ". Item will be skipped.");
+        }
+        return material;
+    }
+
+    // 💬 Parses MiniMessage, resolving player placeholders when a viewer is given.
+    //    Only player-independent text goes through TextUtil's shared parse cache.
+    private static Component parse(String raw, Player player) {
+        if (raw == null) return null;
+        return player != null ? mm.deserialize(TextUtil.replacePlaceholders(raw, player)) : TextUtil.mm(raw);
+    }
+
+    private static List<Component> parseLines(List<String> lines, Player player) {
+        if (player == null) return TextUtil.deserializeMiniMessageList(lines);
+
+        List<Component> components = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            components.add(mm.deserialize(TextUtil.replacePlaceholders(line, player)));
+        }
+        return components;
+    }
+
+    // 💬 Pre-scanned variants — static lines reuse the shared parse cache
+    private static Component parse(PlaceholderText text, Player player) {
+        if (text == null) return null;
+        return text.isStatic() ? TextUtil.mm(text.raw()) : mm.deserialize(text.resolve(player));
+    }
+
+    private static List<Component> parseScannedLines(List<PlaceholderText> lines, Player player) {
+        List<Component> components = new ArrayList<>(lines.size());
+        for (PlaceholderText line : lines) {
+            components.add(parse(line, player));
+        }
+        return components;
+    }
+}
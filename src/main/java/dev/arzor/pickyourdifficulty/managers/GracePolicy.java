@@ -0,0 +1,58 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                       🛡️ GracePolicy.java                          ║
+// ║   Immutable, pre-compiled view of the `graceMode:` section.        ║
+// ║   Built by ConfigManager on load/reload — damage and reminder      ║
+// ║   hot paths use set membership instead of YAML string scans.       ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import org.bukkit.World;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+// ─────────────────────────────────────────────────────────────
+// 🛡️ GracePolicy — Compiled grace settings
+// ─────────────────────────────────────────────────────────────
+// 💬 enabled             → graceMode.enabled
+// 💬 protectedCauses     → graceMode.bypassDamageTypes (EnumSet — bitset membership)
+// 💬 excludedWorldIds    → graceMode.override-worlds.disabled, resolved to loaded worlds
+// 💬 excludedWorldNames  → listed worlds that were not loaded at compile time
+//                          (lowercase, matched by name once they load)
+public record GracePolicy(
+        boolean enabled,
+        Set<DamageCause> protectedCauses,
+        Set<UUID> excludedWorldIds,
+        Set<String> excludedWorldNames
+) {
+
+    // 🧱 Defaults before config is loaded: grace on, nothing protected, no excluded worlds
+    public static final GracePolicy EMPTY =
+            new GracePolicy(true, EnumSet.noneOf(DamageCause.class), Set.of(), Set.of());
+
+    public GracePolicy {
+        // 🔒 Read-only views so a policy can be shared freely across threads.
+        //    Wrapping (not Set.copyOf) keeps the EnumSet's bitset lookups.
+        protectedCauses = Collections.unmodifiableSet(protectedCauses.isEmpty()
+                ? EnumSet.noneOf(DamageCause.class)
+                : EnumSet.copyOf(protectedCauses));
+        excludedWorldIds = Set.copyOf(excludedWorldIds);
+        excludedWorldNames = Set.copyOf(excludedWorldNames);
+    }
+
+    // 💬 True if this damage cause is cancelled while a player is under grace
+    public boolean protects(DamageCause cause) {
+        return protectedCauses.contains(cause);
+    }
+
+    // 💬 True if grace reminders are skipped in this world
+    public boolean isExcludedWorld(World world) {
+        if (excludedWorldIds.contains(world.getUID())) return true;
+        return !excludedWorldNames.isEmpty() && excludedWorldNames.contains(world.getName().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,163 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                     ⏰ GraceScheduler.java                          ║
+// ║   Deadline queue for grace expiry and interval reminders.          ║
+// ║   Each poll only touches players whose next moment has passed.     ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.listeners.GraceReminderListener;
+import dev.arzor.pickyourdifficulty.storage.GraceReminderTracker;
+import dev.arzor.pickyourdifficulty.storage.GraceSessionTracker;
+import dev.arzor.pickyourdifficulty.storage.GraceSessionTracker.GraceSession;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+// ─────────────────────────────────────────────────────────────
+// ⏰ GraceScheduler — O(due) instead of O(online players)
+// ─────────────────────────────────────────────────────────────
+// 💬 Every grace session with time left gets an EXPIRY deadline and, when
+//    interval reminders are on, a REMINDER deadline. Both are server ticks.
+// 💬 Entries are never removed eagerly: each one remembers the session it
+//    was scheduled for, and is dropped when popped if the player's session
+//    has since changed (quit, difficulty change, reload).
+// 💬 Main thread only.
+public class GraceScheduler {
+
+    // ⏱️ How often the queue head is checked (20 ticks = 1s)
+    private static final long POLL_INTERVAL_TICKS = 20L;
+
+    private enum Kind { EXPIRY, REMINDER }
+
+    private record Deadline(int tick, UUID uuid, GraceSession session, Kind kind) {}
+
+    // 🗂️ Earliest deadline first
+    private static final PriorityQueue<Deadline> queue = new PriorityQueue<>(Comparator.comparingInt(Deadline::tick));
+
+    // Stores the task ID so we can stop it later
+    private static int taskId = -1;
+
+    // ─────────────────────────────────────────────────────────────
+    // ▶ Start / ⛔ Stop
+    // ─────────────────────────────────────────────────────────────
+
+    public static void start(JavaPlugin plugin) {
+        if (taskId != -1) return;
+
+        taskId = new BukkitRunnable() {
+            @Override
+            public void run() {
+                poll();
+            }
+        }.runTaskTimer(plugin, POLL_INTERVAL_TICKS, POLL_INTERVAL_TICKS).getTaskId();
+
+        PickYourDifficulty.debug("⏰ GraceScheduler started");
+    }
+
+    public static void stop() {
+        if (taskId != -1) {
+            Bukkit.getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+        queue.clear();
+    }
+
+    // 💬 Drops every pending deadline (sessions are being rebuilt)
+    public static void clear() {
+        queue.clear();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ➕ Scheduling — called whenever a new session is stored
+    // ─────────────────────────────────────────────────────────────
+
+    public static void schedule(Player player, GraceSession session) {
+        if (session.isNeverProtected()) return;
+
+        UUID uuid = player.getUniqueId();
+        int now = Bukkit.getCurrentTick();
+
+        queue.add(new Deadline(session.deadlineTick(), uuid, session, Kind.EXPIRY));
+
+        if (intervalRemindersEnabled()) {
+            int interval = Math.max(1, ConfigManager.getGraceReminderIntervalSeconds());
+            long since = GraceReminderTracker.getSecondsSinceLastReminder(uuid);
+            scheduleReminder(uuid, session, now, since >= interval ? 1 : interval - since);
+        }
+    }
+
+    private static void scheduleReminder(UUID uuid, GraceSession session, int now, long delaySeconds) {
+        long tick = now + delaySeconds * 20L; // 🧮 20 ticks = 1s
+
+        // 💬 No point reminding at or after the moment grace ends
+        if (tick < session.deadlineTick()) {
+            queue.add(new Deadline((int) tick, uuid, session, Kind.REMINDER));
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔁 Poll — Pop and fire everything that is due
+    // ─────────────────────────────────────────────────────────────
+
+    private static void poll() {
+        int now = Bukkit.getCurrentTick();
+
+        Deadline next;
+        while ((next = queue.peek()) != null && next.tick() <= now) {
+            queue.poll();
+
+            Player player = Bukkit.getPlayer(next.uuid());
+            if (player == null) continue;                                                   // 🚪 Offline
+            if (GraceSessionTracker.getIfPresent(next.uuid()) != next.session()) continue;  // ♻️ Stale
+
+            switch (next.kind()) {
+                case EXPIRY -> GraceSessionTracker.expire(player);
+                case REMINDER -> deliverReminder(player, next.session(), now);
+            }
+        }
+    }
+
+    // 💬 Sends the interval reminder if due, then queues the next one
+    private static void deliverReminder(Player player, GraceSession session, int now) {
+        if (!intervalRemindersEnabled()) return;
+
+        int interval = Math.max(1, ConfigManager.getGraceReminderIntervalSeconds());
+        long since = GraceReminderTracker.getSecondsSinceLastReminder(player.getUniqueId());
+
+        if (ConfigManager.getGracePolicy().isExcludedWorld(player.getWorld())) {
+            PickYourDifficulty.debug(() -> "IntervalReminder: Skipped for " + player.getName() + " — world excluded.");
+            scheduleReminder(player.getUniqueId(), session, now, interval);
+            return;
+        }
+
+        // 🕒 A login reminder (or a session rebuild) may have reset the clock
+        if (since < interval) {
+            scheduleReminder(player.getUniqueId(), session, now, interval - since);
+            return;
+        }
+
+        PickYourDifficulty.debug(() -> "IntervalReminder: Sending reminder to " + player.getName());
+        GraceReminderListener.sendReminder(player);
+        scheduleReminder(player.getUniqueId(), session, now, interval);
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ⚙️ Config
+    // ─────────────────────────────────────────────────────────────
+
+    private static boolean intervalRemindersEnabled() {
+        if (!ConfigManager.enableGraceMode() || ConfigManager.disableReminder()) return false;
+
+        String mode = ConfigManager.getGraceReminderMode().toLowerCase(Locale.ROOT);
+        return mode.equals("interval") || mode.equals("both");
+    }
+}
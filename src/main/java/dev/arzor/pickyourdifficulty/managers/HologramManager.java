@@ -2,26 +2,29 @@
 // ║                    🪧 HologramManager.java                         ║
 // ║  Manages spawn/update/removal of despawn timer holograms above     ║
 // ║  dropped items using DecentHolograms. Includes permission-based    ║
-// ║  viewing and persistent YAML tracking for reload-safe recovery.    ║
+// ║  viewing and persistent tracking for reload-safe recovery.         ║
 // ╚════════════════════════════════════════════════════════════════════╝
 
 package dev.arzor.pickyourdifficulty.managers;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.Change;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.DataSet;
+import dev.arzor.pickyourdifficulty.storage.PlayerRecordCache;
+import dev.arzor.pickyourdifficulty.storage.StorageManager;
+import dev.arzor.pickyourdifficulty.storage.WriteBehindFlusher;
 import dev.arzor.pickyourdifficulty.utils.TextUtil;
 
 import eu.decentsoftware.holograms.api.DHAPI;
 import eu.decentsoftware.holograms.api.holograms.Hologram;
 
 import org.bukkit.Location;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.*;
-import java.util.logging.Level;
+import java.util.concurrent.ConcurrentHashMap;
 
 // ╔════════════════════════════════════════════════════════════════════╗
 // ║                         📊 HologramManager                         ║
@@ -33,15 +36,15 @@ public class HologramManager {
     // 🗃️ Storage and Tracking
     // ─────────────────────────────────────────────────────────────
 
-    private static final Map<UUID, Hologram> hologramMap = new HashMap<>();
-    private static final Map<UUID, TrackedHologram> trackedData = new HashMap<>();
-    private static final Set<UUID> hologramsDisabled = new HashSet<>();
+    // 💬 Written on the main thread only; concurrent collections so lookups
+    //    (isHidden, getTrackedData) are safe from other threads, and so the
+    //    update loop can remove entries while iterating
+    private static final Map<UUID, Hologram> hologramMap = new ConcurrentHashMap<>();
+    private static final Map<UUID, TrackedHologram> trackedData = new ConcurrentHashMap<>();
+    private static final Set<UUID> hologramsDisabled = ConcurrentHashMap.newKeySet();
 
-    private static final File hologramDataFile = new File(PickYourDifficulty.getInstance().getDataFolder(), "holograms.yml");
-    private static final YamlConfiguration hologramData = YamlConfiguration.loadConfiguration(hologramDataFile);
-
-    private static final File toggleFile = new File(PickYourDifficulty.getInstance().getDataFolder(), "holograms_toggles.yml");
-    private static final YamlConfiguration toggleData = YamlConfiguration.loadConfiguration(toggleFile);
+    // 👁️ Explicit per-player toggles (player → hidden); absent = config default
+    private static final Map<UUID, Boolean> toggles = new ConcurrentHashMap<>();
 
     // ─────────────────────────────────────────────────────────────
     // 🧱 Data Class
@@ -64,22 +67,17 @@ public class HologramManager {
         // 🆔 Generate unique hologram ID
         String hologramId = "pyd_" + itemId.toString().replace("-", "");
 
-        // 🖋️ Format the hologram line using placeholder
-        String raw = ConfigManager.getHologramFormat();
-        String formatted = raw.replace("<despawnTime>", String.valueOf(despawnSeconds));
-
         // 🔒 Only show if player has permission (if required)
         boolean requirePerm = ConfigManager.hologramsRequirePermission();
-        Hologram hologram = DHAPI.createHologram(hologramId, location, requirePerm, TextUtil.parseLegacyString(formatted));
+        Hologram hologram = DHAPI.createHologram(hologramId, location, requirePerm, List.of(formatLine(despawnSeconds)));
 
-        // 🧠 Track in memory + save to file
+        // 🧠 Track in memory + persist (write-behind)
         hologramMap.put(itemId, hologram);
         trackedData.put(itemId, new TrackedHologram(itemId, expiresAt));
-        hologramData.set(itemId + ".expiresAt", expiresAt);
-        saveHologramFile();
+        WriteBehindFlusher.append(Change.put(DataSet.HOLOGRAMS, itemId, String.valueOf(expiresAt)));
 
         // 🐛 Debug
-        PickYourDifficulty.debug("📌 Created hologram for item " + itemId + " — expires in " + despawnSeconds + "s");
+        PickYourDifficulty.debug(() -> "📌 Created hologram for item " + itemId + " — expires in " + despawnSeconds + "s");
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -94,16 +92,20 @@ public class HologramManager {
 
         // 🧮 Calculate seconds left until despawn
         long now = System.currentTimeMillis();
-        long secondsLeft = (data.expiresAtMillis() - now) / 1000;
-        if (secondsLeft < 0) secondsLeft = 0;
+        long secondsLeft = Math.max(0, (data.expiresAtMillis() - now) / 1000);
 
         // 🔁 Update line text
-        String raw = ConfigManager.getHologramFormat();
-        String updated = raw.replace("<despawnTime>", String.valueOf(secondsLeft));
-        DHAPI.setHologramLine(hologram, 0, updated);
+        DHAPI.setHologramLine(hologram, 0, formatLine(secondsLeft)); // 🎨 Same § formatting as on create
 
         // 🐛 Debug
-        PickYourDifficulty.debug("🔄 Updated hologram for item " + id + " — " + secondsLeft + "s remaining");
+        PickYourDifficulty.debug(() -> "🔄 Updated hologram for item " + id + " — " + secondsLeft + "s remaining");
+    }
+
+    // 🖋️ holograms.format with <despawnTime> filled in, as a legacy (§) line.
+    // 💬 Resolved as a tag rather than replaced into the string, so each
+    //    second's text never reaches TextUtil's parse caches.
+    private static String formatLine(long seconds) {
+        return TextUtil.toLegacy(ConfigManager.getHologramFormat(), MessagesManager.placeholder("despawnTime", seconds));
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -116,15 +118,16 @@ public class HologramManager {
 
     public static void removeHologramFromUUID(UUID id) {
         Hologram hologram = hologramMap.remove(id);
-        trackedData.remove(id);
-        hologramData.set(id.toString(), null);
+        boolean tracked = trackedData.remove(id) != null;
 
         if (hologram != null) {
             hologram.delete();
-            PickYourDifficulty.debug("🗑️ Removed hologram for item " + id);
+            PickYourDifficulty.debug(() -> "🗑️ Removed hologram for item " + id);
         }
 
-        saveHologramFile();
+        if (tracked) {
+            WriteBehindFlusher.append(Change.delete(DataSet.HOLOGRAMS, id));
+        }
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -139,9 +142,8 @@ public class HologramManager {
         hologramMap.clear();
         trackedData.clear();
 
-        // 🧹 Clear YAML entries
-        hologramData.getKeys(false).forEach(key -> hologramData.set(key, null));
-        saveHologramFile();
+        // 🧹 Clear stored entries
+        WriteBehindFlusher.append(Change.clear(DataSet.HOLOGRAMS));
 
         // 🐛 Debug
         PickYourDifficulty.debug("🧹 Removed all active holograms and cleared storage");
@@ -154,27 +156,46 @@ public class HologramManager {
     public static void restoreAll() {
         long now = System.currentTimeMillis();
 
-        for (String key : hologramData.getKeys(false)) {
+        Map<UUID, String> stored = load(DataSet.HOLOGRAMS);
+        for (Map.Entry<UUID, String> entry : stored.entrySet()) {
+            UUID itemId = entry.getKey();
             try {
-                UUID itemId = UUID.fromString(key);
-                long expiresAt = hologramData.getLong(key + ".expiresAt");
+                long expiresAt = Long.parseLong(entry.getValue());
 
                 if (expiresAt <= now) {
                     // ⌛ Skip expired holograms
-                    hologramData.set(key, null);
+                    WriteBehindFlusher.append(Change.delete(DataSet.HOLOGRAMS, itemId));
                     continue;
                 }
 
                 trackedData.put(itemId, new TrackedHologram(itemId, expiresAt));
-                PickYourDifficulty.debug("📦 Restored hologram tracking for item " + itemId + " (expires in " + ((expiresAt - now) / 1000) + "s)");
+                PickYourDifficulty.debug(() -> "📦 Restored hologram tracking for item " + itemId + " (expires in " + ((expiresAt - now) / 1000) + "s)");
 
                 // 💡 Hologram will be spawned later via HologramTaskManager
-            } catch (Exception e) {
-                PickYourDifficulty.getInstance().getLogger().warning("[PickYourDifficulty] Skipping invalid hologram entry: " + key);
+            } catch (NumberFormatException e) {
+                PickYourDifficulty.getInstance().getLogger().warning("[PickYourDifficulty] Skipping invalid hologram entry: " + itemId);
             }
         }
 
-        saveHologramFile();
+        // 👁️ Per-player visibility toggles
+        toggles.clear();
+        hologramsDisabled.clear();
+        if (PlayerRecordCache.isActive()) return; // 💤 Loaded per player instead
+
+        load(DataSet.HOLOGRAM_TOGGLES).forEach((uuid, value) -> {
+            boolean hidden = Boolean.parseBoolean(value);
+            toggles.put(uuid, hidden);
+            if (hidden) hologramsDisabled.add(uuid);
+        });
+    }
+
+    private static Map<UUID, String> load(DataSet set) {
+        try {
+            return StorageManager.getBackend().loadAll(set);
+        } catch (IOException e) {
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to load " + set.fileName() + ": " + e.getMessage());
+            return Map.of();
+        }
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -185,8 +206,9 @@ public class HologramManager {
         UUID id = player.getUniqueId();
 
         // 🧠 Default to config value if not explicitly toggled
-        return toggleData.contains("toggles." + id)
-                ? toggleData.getBoolean("toggles." + id)
+        Boolean hidden = toggles.get(id);
+        return hidden != null
+                ? hidden
                 : !ConfigManager.hologramsDefaultEnabled(); // 💡 Default from config
     }
 
@@ -199,10 +221,10 @@ public class HologramManager {
             hologramsDisabled.remove(id);
         }
 
-        toggleData.set("toggles." + id, hidden);
-        saveToggleFile();
+        toggles.put(id, hidden);
+        WriteBehindFlusher.append(Change.put(DataSet.HOLOGRAM_TOGGLES, id, String.valueOf(hidden)));
 
-        PickYourDifficulty.debug("👁️ Set hologram toggle for " + player.getName() + ": " + (hidden ? "HIDDEN" : "VISIBLE"));
+        PickYourDifficulty.debug(() -> "👁️ Set hologram toggle for " + player.getName() + ": " + (hidden ? "HIDDEN" : "VISIBLE"));
     }
 
     public static boolean toggleHidden(Player player) {
@@ -213,32 +235,26 @@ public class HologramManager {
         setHidden(player, nowHidden);
 
         // 🧪 Debug: log toggle action
-        PickYourDifficulty.debug("🔁 Toggled hologram view for " + player.getName() + " → " + (nowHidden ? "HIDDEN" : "VISIBLE"));
+        PickYourDifficulty.debug(() -> "🔁 Toggled hologram view for " + player.getName() + " → " + (nowHidden ? "HIDDEN" : "VISIBLE"));
         return nowHidden;
     }
 
-    public static Set<UUID> getHiddenPlayers() {
-        return hologramsDisabled;
-    }
+    // 💬 Lazy loading (PlayerRecordCache) — memory only, nothing is queued
+    public static void cacheToggle(UUID uuid, String storedValue) {
+        if (storedValue == null) return;
 
-    // ─────────────────────────────────────────────────────────────
-    // 💾 File Persistence Helpers
-    // ─────────────────────────────────────────────────────────────
+        boolean hidden = Boolean.parseBoolean(storedValue);
+        toggles.put(uuid, hidden);
+        if (hidden) hologramsDisabled.add(uuid);
+    }
 
-    private static void saveHologramFile() {
-        try {
-            hologramData.save(hologramDataFile);
-        } catch (IOException e) {
-            PickYourDifficulty.getInstance().getLogger().log(Level.SEVERE, "Failed to save holograms.yml", e);
-        }
+    public static void evictToggle(UUID uuid) {
+        toggles.remove(uuid);
+        hologramsDisabled.remove(uuid);
     }
 
-    private static void saveToggleFile() {
-        try {
-            toggleData.save(toggleFile);
-        } catch (IOException e) {
-            PickYourDifficulty.getInstance().getLogger().log(Level.SEVERE, "Failed to save holograms_toggles.yml", e);
-        }
+    public static Set<UUID> getHiddenPlayers() {
+        return hologramsDisabled;
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -41,11 +41,11 @@ public class HologramTaskManager {
 
         // 🛑 If update interval is zero or disabled, skip launching task
         if (intervalTicks <= 0) {
-            PickYourDifficulty.debug("⏲️ HologramTaskManager not started: interval is set to 0 (disabled)");
+            PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, "⏲️ HologramTaskManager not started: interval is set to 0 (disabled)");
             return;
         }
 
-        PickYourDifficulty.debug("⏲️ HologramTaskManager starting with interval: " + intervalTicks + " ticks");
+        PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, () -> "⏲️ HologramTaskManager starting with interval: " + intervalTicks + " ticks");
 
         taskId = new BukkitRunnable() {
             @Override
@@ -62,13 +62,13 @@ public class HologramTaskManager {
     public static void stop() {
         // Cancel the task if it’s running
         if (taskId != -1) {
-            PickYourDifficulty.debug("⛔ Stopping HologramTaskManager task (ID: " + taskId + ")");
+            PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, () -> "⛔ Stopping HologramTaskManager task (ID: " + taskId + ")");
             Bukkit.getScheduler().cancelTask(taskId);
             taskId = -1;
         }
 
         // 🧹 Remove all visual holograms (but leave persistent storage intact)
-        PickYourDifficulty.debug("🧹 Removing all active holograms (visuals only)");
+        PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, "🧹 Removing all active holograms (visuals only)");
         HologramManager.removeAll();
     }
 
@@ -76,26 +76,33 @@ public class HologramTaskManager {
     // 🔁 Update All Tracked Items
     // ─────────────────────────────────────────────────────────────
 
-    private static void updateAll() {
+    // 💬 Package-private for the allocation benchmark
+    static void updateAll() {
         long now = System.currentTimeMillis();
 
+        // 💬 The per-item debug lines capture itemId / secondsLeft, so they are
+        //    only created when debug mode is on (read once per pass)
+        boolean debug = ConfigManager.isDebugMode();
+
         // 🧠 Debug: Report how many items are currently tracked
-        PickYourDifficulty.debug("🔄 Running hologram update loop for " + active.size() + " tracked items");
+        PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, () -> "🔄 Running hologram update loop for " + active.size() + " tracked items");
 
-        // Loop through all tracked hologram entries
-        Iterator<Map.Entry<UUID, HologramManager.TrackedHologram>> iterator = active.entrySet().iterator();
+        // Loop through all tracked holograms (values carry their own item id,
+        // so no Map.Entry is created per item)
+        Iterator<HologramManager.TrackedHologram> iterator = active.values().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, HologramManager.TrackedHologram> entry = iterator.next();
-            UUID itemId = entry.getKey();
-            HologramManager.TrackedHologram tracked = entry.getValue();
+            HologramManager.TrackedHologram tracked = iterator.next();
+            UUID itemId = tracked.itemId();
 
             // 🔍 Try to find the matching item in the world
             Item item = findItemByUUID(itemId);
 
             // 📦 Remove if item no longer exists or was picked up
             if (item == null || item.isDead() || !item.isValid()) {
-                PickYourDifficulty.debug("❌ Removing hologram: item no longer exists (UUID: " + itemId + ")");
+                if (debug) {
+                    PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, () -> "❌ Removing hologram: item no longer exists (UUID: " + itemId + ")");
+                }
                 HologramManager.removeHologramFromUUID(itemId);
                 iterator.remove();
                 continue;
@@ -104,7 +111,9 @@ public class HologramTaskManager {
             // 📭 Skip countdown if the chunk is not currently loaded
             Chunk chunk = item.getLocation().getChunk();
             if (!chunk.isLoaded()) {
-                PickYourDifficulty.debug("📭 Skipping hologram update: chunk not loaded (UUID: " + itemId + ")");
+                if (debug) {
+                    PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, () -> "📭 Skipping hologram update: chunk not loaded (UUID: " + itemId + ")");
+                }
                 continue;
             }
 
@@ -114,12 +123,16 @@ public class HologramTaskManager {
 
             // ⌛ Expired? Remove the item and hologram
             if (secondsLeft <= 0) {
-                PickYourDifficulty.debug("⌛ Hologram expired: removing item (UUID: " + itemId + ")");
+                if (debug) {
+                    PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, () -> "⌛ Hologram expired: removing item (UUID: " + itemId + ")");
+                }
                 HologramManager.removeHologramFromUUID(itemId);
                 iterator.remove();
             } else {
                 // 🔁 Still active? Update the hologram countdown
-                PickYourDifficulty.debug("⏳ Updating hologram (UUID: " + itemId + ") — " + secondsLeft + "s remaining");
+                if (debug) {
+                    PickYourDifficulty.debug(DebugLogManager.HOLOGRAMS, () -> "⏳ Updating hologram (UUID: " + itemId + ") — " + secondsLeft + "s remaining");
+                }
                 HologramManager.updateHologram(item);
             }
         }
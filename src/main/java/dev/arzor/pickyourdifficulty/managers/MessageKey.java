@@ -0,0 +1,134 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                       🔑 MessageKey.java                           ║
+// ║   Typed handles for entries in messages.yml. Fixed messages are    ║
+// ║   constants; per-difficulty and help entries use MessageKey.of().  ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ─────────────────────────────────────────────────────────────
+// 🔑 MessageKey — Enum-like handle for one message path
+// ─────────────────────────────────────────────────────────────
+// 💬 Paths are relative to the `messages:` section (no "messages." prefix).
+// 💬 Handles are interned, so identity comparison and use as map keys are safe.
+public final class MessageKey {
+
+    // 🗂️ Interned handles by path
+    private static final Map<String, MessageKey> REGISTRY = new ConcurrentHashMap<>();
+
+    // ╔═══📌 Global══════════════════════════════════════════════════════╗
+    public static final MessageKey PREFIX = of("prefix");
+    public static final MessageKey GRACE_ACTIVE = of("grace-active");
+    public static final MessageKey GRACE_EXPIRED = of("grace-expired");
+
+    // ╔═══❌ Common Errors════════════════════════════════════════════════╗
+    public static final MessageKey ERROR_NO_PERMISSION = of("error.no-permission");
+    public static final MessageKey ERROR_PLAYERS_ONLY = of("error.players-only");
+    public static final MessageKey ERROR_NO_PERMISSION_GUI = of("error.no-permission-gui");
+    public static final MessageKey ERROR_NO_PERMISSION_INFO = of("error.no-permission-info");
+    public static final MessageKey ERROR_NO_PERMISSION_RESET = of("error.no-permission-reset");
+    public static final MessageKey ERROR_NO_PERMISSION_SET = of("error.no-permission-set");
+    public static final MessageKey ERROR_INVALID_DIFFICULTY = of("error.invalid-difficulty");
+    public static final MessageKey ERROR_GUI_INTERACT_BLOCKED = of("error.gui-interact-blocked");
+    public static final MessageKey ERROR_NO_SELECTION_FOUND = of("error.no-selection-found");
+    public static final MessageKey ERROR_COOLDOWN_WAIT = of("error.cooldown-wait");
+    public static final MessageKey ERROR_PLAYER_DATA_UNAVAILABLE = of("error.player-data-unavailable");
+
+    // ╔═══📋 GUI══════════════════════════════════════════════════════════╗
+    public static final MessageKey GUI_COOLDOWN_WAIT = of("gui.cooldown-wait");
+    public static final MessageKey GUI_ALREADY_SELECTED = of("gui.already-selected");
+    public static final MessageKey GUI_OPEN_PLACEHOLDER = of("gui.open-placeholder");
+    public static final MessageKey GUI_NO_PERMISSION_HOVER = of("gui.no-permission-hover");
+
+    // ╔═══❓ Help═════════════════════════════════════════════════════════╗
+    public static final MessageKey HELP_HEADER = of("help.header");
+
+    // ╔═══⚙ Admin Commands═══════════════════════════════════════════════╗
+    public static final MessageKey COMMAND_RELOAD_SUCCESS = of("command.reload-success");
+    public static final MessageKey ADMIN_NO_DIFFICULTY = of("admin.no-difficulty");
+    public static final MessageKey RESET_USAGE = of("reset.usage");
+    public static final MessageKey RESET_SUCCESS = of("reset.success");
+    public static final MessageKey SET_USAGE = of("set.usage");
+    public static final MessageKey SET_PLAYER_NOT_FOUND = of("set.player-not-found");
+    public static final MessageKey SET_INVALID_DIFFICULTY = of("set.invalid-difficulty");
+    public static final MessageKey SET_ALREADY_SELECTED = of("set.already-selected");
+    public static final MessageKey SET_SUCCESS = of("set.success");
+    public static final MessageKey MIGRATE_USAGE = of("migrate.usage");
+    public static final MessageKey MIGRATE_UNKNOWN_BACKEND = of("migrate.unknown-backend");
+    public static final MessageKey MIGRATE_SAME_BACKEND = of("migrate.same-backend");
+    public static final MessageKey MIGRATE_IN_PROGRESS = of("migrate.in-progress");
+    public static final MessageKey MIGRATE_STARTED = of("migrate.started");
+    public static final MessageKey MIGRATE_SUCCESS = of("migrate.success");
+    public static final MessageKey MIGRATE_FAILED = of("migrate.failed");
+
+    // ╔═══🪧 Holograms════════════════════════════════════════════════════╗
+    public static final MessageKey TOGGLE_SUCCESS_ON = of("toggle.success-on");
+    public static final MessageKey TOGGLE_SUCCESS_OFF = of("toggle.success-off");
+    public static final MessageKey TOGGLE_NO_PERMISSION = of("toggle.no-permission");
+    public static final MessageKey TOGGLE_PLAYERS_ONLY = of("toggle.players-only");
+
+    // ╔═══📜 /pyd═════════════════════════════════════════════════════════╗
+    public static final MessageKey PYD_UNKNOWN_SUBCOMMAND = of("pyd.unknown-subcommand");
+    public static final MessageKey PYD_INFO_CURRENT = of("pyd.info-current");
+
+    // ╔═══🧪 /pyddebug════════════════════════════════════════════════════╗
+    public static final MessageKey DEBUG_NO_PERMISSION = of("debug.no-permission");
+    public static final MessageKey DEBUG_INVALID_PAGE = of("debug.invalid-page");
+    public static final MessageKey DEBUG_PREFIX = of("debug.prefix");
+    public static final MessageKey DEBUG_ONLINE_PLAYERS = of("debug.online-players");
+    public static final MessageKey DEBUG_FALLBACK = of("debug.fallback");
+    public static final MessageKey DEBUG_DEV_MODE = of("debug.dev-mode");
+    public static final MessageKey DEBUG_SWITCHING = of("debug.switching");
+    public static final MessageKey DEBUG_HOLOGRAMS = of("debug.holograms");
+    public static final MessageKey DEBUG_LOG_FILE = of("debug.log-file");
+    public static final MessageKey DEBUG_STORAGE_FLUSH = of("debug.storage-flush");
+    public static final MessageKey DEBUG_HOOKS_HEADER = of("debug.hooks-header");
+    public static final MessageKey DEBUG_HOOK_LINE = of("debug.hook-line");
+    public static final MessageKey DEBUG_PLAYER_LINE = of("debug.player-line");
+    public static final MessageKey DEBUG_HOLOGRAMS_HIDDEN = of("debug.holograms-hidden");
+    public static final MessageKey DEBUG_HOLOGRAMS_ACTIVE = of("debug.holograms-active");
+    public static final MessageKey DEBUG_RELOADABLES_HEADER = of("debug.reloadables-header");
+    public static final MessageKey DEBUG_RELOADABLES_ENTRY = of("debug.reloadables-entry");
+    public static final MessageKey DEBUG_CACHES_HEADER = of("debug.caches-header");
+    public static final MessageKey DEBUG_CACHE_LINE = of("debug.cache-line");
+    public static final MessageKey DEBUG_STORED_HEADER = of("debug.stored-header");
+    public static final MessageKey DEBUG_STORED_LINE = of("debug.stored-line");
+
+    // ─────────────────────────────────────────────────────────────
+    // 🏷️ Instance
+    // ─────────────────────────────────────────────────────────────
+
+    private final String path;
+
+    private MessageKey(String path) {
+        this.path = path;
+    }
+
+    // 💬 Interned handle for a path; a leading "messages." is stripped
+    public static MessageKey of(String path) {
+        String normalized = path.startsWith("messages.") ? path.substring("messages.".length()) : path;
+        return REGISTRY.computeIfAbsent(normalized, MessageKey::new);
+    }
+
+    // 💬 Welcome message for a difficulty (top-level key named after the difficulty)
+    public static MessageKey welcome(String difficulty) {
+        return of(difficulty);
+    }
+
+    // 💬 Field of a /pyd help entry (text, permission, suggest)
+    public static MessageKey helpEntry(String command, String field) {
+        return of("help.commands." + command + "." + field);
+    }
+
+    public String path() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
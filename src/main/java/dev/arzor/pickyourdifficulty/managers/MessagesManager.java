@@ -12,16 +12,28 @@ import dev.arzor.pickyourdifficulty.utils.TextUtil;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 
 import org.bukkit.Statistic;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class MessagesManager implements Reloadable {
 
@@ -33,6 +45,26 @@ public class MessagesManager implements Reloadable {
     private static final MiniMessage mm = MiniMessage.miniMessage();
     private static PickYourDifficulty plugin;
 
+    // ─────────────────────────────────────────────────────────────
+    // 🧱 Compiled Message Table
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 One messages.yml entry, compiled once per load:
+    //    raw         → MiniMessage source with <prefix> already inlined
+    //    component   → raw parsed with no placeholders (sent as-is when nothing is dynamic)
+    //    dynamic     → raw contains a tag that is not a built-in MiniMessage tag
+    //    playerTokens → TextUtil.TOKEN_* flags for %papi%, <player> and <world> in raw (0 = none)
+    private record CompiledMessage(String raw, Component component, boolean dynamic, int playerTokens) {}
+
+    // 🔍 Opening tags like <graceTime> or <hover:...> — closing tags and <#hex> are skipped
+    private static final Pattern TAG_NAME = Pattern.compile("<([a-zA-Z][a-zA-Z0-9_-]*)");
+
+    // 🗂️ Swapped as a whole on load/reload — readers never see a half-built table
+    private static volatile Map<MessageKey, CompiledMessage> compiled = Map.of();
+
+    // 🧾 Placeholder lines for keys missing since the last load (warned once, not per send)
+    private static final Map<MessageKey, CompiledMessage> missing = new ConcurrentHashMap<>();
+
     // ─────────────────────────────────────────────────────────────
     // 🔁 Register with ReloadManager
     // ─────────────────────────────────────────────────────────────
@@ -58,81 +90,165 @@ public class MessagesManager implements Reloadable {
 
         // 🧪 Load all messages into memory
         messages = YamlConfiguration.loadConfiguration(file);
-        PickYourDifficulty.debug("📨 messages.yml loaded with " + messages.getKeys(true).size() + " keys");
+        compile();
+        PickYourDifficulty.debug(() -> "📨 messages.yml loaded with " + messages.getKeys(true).size() + " keys");
     }
 
     // ─────────────────────────────────────────────────────────────
-    // 📨 Get Raw String by Path — with logging if missing
+    // 🧱 compile — Parse every message once
     // ─────────────────────────────────────────────────────────────
 
-    public static @Nonnull String get(String path) {
-        // 🛡️ Ensure prefix is applied consistently
-        if (!path.startsWith("messages.")) {
-            path = "messages." + path;
+    private static void compile() {
+        Map<MessageKey, CompiledMessage> table = new HashMap<>();
+        missing.clear();
+
+        ConfigurationSection section = messages.getConfigurationSection("messages");
+        if (section == null) {
+            plugin.getLogger().warning("⚠ messages.yml has no 'messages:' section");
+            compiled = Map.of();
+            return;
+        }
+
+        // 📌 Prefix is inlined into every message at compile time
+        String prefix = section.getString("prefix", "");
+
+        addSection(table, section, prefix);
+
+        // 📦 Keys added in newer versions fall back to the bundled messages.yml,
+        //    so an older user file never shows "Missing message" for them
+        ConfigurationSection bundled = loadBundledMessages();
+        if (bundled != null) {
+            addSection(table, bundled, prefix);
         }
 
-        String value = messages.getString(path);
+        compiled = Map.copyOf(table);
+        PickYourDifficulty.debug(() -> "📨 Compiled " + table.size() + " messages");
+    }
+
+    // 💬 Compiles every string under section that is not in the table yet
+    private static void addSection(Map<MessageKey, CompiledMessage> table, ConfigurationSection section, String prefix) {
+        for (String path : section.getKeys(true)) {
+            if (!section.isString(path)) continue; // 🗂️ Skip sub-sections
+
+            MessageKey key = MessageKey.of(path);
+            if (table.containsKey(key)) continue;
+
+            String raw = section.getString(path, "");
+            if (raw.contains("<prefix>")) {
+                raw = raw.replace("<prefix>", prefix);
+            }
+            table.put(key, compileRaw(raw));
+        }
+    }
+
+    // 💬 The messages: section of the messages.yml shipped in the jar (null if unreadable)
+    private static ConfigurationSection loadBundledMessages() {
+        InputStream stream = plugin.getResource("messages.yml");
+        if (stream == null) return null;
+
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader).getConfigurationSection("messages");
+        } catch (IOException e) {
+            PickYourDifficulty.debug(() -> "📨 Could not read bundled messages.yml: " + e.getMessage());
+            return null;
+        }
+    }
 
-        // ❗ Warn if message path is missing in messages.yml
-        if (value == null) {
-            plugin.getLogger().warning("⚠ Missing message key: '" + path + "'");
-            plugin.getLogger().warning("⚠ Available keys: " + messages.getKeys(true));
-            return "<red>Missing message: " + path + "</red>";
+    private static CompiledMessage compileRaw(String raw) {
+        boolean dynamic = false;
+        Matcher matcher = TAG_NAME.matcher(raw);
+        while (matcher.find()) {
+            if (!TagResolver.standard().has(matcher.group(1).toLowerCase(Locale.ROOT))) {
+                dynamic = true;
+                break;
+            }
         }
+        return new CompiledMessage(raw, mm.deserialize(raw), dynamic, TextUtil.scanPlaceholders(raw));
+    }
 
-        return value;
+    // 💬 Looks up a compiled message, falling back to a visible "missing" line
+    private static CompiledMessage lookup(MessageKey key) {
+        CompiledMessage message = compiled.get(key);
+        if (message != null) return message;
+
+        // ❗ Warn once per missing key until the next reload
+        return missing.computeIfAbsent(key, k -> {
+            plugin.getLogger().warning("⚠ Missing message key: 'messages." + k.path() + "'");
+            plugin.getLogger().warning("⚠ Available keys: " + compiled.keySet());
+            return compileRaw("<red>Missing message: messages." + k.path() + "</red>");
+        });
     }
 
     // ─────────────────────────────────────────────────────────────
-    // 💬 Format Basic Message (No Placeholders)
+    // 🏷️ Placeholder Resolvers
     // ─────────────────────────────────────────────────────────────
 
-    public static Component format(String path) {
-        String raw = get(path);
+    // 💬 Fills <name> with value, parsed as MiniMessage in place (like a text replace).
+    //    MiniMessage lowercases tag names, so <graceTime> matches "graceTime".
+    public static TagResolver placeholder(String name, Object value) {
+        return TagResolver.resolver(name.toLowerCase(Locale.ROOT), Tag.preProcessParsed(String.valueOf(value)));
+    }
 
-        // 💬 Replace <prefix> if used in message
-        if (raw.contains("<prefix>")) {
-            raw = raw.replace("<prefix>", get("prefix"));
+    private static TagResolver placeholders(Map<String, String> values) {
+        TagResolver.Builder builder = TagResolver.builder();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            builder.resolver(placeholder(entry.getKey(), entry.getValue()));
         }
+        return builder.build();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📨 Get Raw String — with prefix inlined
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 For values that are not sent as chat (help permissions/suggestions, GUI lines)
+    public static @Nonnull String get(MessageKey key) {
+        return lookup(key).raw();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 💬 Format Basic Message (No Placeholders)
+    // ─────────────────────────────────────────────────────────────
 
-        PickYourDifficulty.debug("📨 Formatting message: " + path);
-        return mm.deserialize(raw);
+    public static Component format(MessageKey key) {
+        return lookup(key).component();
     }
 
     // ─────────────────────────────────────────────────────────────
     // 💬 Format with Custom Placeholders
     // ─────────────────────────────────────────────────────────────
 
-    public static Component format(String path, Map<String, String> placeholders) {
-        String raw = get(path);
+    public static Component format(MessageKey key, TagResolver... resolvers) {
+        CompiledMessage message = lookup(key);
 
-        // 🧩 Replace prefix first
-        if (raw.contains("<prefix>")) {
-            raw = raw.replace("<prefix>", get("prefix"));
-        }
+        // ⚡ Nothing to fill in — reuse the pre-parsed component
+        if (!message.dynamic()) return message.component();
 
-        // 🔁 Replace any other custom placeholders (e.g., <graceTime>)
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            raw = raw.replace("<" + entry.getKey() + ">", entry.getValue());
-        }
+        return mm.deserialize(message.raw(), resolvers);
+    }
 
-        PickYourDifficulty.debug("📨 Formatting message with placeholders: " + path + " → " + placeholders);
-        return mm.deserialize(raw);
+    public static Component format(MessageKey key, Map<String, String> placeholders) {
+        return format(key, placeholders(placeholders));
     }
 
     // ─────────────────────────────────────────────────────────────
     // 💬 Format for Player with Grace Time Context
     // ─────────────────────────────────────────────────────────────
 
-    public static Component get(String path, Player player) {
+    public static Component formatGrace(MessageKey key, Player player) {
+        CompiledMessage message = lookup(key);
+
+        // ⚡ Welcome lines rarely use placeholders — skip the stat lookup entirely
+        if (!message.dynamic()) return message.component();
+
         // ⛏️ Get player difficulty from storage
         String difficulty = PickYourDifficulty.getInstance()
                 .getPlayerDataManager()
                 .getDifficultyStorage()
                 .getDifficulty(player);
 
-        // 🔢 Get configured total grace time
-        int totalGrace = ConfigManager.getGraceTime(difficulty);
+        // 🔢 Get configured total grace time from the compiled profile
+        int totalGrace = ConfigManager.getProfile(difficulty).graceSeconds();
 
         // 🧮 Convert PLAY_ONE_MINUTE from ticks to seconds
         long ticks = player.getStatistic(Statistic.PLAY_ONE_MINUTE);
@@ -141,15 +257,13 @@ public class MessagesManager implements Reloadable {
         // ⏳ Remaining = total - elapsed (minimum 0)
         int graceRemaining = Math.max(0, totalGrace - secondsPlayed);
 
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("difficulty", difficulty);
-        placeholders.put("graceTime", String.valueOf(graceRemaining));
-        placeholders.put("graceTimeTotal", String.valueOf(totalGrace));
-
-        PickYourDifficulty.debug("📨 Formatting player grace message: " + path +
+        PickYourDifficulty.debug(() -> "📨 Formatting player grace message: " + key +
                 " (played: " + secondsPlayed + "s, remaining: " + graceRemaining + "s, difficulty: " + difficulty + ")");
 
-        return format(path, placeholders);
+        return mm.deserialize(message.raw(),
+                placeholder("difficulty", difficulty),
+                placeholder("graceTime", graceRemaining),
+                placeholder("graceTimeTotal", totalGrace));
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -157,28 +271,22 @@ public class MessagesManager implements Reloadable {
     // ─────────────────────────────────────────────────────────────
 
     // 💬 Dynamically formats a message with:
-    //    • <player>       → Player’s name
-    //    • <prefix>       → Global prefix from messages.yml
+    //    • <player>       → Player’s name (and any PlaceholderAPI tokens)
+    //    • <prefix>       → Global prefix from messages.yml (inlined at load)
     //    • <cooldowntime> → Cooldown time in seconds (e.g., "30s")
-    public static Component format(String path, Player player, int cooldownSeconds) {
-        String raw = get(path);
+    public static Component formatCooldown(MessageKey key, Player player, int cooldownSeconds) {
+        CompiledMessage message = lookup(key);
 
-        // 🧩 Replace known tokens first
-        if (raw.contains("<prefix>")) {
-            raw = raw.replace("<prefix>", get("prefix"));
-        }
-
-        if (raw.contains("<cooldowntime>")) {
-            raw = raw.replace("<cooldowntime>", cooldownSeconds + "s");
-        }
+        // ⚡ Nothing player- or time-dependent in this message
+        if (!message.dynamic() && message.playerTokens() == 0) return message.component();
 
-        // 🔁 Replace PlaceholderAPI and <player> tags
-        raw = TextUtil.replacePlaceholders(raw, player);
+        // 🔁 PlaceholderAPI needs the raw string; everything else goes through resolvers
+        String raw = TextUtil.replacePlaceholders(message.raw(), message.playerTokens(), player);
 
-        PickYourDifficulty.debug("📨 Formatting cooldown message for " + player.getName() + ": " +
-                cooldownSeconds + "s → " + path);
+        PickYourDifficulty.debug(() -> "📨 Formatting cooldown message for " + player.getName() + ": " +
+                cooldownSeconds + "s → " + key);
 
-        return mm.deserialize(raw);
+        return mm.deserialize(raw, placeholder("cooldowntime", cooldownSeconds + "s"));
     }
 
     // ─────────────────────────────────────────────────────────────
@@ -189,8 +297,9 @@ public class MessagesManager implements Reloadable {
     public void reload() {
         File file = new File(PickYourDifficulty.getInstance().getDataFolder(), "messages.yml");
         messages = YamlConfiguration.loadConfiguration(file);
+        compile();
 
-        plugin.getLogger().info("✅ Loaded message keys: " + messages.getKeys(true));
+        plugin.getLogger().info("✅ Loaded message keys: " + compiled.keySet());
         PickYourDifficulty.debug("♻️ MessagesManager.reload() completed");
     }
 }
@@ -37,7 +37,7 @@ public class PlayerDataManager {
         boolean selected = (difficulty != null);
 
         // 🧪 Debug: show selection state
-        PickYourDifficulty.debug("🔍 hasSelectedDifficulty(): " + player.getName()
+        PickYourDifficulty.debug(() -> "🔍 hasSelectedDifficulty(): " + player.getName()
                 + " → " + (selected ? "✅ Yes (" + difficulty + ")" : "❌ No selection"));
 
         return selected;
@@ -46,12 +46,12 @@ public class PlayerDataManager {
     // ╔═══📥 Apply difficulty settings from config══════════════════════╗
     public void applyDifficulty(Player player) {
         // 📦 Get stored difficulty for this player
-        String difficulty = difficultyStorage.getDifficulty(player);
+        String stored = difficultyStorage.getDifficulty(player);
 
         // 📦 Use fallback if none selected
-        if (difficulty == null) {
-            difficulty = DifficultyManager.getFallbackDifficulty();
-            PickYourDifficulty.debug("📥 No stored difficulty for " + player.getName()
+        String difficulty = stored != null ? stored : DifficultyManager.getFallbackDifficulty();
+        if (stored == null) {
+            PickYourDifficulty.debug(() -> "📥 No stored difficulty for " + player.getName()
                     + " — using fallback: " + difficulty);
         }
 
@@ -60,7 +60,7 @@ public class PlayerDataManager {
         int grace = ConfigManager.getGraceTime(difficulty);
 
         // 🧪 Debug: log applied values
-        PickYourDifficulty.debug("🎯 Applying difficulty to " + player.getName()
+        PickYourDifficulty.debug(() -> "🎯 Applying difficulty to " + player.getName()
                 + " → " + difficulty + " (despawn: " + despawn + "s, grace: " + grace + "s)");
     }
 
@@ -72,7 +72,7 @@ public class PlayerDataManager {
         boolean active = cooldown > 0 && CooldownTracker.isCooldownActive(player.getUniqueId());
 
         // 🧪 Debug: cooldown status
-        PickYourDifficulty.debug("⏳ isGuiCooldownActive(): " + player.getName()
+        PickYourDifficulty.debug(() -> "⏳ isGuiCooldownActive(): " + player.getName()
                 + " → " + (active ? "⛔ Active" : "✅ OK"));
 
         return active;
@@ -83,7 +83,7 @@ public class PlayerDataManager {
         CooldownTracker.setCooldownNow(player.getUniqueId());
 
         // 🧪 Debug: log cooldown start
-        PickYourDifficulty.debug("🕐 Started GUI cooldown for " + player.getName());
+        PickYourDifficulty.debug(() -> "🕐 Started GUI cooldown for " + player.getName());
     }
 
     // ╔═══📊 Get remaining cooldown time════════════════════════════════╗
@@ -94,7 +94,7 @@ public class PlayerDataManager {
         int result = (int) seconds;
 
         // 🧪 Debug: remaining time
-        PickYourDifficulty.debug("⏱️ getCooldownSecondsLeft(): " + player.getName() + " → " + result + "s");
+        PickYourDifficulty.debug(() -> "⏱️ getCooldownSecondsLeft(): " + player.getName() + " → " + result + "s");
 
         return result;
     }
@@ -13,6 +13,8 @@ import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
 import dev.arzor.pickyourdifficulty.storage.CooldownTracker;
 import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.storage.PlayerRecordCache;
+import dev.arzor.pickyourdifficulty.storage.WriteBehindFlusher;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,21 +37,25 @@ public class ReloadManager {
             reloadables.add(reloadable);
 
             // 🧪 Debug: Log registration
-            PickYourDifficulty.debug("🔁 Registered reloadable: " + reloadable.getClass().getSimpleName());
+            PickYourDifficulty.debug(() -> "🔁 Registered reloadable: " + reloadable.getClass().getSimpleName());
         }
     }
 
     // ╔═══♻️ Reload All Registered Components═══════════════════════════╗
     public static void reloadAll() {
+        // 💾 Write pending changes first — loading below replaces memory with the backend's data
+        WriteBehindFlusher.flushAllAndWait();
+
         // 📦 Reload core persistent storage before anything else
         PlayerDifficultyStorage.getInstance().loadFromDisk();
         CooldownTracker.loadFromDisk();
+        PlayerRecordCache.reloadOnline();
 
-        PickYourDifficulty.debug("♻️ Reloading all registered components (" + reloadables.size() + " total)...");
+        PickYourDifficulty.debug(() -> "♻️ Reloading all registered components (" + reloadables.size() + " total)...");
 
         // 🔁 Reload every registered component
         for (Reloadable reloadable : reloadables) {
-            PickYourDifficulty.debug("↩️ Reloading: " + reloadable.getClass().getSimpleName());
+            PickYourDifficulty.debug(() -> "↩️ Reloading: " + reloadable.getClass().getSimpleName());
             reloadable.reload();
         }
 
@@ -7,6 +7,7 @@
 package dev.arzor.pickyourdifficulty.managers;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
 import dev.arzor.pickyourdifficulty.utils.SoundUtil;
 
 import org.bukkit.NamespacedKey;
@@ -15,103 +16,146 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 // ─────────────────────────────────────────────────────────────
 // 🎵 SoundManager — Handles config sound playback + Geyser support
 // ─────────────────────────────────────────────────────────────
-public class SoundManager {
+// 💬 Every configured slot is resolved once per (re)load into a CompiledSound
+//    with the Geyser override already applied, so playing a sound is a field
+//    read plus SoundUtil.play — no registry lookups or map rebuilding per click.
+public class SoundManager implements Reloadable {
+
+    // ╔═══🔂 Singleton Structure═══════════════════════════════════════════╗
+
+    private static final SoundManager instance = new SoundManager();
+
+    private SoundManager() {} // ❌ Prevent external instantiation
+
+    static {
+        ReloadManager.register(instance); // ⏺️ Re-resolve sounds after config reload
+    }
+
+    @Override
+    public void reload() {
+        compile();
+    }
+
+    // ╔═══📦 Compiled Slots════════════════════════════════════════════════╗
+
+    // 🎧 One ready-to-play slot — sound already resolved and Geyser-substituted
+    private record CompiledSound(Sound sound, float volume, float pitch) {}
+
+    // 🗂️ All slots, replaced as a whole on compile()
+    private record CompiledSounds(
+            CompiledSound guiOpen,
+            CompiledSound confirm,
+            CompiledSound cancel,
+            CompiledSound deniedLocked,
+            CompiledSound deniedCooldown
+    ) {}
+
+    private static volatile CompiledSounds sounds;
+
+    private static CompiledSounds sounds() {
+        CompiledSounds current = sounds;
+        if (current == null) {
+            compile();
+            current = sounds;
+        }
+        return current;
+    }
 
     // ╔═══🔊 GUI + Action Sound Triggers════════════════════════════════╗
 
     public static void playGuiOpenSound(Player player) {
         // 📦 Plays GUI Open sound (e.g. Button Click)
-        playFromConfig(
-                player,
-                ConfigManager.getGuiOpenSoundKey(),
-                ConfigManager.getGuiOpenVolume(),
-                ConfigManager.getGuiOpenPitch(),
-                Sound.UI_BUTTON_CLICK
-        );
+        play(player, sounds().guiOpen());
     }
 
     public static void playConfirmSound(Player player) {
         // 📦 Plays confirmation sound (e.g. EXP Pickup)
-        playFromConfig(
-                player,
-                ConfigManager.getConfirmSoundKey(),
-                ConfigManager.getConfirmVolume(),
-                ConfigManager.getConfirmPitch(),
-                Sound.ENTITY_EXPERIENCE_ORB_PICKUP
-        );
+        play(player, sounds().confirm());
     }
 
     public static void playCancelSound(Player player) {
         // 📦 Plays cancel/back sound (e.g. low-pitch bass)
-        playFromConfig(
-                player,
-                ConfigManager.getCancelSoundKey(),
-                ConfigManager.getCancelVolume(),
-                ConfigManager.getCancelPitch(),
-                Sound.BLOCK_NOTE_BLOCK_BASS
-        );
+        play(player, sounds().cancel());
     }
 
     public static void playDeniedSound(Player player, boolean isLocked) {
         // 📦 Plays either locked-denied or cooldown-denied sound
-        if (isLocked) {
-            playFromConfig(
-                    player,
-                    ConfigManager.getLockedDeniedSoundKey(),
-                    ConfigManager.getLockedDeniedVolume(),
-                    ConfigManager.getLockedDeniedPitch(),
-                    Sound.BLOCK_ANVIL_LAND
-            );
-        } else {
-            playFromConfig(
-                    player,
-                    ConfigManager.getCooldownDeniedSoundKey(),
-                    ConfigManager.getCooldownDeniedVolume(),
-                    ConfigManager.getCooldownDeniedPitch(),
-                    Sound.ENTITY_VILLAGER_NO
-            );
-        }
+        CompiledSounds current = sounds();
+        play(player, isLocked ? current.deniedLocked() : current.deniedCooldown());
     }
 
     // ╔═══🚀 Central Sound Dispatch Logic═══════════════════════════════╗
 
-    public static void playFromConfig(Player player, String key, float volume, float pitch, Sound fallback) {
-        // 🎯 Try to resolve the sound from config
-        Sound resolved = resolveSound(key, fallback);
-
-        // 🌉 Apply override if Geyser support is enabled
-        Sound finalSound = getCompatibleSound(resolved);
-
+    private static void play(Player player, CompiledSound compiled) {
         // 🧪 Debug: Log playback details
-        PickYourDifficulty.debug("🎵 Playing sound for " + player.getName()
-                + " → '" + finalSound + "' (volume: " + volume + ", pitch: " + pitch + ")");
+        PickYourDifficulty.debug(() -> "🎵 Playing sound for " + player.getName()
+                + " → '" + compiled.sound() + "' (volume: " + compiled.volume() + ", pitch: " + compiled.pitch() + ")");
 
         // 🎧 Actually dispatch the sound to the player
-        SoundUtil.play(player, finalSound, volume, pitch);
+        SoundUtil.play(player, compiled.sound(), compiled.volume(), compiled.pitch());
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🛠️ compile — Resolve every slot from config.yml
+    // ─────────────────────────────────────────────────────────────
+    public static synchronized void compile() {
+        // 📚 Built once per compile and shared by every slot
+        Map<String, Sound> index = buildSoundIndex();
+        Map<String, String> overrides = ConfigManager.enableGeyserSupport()
+                ? getGeyserSoundOverrides()
+                : Map.of();
+
+        sounds = new CompiledSounds(
+                compileSlot(ConfigManager.getGuiOpenSoundKey(), ConfigManager.getGuiOpenVolume(),
+                        ConfigManager.getGuiOpenPitch(), Sound.UI_BUTTON_CLICK, index, overrides),
+                compileSlot(ConfigManager.getConfirmSoundKey(), ConfigManager.getConfirmVolume(),
+                        ConfigManager.getConfirmPitch(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, index, overrides),
+                compileSlot(ConfigManager.getCancelSoundKey(), ConfigManager.getCancelVolume(),
+                        ConfigManager.getCancelPitch(), Sound.BLOCK_NOTE_BLOCK_BASS, index, overrides),
+                compileSlot(ConfigManager.getLockedDeniedSoundKey(), ConfigManager.getLockedDeniedVolume(),
+                        ConfigManager.getLockedDeniedPitch(), Sound.BLOCK_ANVIL_LAND, index, overrides),
+                compileSlot(ConfigManager.getCooldownDeniedSoundKey(), ConfigManager.getCooldownDeniedVolume(),
+                        ConfigManager.getCooldownDeniedPitch(), Sound.ENTITY_VILLAGER_NO, index, overrides)
+        );
+
+        PickYourDifficulty.debug(() -> "🎵 Compiled sound slots (" + overrides.size() + " Geyser overrides)");
     }
 
-    // ╔═══🧩 Sound Resolver (Config Key → Sound Enum)════════════════════╗
+    private static CompiledSound compileSlot(String key, float volume, float pitch, Sound fallback,
+                                             Map<String, Sound> index, Map<String, String> overrides) {
+        Sound resolved = resolveSound(key, fallback, index);
+        return new CompiledSound(getCompatibleSound(resolved, overrides, index), volume, pitch);
+    }
+
+    // ╔═══🧩 Sound Resolver (Config Key → Sound)═════════════════════════╗
 
-    public static Sound resolveSound(String key, Sound fallback) {
+    // 💬 Accepts both registry keys ("block.note_block.pling") and the
+    //    constant-style names used in config.yml ("BLOCK_NOTE_BLOCK_PLING")
+    private static Sound resolveSound(String key, Sound fallback, Map<String, Sound> index) {
 
         // 🧼 Exit early if blank or null, use the fallback immediately
         if (key == null || key.isBlank()) return fallback;
 
-        try {
-            // 🧪 Log resolution attempt
-            PickYourDifficulty.debug("🔍 Resolving sound from config: '" + key + "'");
+        // 🧪 Log resolution attempt
+        PickYourDifficulty.debug(() -> "🔍 Resolving sound from config: '" + key + "'");
 
+        // 🗂️ Constant-style name → registry entry
+        Sound resolved = index.get(normalize(key));
+        if (resolved != null) return resolved;
+
+        try {
             // 🧼 Normalize to lowercase and trim extra spaces
             // ⚠ Sound keys in Registry are always lowercase (e.g. "block.note_block.pling")
-            NamespacedKey namespacedKey = NamespacedKey.minecraft(key.trim().toLowerCase());
+            NamespacedKey namespacedKey = NamespacedKey.fromString(key.trim().toLowerCase(Locale.ROOT));
 
             // 🗂️ Look up the Sound from Bukkit's registry
-            Sound resolved = Registry.SOUNDS.get(namespacedKey);
+            resolved = namespacedKey != null ? Registry.SOUNDS.get(namespacedKey) : null;
 
             // ✅ Return resolved sound if found
             if (resolved != null) return resolved;
@@ -125,36 +169,44 @@ public class SoundManager {
         return fallback;
     }
 
+    // 💬 Registry index by constant-style name, e.g. block.note_block.pling → BLOCK_NOTE_BLOCK_PLING
+    private static Map<String, Sound> buildSoundIndex() {
+        Map<String, Sound> index = new HashMap<>();
+        for (Sound sound : Registry.SOUNDS) {
+            NamespacedKey key = Registry.SOUNDS.getKey(sound);
+            if (key != null) {
+                index.put(normalize(key.value()), sound);
+            }
+        }
+        return index;
+    }
+
+    // 🧼 Upper-case, dots → underscores, trimmed
+    private static String normalize(String name) {
+        return name.trim().replace('.', '_').toUpperCase(Locale.ROOT);
+    }
 
     // ╔═══🌉 Geyser Compatibility Override═══════════════════════════════╗
 
-    public static Sound getCompatibleSound(Sound original) {
-        // 💬 If Geyser support is disabled, return sound unchanged
-        if (!ConfigManager.enableGeyserSupport()) return original;
+    // 💬 overrides is empty when Geyser support is disabled → sound unchanged
+    private static Sound getCompatibleSound(Sound original, Map<String, String> overrides, Map<String, Sound> index) {
+        if (overrides.isEmpty()) return original;
 
         // 📦 Get the registry key of the original sound
         NamespacedKey key = Registry.SOUNDS.getKey(original);
 
-        // 🔎 Look for override mapping based on config map (uppercased)
-        String overrideName = (key != null) ? getGeyserSoundOverrides().get(key.value().toUpperCase()) : null;
+        // 🔎 Look for override mapping based on config map (normalized constant-style name)
+        String overrideName = (key != null) ? overrides.get(normalize(key.value())) : null;
 
         // ❌ No override defined — fallback to original
         if (overrideName == null) return original;
 
-        try {
-            // 🧼 Normalize override and resolve it
-            NamespacedKey overrideKey = NamespacedKey.minecraft(overrideName.toLowerCase());
-            Sound override = Registry.SOUNDS.get(overrideKey);
-
-            if (override != null) {
+        // 🧼 Resolve the override the same way as a configured sound
+        Sound override = resolveSound(overrideName, null, index);
+        if (override != null) {
             // 🧪 Log override applied
-                PickYourDifficulty.debug("🌉 Geyser override applied: '" + key.value() + "' → '" + overrideName + "'");
-                return override;
-            }
-
-        } catch (Exception e) {
-            // ⚠ Log issue with override name
-            PickYourDifficulty.getInstance().getLogger().warning("⚠ Invalid Geyser override sound: " + overrideName);
+            PickYourDifficulty.debug(() -> "🌉 Geyser override applied: '" + key.value() + "' → '" + overrideName + "'");
+            return override;
         }
 
         // 🔁 Fall back to original if resolution failed
@@ -163,7 +215,7 @@ public class SoundManager {
 
     // ╔═══🗺️ Geyser Sound Override Map═══════════════════════════════════╗
 
-    public static Map<String, String> getGeyserSoundOverrides() {
+    private static Map<String, String> getGeyserSoundOverrides() {
         Map<String, String> overrides = new HashMap<>();
 
         var section = ConfigManager.getGeyserOverrideSection();
@@ -173,15 +225,15 @@ public class SoundManager {
 
                 // ✅ Only include valid, non-empty values
                 if (override != null && !override.isEmpty()) {
-                    // 💬 Store keys in UPPERCASE to avoid case sensitivity issues
-                    overrides.put(javaSound.toUpperCase(), override.toUpperCase());
+                    // 💬 Store keys normalized to avoid case sensitivity issues
+                    overrides.put(normalize(javaSound), override);
                 }
             }
 
             // 🧪 Log count of loaded overrides
-            PickYourDifficulty.debug("🎧 Loaded " + overrides.size() + " Geyser sound overrides");
+            PickYourDifficulty.debug(() -> "🎧 Loaded " + overrides.size() + " Geyser sound overrides");
         }
 
         return overrides;
     }
-}
\ No newline at end of file
+}
@@ -8,14 +8,18 @@ package dev.arzor.pickyourdifficulty.placeholders;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.DifficultyProfile;
 import dev.arzor.pickyourdifficulty.managers.PlayerDataManager;
 
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Locale;
+
 // ─────────────────────────────────────────────────────────────
 // 🧭 Placeholder Expansion: Registers dynamic PAPI variables
 // ─────────────────────────────────────────────────────────────
@@ -68,51 +72,53 @@ public class DifficultyPlaceholder extends PlaceholderExpansion {
         Player online = player.getPlayer();
         if (online == null) return ""; // Defensive null check
 
-        // 📥 Load stored difficulty for this player
-        String difficulty = playerDataManager.getDifficultyStorage().getDifficulty(online);
-        boolean usedFallback = false;
-
-        // ⛑ Use fallback if difficulty not found
-        if (difficulty == null) {
-            difficulty = ConfigManager.getFallbackDifficulty();
-            usedFallback = true;
-        }
-
-        // 🧪 Log resolved difficulty and fallback usage
-        PickYourDifficulty.debug("📦 PlaceholderAPI → " + online.getName()
-                + " resolved difficulty = " + difficulty + (usedFallback ? " (fallback used)" : ""));
+        // 🗃️ Rendered values are cached per player (see PlaceholderCache)
+        PlaceholderCache.Values values = PlaceholderCache.get(online, this::render);
 
         // 🧩 Process each supported placeholder
-        return switch (identifier.toLowerCase()) {
+        return switch (identifier.toLowerCase(Locale.ROOT)) {
 
             // ╔═══📛 %pickyourdifficulty_difficulty%════════════════════════════════════╗
-            case "difficulty" -> {
-                // 🧪 Log request
-                PickYourDifficulty.debug("📛 Resolving placeholder: %difficulty% → " + difficulty);
-                yield difficulty;
-            }
+            case "difficulty" -> values.difficulty();
 
             // ╔═══⏱️ %pickyourdifficulty_despawn_seconds%══════════════════════════════╗
-            case "despawn_seconds" -> {
-                // ⏱ Get despawn time in seconds for this difficulty
-                int seconds = ConfigManager.getDespawnTime(difficulty);
-                PickYourDifficulty.debug("⏱️ Resolving placeholder: %despawn_seconds% → " + seconds);
-                yield String.valueOf(seconds);
-            }
+            case "despawn_seconds" -> values.despawnSeconds();
 
             // ╔═══🛡️ %pickyourdifficulty_grace_seconds%════════════════════════════════╗
-            case "grace_seconds" -> {
-                // 🛡 Get grace time in seconds for this difficulty
-                int seconds = ConfigManager.getGraceTime(difficulty);
-                PickYourDifficulty.debug("🛡️ Resolving placeholder: %grace_seconds% → " + seconds);
-                yield String.valueOf(seconds);
-            }
+            case "grace_seconds" -> values.graceSeconds();
 
             // ╔═══❓ Unknown placeholder═══════════════════════════════════════════════╗
             default -> {
-                PickYourDifficulty.debug("❓ Unknown placeholder requested: " + identifier);
+                PickYourDifficulty.debug(() -> "❓ Unknown placeholder requested: " + identifier);
                 yield null;
             }
         };
     }
-}
\ No newline at end of file
+
+    // ─────────────────────────────────────────────────────────────
+    // 🖌️ render — Build every value for one player (cache miss only)
+    // ─────────────────────────────────────────────────────────────
+    private PlaceholderCache.Values render(Player online) {
+
+        // 📥 Load stored difficulty for this player
+        String stored = playerDataManager.getDifficultyStorage().getDifficulty(online);
+
+        // ⛑ Use fallback if difficulty not found
+        boolean usedFallback = stored == null;
+        String difficulty = usedFallback ? ConfigManager.getFallbackDifficulty() : stored;
+
+        // 🎚️ Resolve the compiled profile once for all numeric placeholders
+        DifficultyProfile profile = ConfigManager.getProfile(difficulty);
+
+        // 🧪 Log resolved values and fallback usage
+        PickYourDifficulty.debug(() -> "📦 PlaceholderAPI → " + online.getName()
+                + " rendered difficulty = " + difficulty + (usedFallback ? " (fallback used)" : "")
+                + ", despawn = " + profile.despawnSeconds() + "s, grace = " + profile.graceSeconds() + "s");
+
+        return new PlaceholderCache.Values(
+                difficulty,
+                String.valueOf(profile.despawnSeconds()),
+                String.valueOf(profile.graceSeconds()),
+                Bukkit.getCurrentTick());
+    }
+}
@@ -0,0 +1,79 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                     🗃️ PlaceholderCache.java                       ║
+// ║  Per-player cache of rendered %pickyourdifficulty_*% values.       ║
+// ║  Invalidated on difficulty change, quit and reload; tick-bounded.  ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.placeholders;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
+import dev.arzor.pickyourdifficulty.managers.ReloadManager;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// ─────────────────────────────────────────────────────────────
+// 🗃️ PlaceholderCache — Rendered values per online player
+// ─────────────────────────────────────────────────────────────
+// 💬 Scoreboard / tab plugins resolve placeholders for every player several
+//    times a second, often off the main thread. Entries are immutable and the
+//    map is concurrent, so any thread may read; a miss simply re-renders.
+// 💬 Every entry also expires after MAX_AGE_TICKS, which bounds staleness for
+//    anything that changes without an explicit invalidate() (e.g. a config
+//    value read by another thread mid-reload).
+public final class PlaceholderCache implements Reloadable {
+
+    // ⏱️ Longest an entry is served before it is rendered again (20 ticks = 1s)
+    private static final int MAX_AGE_TICKS = 20;
+
+    // 📦 One player's rendered values
+    public record Values(String difficulty, String despawnSeconds, String graceSeconds, int renderedAtTick) {}
+
+    private static final Map<UUID, Values> cache = new ConcurrentHashMap<>();
+
+    private PlaceholderCache() {} // ❌ Static cache — the only instance is the reload hook below
+
+    static {
+        ReloadManager.register(new PlaceholderCache()); // ⏺️ Profiles or fallback may have changed
+    }
+
+    @Override
+    public void reload() {
+        invalidateAll();
+    }
+
+    // ╔═══🔍 Lookup═══════════════════════════════════════════════════════╗
+
+    // 💬 Cached values for this player, rendering them on a miss or after expiry
+    public static Values get(Player player, Function<Player, Values> renderer) {
+        UUID uuid = player.getUniqueId();
+        int now = Bukkit.getCurrentTick();
+
+        Values cached = cache.get(uuid);
+        if (cached != null && now - cached.renderedAtTick() < MAX_AGE_TICKS) {
+            return cached;
+        }
+
+        Values rendered = renderer.apply(player);
+        cache.put(uuid, rendered);
+        return rendered;
+    }
+
+    // ╔═══🧽 Invalidation═════════════════════════════════════════════════╗
+
+    // 💬 Called when a player's difficulty is set/cleared and when they quit
+    public static void invalidate(UUID uuid) {
+        cache.remove(uuid);
+    }
+
+    public static void invalidateAll() {
+        cache.clear();
+        PickYourDifficulty.debug("🗃️ Cleared placeholder cache");
+    }
+}
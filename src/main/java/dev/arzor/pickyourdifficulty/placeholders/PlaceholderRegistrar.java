@@ -43,7 +43,7 @@ public class PlaceholderRegistrar {
                     "[PickYourDifficulty] ⚠️ PlaceholderAPI not found or not enabled — placeholders will not be registered."
             );
 
-            PickYourDifficulty.debug("❌ PlaceholderAPI missing or disabled. Detected plugin = " + papi);
+            PickYourDifficulty.debug(() -> "❌ PlaceholderAPI missing or disabled. Detected plugin = " + papi);
             return;
         }
 
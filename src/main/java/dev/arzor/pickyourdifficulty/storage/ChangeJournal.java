@@ -0,0 +1,269 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                      📒 ChangeJournal.java                         ║
+// ║   Append-only log of player data changes for the YAML backend.     ║
+// ║   Replayed on top of the YAML files when they are read.            ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.Change;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.DataSet;
+import dev.arzor.pickyourdifficulty.utils.StorageUtil;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// ─────────────────────────────────────────────────────────────
+// 📒 ChangeJournal — One line per change
+// ─────────────────────────────────────────────────────────────
+// 💬 Record format (UTF-8, '\n' terminated, <set> = DataSet#code):
+//      P <set> <uuid> <value>   put (value URL-encoded)
+//      R <set> <uuid>           remove
+//      X <set>                  clear the whole set
+// 💬 Every record overwrites state, so replaying a record twice is harmless.
+//    That is what makes compaction safe: the journal is rotated to
+//    changes.journal.old before the YAML files are rewritten, and a crash
+//    in between just replays the old records on top of the older files.
+// 💬 A crash can leave a torn final line; replay stops at the last '\n'.
+//    A failed append is cut back off, and a file that still ends mid-line
+//    gets a '\n' before the next batch, so new records never join a torn one.
+// 💬 Only used by YamlStorageBackend, from WriteBehindFlusher's writer
+//    thread (appends) or while nothing is being written (replay).
+public final class ChangeJournal {
+
+    public static final String FILE_NAME = "changes.journal";
+    public static final String ROTATED_FILE_NAME = "changes.journal.old";
+
+    // ╔═══🏷️ Record Types══════════════════════════════════════════════════╗
+
+    private static final char PUT = 'P';
+    private static final char REMOVE = 'R';
+    private static final char CLEAR = 'X';
+
+    // ╔═══✍️ Record Encoding═══════════════════════════════════════════════╗
+
+    static String encode(Change change) {
+        if (change.isClear()) {
+            return CLEAR + " " + change.set().code();
+        }
+        if (change.isDelete()) {
+            return REMOVE + " " + change.set().code() + " " + change.uuid();
+        }
+        return PUT + " " + change.set().code() + " " + change.uuid() + " "
+                + URLEncoder.encode(change.value(), StandardCharsets.UTF_8);
+    }
+
+    // 💬 Null for anything malformed — exact field counts, so a record glued
+    //    onto a torn one is rejected rather than misread
+    static Change decode(String line) {
+        try {
+            String[] parts = line.split(" ");
+            if (parts[0].length() != 1 || parts[1].length() != 1) return null;
+
+            DataSet set = DataSet.fromCode(parts[1].charAt(0));
+            if (set == null) return null;
+
+            return switch (parts[0].charAt(0)) {
+                case CLEAR -> parts.length == 2 ? Change.clear(set) : null;
+                case REMOVE -> parts.length == 3 ? Change.delete(set, UUID.fromString(parts[2])) : null;
+                case PUT -> parts.length == 4
+                        ? Change.put(set, UUID.fromString(parts[2]), URLDecoder.decode(parts[3], StandardCharsets.UTF_8))
+                        : null;
+                default -> null;
+            };
+
+        } catch (RuntimeException e) {
+            // 🧯 Bad UUID, missing field or bad escape
+            return null;
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔁 Replay
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 True if either journal file exists
+    public static boolean exists() {
+        return StorageUtil.getFile(FILE_NAME).exists() || StorageUtil.getFile(ROTATED_FILE_NAME).exists();
+    }
+
+    // 💬 Replays changes.journal.old (left by an interrupted compaction) and
+    //    then changes.journal. Returns the number of records applied.
+    public static int replayAll(Consumer<Change> handler) throws IOException {
+        return replay(ROTATED_FILE_NAME, handler) + replay(FILE_NAME, handler);
+    }
+
+    public static int replay(String fileName, Consumer<Change> handler) throws IOException {
+        Path path = StorageUtil.getFile(fileName).toPath();
+        if (!Files.exists(path)) return 0;
+
+        byte[] data = Files.readAllBytes(path);
+
+        // ✂️ Ignore a torn final record (crash mid-write)
+        int end = data.length;
+        while (end > 0 && data[end - 1] != '\n') end--;
+
+        int applied = 0;
+        int skipped = 0;
+        for (String line : new String(data, 0, end, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isEmpty()) continue;
+
+            Change change = decode(line);
+            if (change != null) {
+                handler.accept(change);
+                applied++;
+            } else {
+                skipped++;
+            }
+        }
+
+        if (skipped > 0 || end < data.length) {
+            PickYourDifficulty.getInstance().getLogger().warning("⚠️ Skipped " + skipped + " malformed record(s)"
+                    + (end < data.length ? " and a torn final record" : "") + " in " + fileName);
+        }
+
+        int appliedCount = applied;
+        PickYourDifficulty.debug(() -> "📒 Replayed " + appliedCount + " journal records from " + fileName);
+        return applied;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ✍️ Append Side (writer thread)
+    // ─────────────────────────────────────────────────────────────
+
+    private FileChannel channel;
+    private volatile long size = -1; // 💬 Read by /pyddebug and the compaction check on the main thread
+    private boolean tornTail;        // 💬 File doesn't end in '\n' — the next batch starts a new line
+
+    // 💬 Appends a batch of changes and fsyncs once. Returns bytes written.
+    //    On failure the batch is truncated away again before rethrowing, so
+    //    WriteBehindFlusher's retry starts on a clean line.
+    public int append(List<Change> changes) throws IOException {
+        FileChannel out = open();
+
+        StringBuilder text = new StringBuilder(changes.size() * 48 + 1);
+        if (tornTail) text.append('\n');
+        for (Change change : changes) {
+            text.append(encode(change)).append('\n');
+        }
+        byte[] data = text.toString().getBytes(StandardCharsets.UTF_8);
+
+        long before = out.size();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false); // 💽 One fsync per batch, not per record
+        } catch (IOException e) {
+            discardPartial(out, before);
+            throw e;
+        }
+
+        tornTail = false;
+        size += data.length;
+        return data.length;
+    }
+
+    // 💬 Cuts a failed batch back to the previous length. If even that fails,
+    //    the channel is dropped and the next open() re-checks the file's tail.
+    private void discardPartial(FileChannel out, long length) {
+        try {
+            out.truncate(length);
+            out.force(false);
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    // 💬 Current journal length in bytes (0 before anything was written)
+    public long size() {
+        return Math.max(0, size);
+    }
+
+    // 💬 Moves the live journal aside so new records start a fresh file.
+    //    The YAML files are rewritten next, then the rotated file is deleted.
+    public void rotate() throws IOException {
+        close();
+
+        Path live = StorageUtil.getFile(FILE_NAME).toPath();
+        if (Files.exists(live)) {
+            Path rotated = StorageUtil.getFile(ROTATED_FILE_NAME).toPath();
+
+            // 🧷 A previous compaction failed before deleting it — keep those records, append ours
+            if (Files.exists(rotated)) {
+                boolean separate = !endsWithNewline(rotated);
+                try (FileChannel out = FileChannel.open(rotated, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    if (separate) out.write(ByteBuffer.wrap(new byte[]{'\n'}));
+                    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(live));
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    out.force(false);
+                }
+                Files.delete(live);
+                size = 0;
+                return;
+            }
+
+            try {
+                Files.move(live, rotated, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(live, rotated, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        size = 0;
+    }
+
+    // 💬 YAML files are safely on disk — the rotated records are no longer needed
+    public void deleteRotated() throws IOException {
+        Files.deleteIfExists(StorageUtil.getFile(ROTATED_FILE_NAME).toPath());
+    }
+
+    public void close() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 🧼 Every append was already forced
+        }
+        channel = null;
+    }
+
+    private FileChannel open() throws IOException {
+        if (channel == null) {
+            Path path = StorageUtil.getFile(FILE_NAME).toPath();
+            Files.createDirectories(path.getParent());
+            tornTail = !endsWithNewline(path);
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            size = channel.size();
+        }
+        return channel;
+    }
+
+    // 💬 True for a missing or empty file too (READ can't be combined with APPEND)
+    private static boolean endsWithNewline(Path path) throws IOException {
+        if (!Files.exists(path)) return true;
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = in.size();
+            if (length == 0) return true;
+
+            ByteBuffer last = ByteBuffer.allocate(1);
+            in.read(last, length - 1);
+            return last.get(0) == '\n';
+        }
+    }
+}
@@ -1,133 +1,295 @@
 // ╔════════════════════════════════════════════════════════════════════╗
 // ║                    ⏳ CooldownTracker.java                         ║
 // ║  Tracks difficulty change cooldowns on a per-player basis          ║
-// ║  Uses in-memory map; persists cooldowns via cooldowns.yml          ║
+// ║  Uses in-memory map; persists cooldowns via StorageBackend         ║
 // ╚════════════════════════════════════════════════════════════════════╝
 
 package dev.arzor.pickyourdifficulty.storage;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.Change;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.DataSet;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
-import dev.arzor.pickyourdifficulty.utils.StorageUtil;
 
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
 
 // ─────────────────────────────────────────────────────────────
 // 🧠 CooldownTracker — Memory + Disk for Difficulty Lock Timer
 // ─────────────────────────────────────────────────────────────
+// 💬 Each cooldown is stored as the instant it ends (epoch millis), so a
+//    check is one primitive map read and a comparison with the clock.
+// 💬 Only running cooldowns are kept: an expiry queue (earliest first) is
+//    polled once a second and drops every cooldown that has ended, in
+//    memory and in the backend. Queue entries are never removed eagerly —
+//    one whose cooldown was since cleared or restarted no longer matches
+//    the map and is skipped when popped (same as GraceScheduler).
+// 💬 Every change is queued on WriteBehindFlusher, which writes it to the
+//    configured StorageBackend in the background.
+// 💬 Threading: written on the main thread only; reads are optimistic
+//    StampedLock reads (see PlayerDifficultyStorage) and safe from any thread.
 public class CooldownTracker {
 
+    // ⏱️ How often ended cooldowns are pruned (20 ticks = 1s)
+    private static final long PRUNE_INTERVAL_TICKS = 20L;
+
+    // 💬 Stored values below this are the old format: epoch *seconds* of the
+    //    last change (year 5138 in seconds, 1973 in millis — no overlap)
+    private static final long LEGACY_SECONDS_LIMIT = 100_000_000_000L;
+
+    private record Expiry(long at, UUID uuid) {}
+
     // ╔═══🗺️ Internal Cooldown Map═══════════════════════════════════════╗
-    // Stores: Player UUID → Epoch seconds of last difficulty change
-    private static final Map<UUID, Long> cooldownMap = new HashMap<>();
+    // Stores: Player UUID → Epoch millis at which the cooldown ends
+    private static final UuidLongMap expiries = new UuidLongMap();
 
-    // ╔═══❄️ isCooldownActive() — Check if a player is on cooldown═══════╗
-    public static boolean isCooldownActive(UUID uuid) {
+    // 🗂️ Earliest end first (main thread only)
+    private static final PriorityQueue<Expiry> queue = new PriorityQueue<>(Comparator.comparingLong(Expiry::at));
+
+    // 🔒 Held by the main thread while it changes `expiries`
+    private static final StampedLock lock = new StampedLock();
+
+    // Stores the prune task ID so we can stop it later
+    private static int taskId = -1;
 
-        // 🧼 No record = no cooldown
-        if (!cooldownMap.containsKey(uuid)) return false;
+    // ─────────────────────────────────────────────────────────────
+    // ▶ Start / ⛔ Stop
+    // ─────────────────────────────────────────────────────────────
 
-        // 🕓 When did the player last change difficulty?
-        long lastChangeTime = cooldownMap.get(uuid);
+    public static void start(JavaPlugin plugin) {
+        if (taskId != -1) return;
 
-        // ⏱️ Get current time in epoch seconds
-        long now = System.currentTimeMillis() / 1000;
+        taskId = new BukkitRunnable() {
+            @Override
+            public void run() {
+                pruneExpired();
+            }
+        }.runTaskTimer(plugin, PRUNE_INTERVAL_TICKS, PRUNE_INTERVAL_TICKS).getTaskId();
 
-        // 🧮 Elapsed time = now - last change
-        long elapsed = now - lastChangeTime;
+        PickYourDifficulty.debug("⏳ Cooldown pruning started");
+    }
 
-        // 🔁 How long the cooldown lasts (from config)
-        long cooldown = ConfigManager.changeCooldownSeconds();
+    public static void stop() {
+        if (taskId != -1) {
+            Bukkit.getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+    }
 
-        // ✅ Still cooling down if elapsed < cooldown
-        boolean active = elapsed < cooldown;
+    // ╔═══❄️ isCooldownActive() — Check if a player is on cooldown═══════╗
+    public static boolean isCooldownActive(UUID uuid) {
+        long expiresAt = read(uuid);
+        boolean active = expiresAt != UuidLongMap.NO_VALUE && expiresAt > System.currentTimeMillis();
 
         // 🧪 Debug output if enabled
-        PickYourDifficulty.debug("⌛ Cooldown check for " + uuid + ": " +
-                (active ? "ACTIVE" : "EXPIRED") + " (" + elapsed + "s elapsed, cooldown = " + cooldown + "s)");
+        PickYourDifficulty.debug(() -> "⌛ Cooldown check for " + uuid + ": " + (active ? "ACTIVE" : "EXPIRED"));
 
         return active;
     }
 
     // ╔═══⏱️ getRemainingSeconds() — Time Left on Cooldown════════════════╗
     public static long getRemainingSeconds(UUID uuid) {
+        long expiresAt = read(uuid);
 
         // 🧼 No entry? No time remaining.
-        if (!cooldownMap.containsKey(uuid)) return 0;
-
-        long lastChangeTime = cooldownMap.get(uuid);
-        long now = System.currentTimeMillis() / 1000;
-        long cooldown = ConfigManager.changeCooldownSeconds();
+        if (expiresAt == UuidLongMap.NO_VALUE) return 0;
 
-        // 🧮 Calculate time remaining by subtract elapsed from cooldown; clamp to zero minimum
-        long elapsed = now - lastChangeTime;
-        long remaining = Math.max(0, cooldown - elapsed);
+        // 🧮 Round partial seconds up, so "0s left" only shows once it's over
+        long remaining = Math.max(0, (expiresAt - System.currentTimeMillis() + 999) / 1000);
 
-        PickYourDifficulty.debug("⏱️ Remaining cooldown for " + uuid + ": " + remaining +
-                "s (elapsed: " + elapsed + "s)");
+        PickYourDifficulty.debug(() -> "⏱️ Remaining cooldown for " + uuid + ": " + remaining + "s");
 
         return remaining;
     }
 
     // ╔═══🎯 setCooldownNow() — Start cooldown from current time═══════════╗
     public static void setCooldownNow(UUID uuid) {
-        long now = System.currentTimeMillis() / 1000;
-        cooldownMap.put(uuid, now);
+        long seconds = ConfigManager.changeCooldownSeconds();
 
-        PickYourDifficulty.debug("📌 Set cooldown for " + uuid + " at time " + now);
+        // 🧼 No cooldown configured — nothing to remember
+        if (seconds <= 0) {
+            clearCooldown(uuid);
+            return;
+        }
+
+        long expiresAt = System.currentTimeMillis() + seconds * 1000L;
+        track(uuid, expiresAt);
+        WriteBehindFlusher.append(Change.put(DataSet.COOLDOWNS, uuid, String.valueOf(expiresAt)));
+
+        PickYourDifficulty.debug(() -> "📌 Set cooldown for " + uuid + " until " + expiresAt + " (" + seconds + "s)");
     }
 
     // ╔═══🧼 clearCooldown() — Remove cooldown for a specific player═══════╗
     public static void clearCooldown(UUID uuid) {
-        cooldownMap.remove(uuid);
+        if (untrack(uuid)) {
+            WriteBehindFlusher.append(Change.delete(DataSet.COOLDOWNS, uuid));
+        }
 
-        PickYourDifficulty.debug("❌ Cleared cooldown for " + uuid);
+        PickYourDifficulty.debug(() -> "❌ Cleared cooldown for " + uuid);
     }
 
     // ╔═══💣 clearAll() — ⚠️ Dev-only nuke method to clear all cooldowns════╗
     @SuppressWarnings("unused")
     public static void clearAll() {
-        cooldownMap.clear();
+        clearMemory();
+        WriteBehindFlusher.append(Change.clear(DataSet.COOLDOWNS));
 
         PickYourDifficulty.debug("💥 Cleared all cooldowns (dev use only)");
     }
 
-    // ╔═══💾 Load Cooldowns from Disk═════════════════════════════════════╗
+    // ╔═══🧹 pruneExpired() — Drop every cooldown that has ended═══════════╗
+    // 💬 Main thread, once a second — O(ended) rather than O(players)
+    public static void pruneExpired() {
+        long now = System.currentTimeMillis();
+        int pruned = 0;
+
+        Expiry next;
+        while ((next = queue.peek()) != null && next.at() <= now) {
+            queue.poll();
+
+            // ♻️ Stale — cleared, restarted or evicted since it was queued
+            if (read(next.uuid()) != next.at()) continue;
+
+            untrack(next.uuid());
+            WriteBehindFlusher.append(Change.delete(DataSet.COOLDOWNS, next.uuid()));
+            pruned++;
+        }
+
+        if (pruned > 0) {
+            int count = pruned;
+            PickYourDifficulty.debug(() -> "🧹 Pruned " + count + " ended cooldowns (" + expiries.size() + " running)");
+        }
+    }
+
+    // ╔═══💤 Lazy Loading — Resident players only (PlayerRecordCache)════════╗
+
+    // 💬 The value came from the backend, so only a rewrite or delete is queued
+    public static void cacheLoaded(UUID uuid, String storedValue) {
+        if (storedValue != null) {
+            restore(uuid, storedValue, System.currentTimeMillis());
+        }
+    }
+
+    public static void evict(UUID uuid) {
+        untrack(uuid);
+    }
+
+    // ╔═══💾 Load Cooldowns from the StorageBackend═══════════════════════╗
     public static void loadFromDisk() {
-        FileConfiguration config = StorageUtil.loadYaml("cooldowns.yml");
+        clearMemory(); // start fresh
+
+        // 💤 Players are loaded one at a time by PlayerRecordCache
+        if (PlayerRecordCache.isActive()) {
+            PickYourDifficulty.debug("💤 Lazy loading on — skipping the bulk cooldown load");
+            return;
+        }
 
-        cooldownMap.clear(); // start fresh
-        int loaded = 0;
+        Map<UUID, String> stored;
+        try {
+            stored = StorageManager.getBackend().loadAll(DataSet.COOLDOWNS);
+        } catch (IOException e) {
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to load cooldowns: " + e.getMessage());
+            stored = Map.of();
+        }
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, String> entry : stored.entrySet()) {
+            restore(entry.getKey(), entry.getValue(), now);
+        }
+
+        int storedCount = stored.size();
+        PickYourDifficulty.debug(() -> "💾 Loaded " + expiries.size() + " running cooldowns (of " + storedCount + " stored) from "
+                + StorageManager.getBackend().getName() + " storage");
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧠 Internals
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Stored value → memory. Ended cooldowns are deleted from the backend
+    //    instead of loaded; old-format values are rewritten as expiry instants.
+    private static void restore(UUID uuid, String storedValue, long now) {
+        long value;
+        try {
+            value = Long.parseLong(storedValue);
+        } catch (NumberFormatException e) {
+            // 🧼 Unreadable — drop it rather than carry it forever
+            WriteBehindFlusher.append(Change.delete(DataSet.COOLDOWNS, uuid));
+            return;
+        }
 
-        for (String key : config.getKeys(false)) {
+        boolean legacy = value < LEGACY_SECONDS_LIMIT;
+        long expiresAt = legacy ? (value + ConfigManager.changeCooldownSeconds()) * 1000L : value;
+
+        if (expiresAt <= now) {
+            WriteBehindFlusher.append(Change.delete(DataSet.COOLDOWNS, uuid));
+            return;
+        }
+
+        track(uuid, expiresAt);
+        if (legacy) {
+            WriteBehindFlusher.append(Change.put(DataSet.COOLDOWNS, uuid, String.valueOf(expiresAt)));
+        }
+    }
+
+    // 💬 Lock-free unless it races a write (see PlayerDifficultyStorage#lookup)
+    private static long read(UUID uuid) {
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
             try {
-                UUID uuid = UUID.fromString(key);
-                long timestamp = config.getLong(key);
-                cooldownMap.put(uuid, timestamp);
-                loaded++;
-            } catch (IllegalArgumentException ignored) {
-                // 🧼 Skip any invalid entries that aren’t valid UUIDs
+                long value = expiries.get(most, least);
+                if (lock.validate(stamp)) return value;
+            } catch (RuntimeException torn) {
+                // 🔁 Raced a rehash — retried below
             }
         }
 
-        PickYourDifficulty.debug("💾 Loaded " + loaded + " cooldown entries from cooldowns.yml");
+        stamp = lock.readLock();
+        try {
+            return expiries.get(most, least);
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
-    // ╔═══💾 Save Cooldowns to Disk═══════════════════════════════════════╗
-    public static void saveToDisk() {
-        FileConfiguration config = new YamlConfiguration();
-
-        for (Map.Entry<UUID, Long> entry : cooldownMap.entrySet()) {
-            config.set(entry.getKey().toString(), entry.getValue());
+    private static void track(UUID uuid, long expiresAt) {
+        long stamp = lock.writeLock();
+        try {
+            expiries.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), expiresAt);
+        } finally {
+            lock.unlockWrite(stamp);
         }
+        queue.add(new Expiry(expiresAt, uuid));
+    }
 
-        StorageUtil.saveYaml(config, "cooldowns.yml");
+    // 💬 True if there was a cooldown to remove (its queue entry goes stale)
+    private static boolean untrack(UUID uuid) {
+        long stamp = lock.writeLock();
+        try {
+            return expiries.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) != UuidLongMap.NO_VALUE;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
 
-        PickYourDifficulty.debug("💾 Saved " + cooldownMap.size() + " cooldown entries to cooldowns.yml");
+    private static void clearMemory() {
+        long stamp = lock.writeLock();
+        try {
+            expiries.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        queue.clear();
     }
-}
\ No newline at end of file
+}
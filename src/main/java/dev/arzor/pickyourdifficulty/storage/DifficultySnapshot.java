@@ -0,0 +1,248 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                   📦 DifficultySnapshot.java                       ║
+// ║   Versioned binary snapshot of every player's difficulty           ║
+// ║   (playerdata.dat) — replaces the playerdata.yml mapping           ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// ─────────────────────────────────────────────────────────────
+// 📦 DifficultySnapshot — Binary layout (big-endian)
+// ─────────────────────────────────────────────────────────────
+// 💬 Header (20 bytes, never compressed):
+//      int   magic 'PYDS'
+//      short version (1)
+//      short flags (bit 0 = body is deflated)
+//      int   record count
+//      int   body length (uncompressed)
+//      int   stored body length
+// 💬 Body:
+//      short dictionary size, then per name: short length + UTF-8 bytes
+//      records sorted by UUID (unsigned), 20 bytes each:
+//        long most, long least, short ordinal, short flags (reserved, 0)
+// 💬 Trailer: int CRC32 of every byte before it.
+// 💬 Read in one pass: the whole file is read through a FileChannel into
+//    one buffer, the CRC checked, the body inflated if needed, then the
+//    records decoded straight from the buffer. Difficulty strings are
+//    shared per dictionary entry, so the only per-player objects are the
+//    UUID and its map entry.
+public final class DifficultySnapshot {
+
+    public static final String FILE_NAME = "playerdata.dat";
+
+    private static final int MAGIC = 0x50594453; // "PYDS"
+    private static final short VERSION = 1;
+    private static final short FLAG_DEFLATED = 1;
+
+    private static final int HEADER_BYTES = 20;
+    private static final int RECORD_BYTES = 20;
+    private static final int TRAILER_BYTES = 4;
+
+    private DifficultySnapshot() {} // ❌ Static utility
+
+    // ─────────────────────────────────────────────────────────────
+    // ✍️ Encoding
+    // ─────────────────────────────────────────────────────────────
+
+    public static byte[] encode(Map<UUID, String> entries, boolean compress) {
+        // 📖 Dictionary in first-seen order
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> ordinals = new HashMap<>();
+
+        // 🔢 Records sorted by UUID so the file is stable and binary-searchable
+        List<Map.Entry<UUID, String>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Map.Entry.comparingByKey(DifficultySnapshot::compareUnsigned));
+        for (Map.Entry<UUID, String> entry : sorted) {
+            ordinals.computeIfAbsent(entry.getValue(), name -> {
+                names.add(name);
+                return names.size() - 1;
+            });
+        }
+
+        List<byte[]> encodedNames = new ArrayList<>(names.size());
+        int dictionaryBytes = 2;
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            encodedNames.add(bytes);
+            dictionaryBytes += 2 + bytes.length;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(dictionaryBytes + sorted.size() * RECORD_BYTES);
+        body.putShort((short) names.size());
+        for (byte[] bytes : encodedNames) {
+            body.putShort((short) bytes.length);
+            body.put(bytes);
+        }
+        for (Map.Entry<UUID, String> entry : sorted) {
+            body.putLong(entry.getKey().getMostSignificantBits());
+            body.putLong(entry.getKey().getLeastSignificantBits());
+            body.putShort(ordinals.get(entry.getValue()).shortValue());
+            body.putShort((short) 0);
+        }
+
+        byte[] raw = body.array();
+        byte[] stored = compress ? deflate(raw) : raw;
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + stored.length + TRAILER_BYTES);
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort(compress ? FLAG_DEFLATED : 0);
+        out.putInt(sorted.size());
+        out.putInt(raw.length);
+        out.putInt(stored.length);
+        out.put(stored);
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.position());
+        out.putInt((int) crc.getValue());
+
+        return out.array();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📥 Decoding
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Throws on anything unexpected — a damaged snapshot must never be
+    //    mistaken for an empty one (it would be overwritten on compaction)
+    public static Map<UUID, String> read(Path path) throws IOException {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException(FILE_NAME + " has an invalid size (" + size + " bytes)");
+            }
+
+            file = ByteBuffer.allocate((int) size);
+            while (file.hasRemaining()) {
+                if (channel.read(file) < 0) throw new IOException(FILE_NAME + " ended early");
+            }
+            file.flip();
+        }
+
+        return decode(file.array());
+    }
+
+    static Map<UUID, String> decode(byte[] data) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(data);
+
+        // 🧾 Checksum first — nothing below trusts the contents until it matches
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - TRAILER_BYTES);
+        if ((int) crc.getValue() != in.getInt(data.length - TRAILER_BYTES)) {
+            throw new IOException(FILE_NAME + " failed its checksum");
+        }
+
+        if (in.getInt() != MAGIC) throw new IOException(FILE_NAME + " is not a difficulty snapshot");
+        short version = in.getShort();
+        if (version != VERSION) throw new IOException(FILE_NAME + " has unsupported version " + version);
+
+        short flags = in.getShort();
+        int count = in.getInt();
+        int rawLength = in.getInt();
+        int storedLength = in.getInt();
+        if (storedLength != data.length - HEADER_BYTES - TRAILER_BYTES || count < 0 || rawLength < 0) {
+            throw new IOException(FILE_NAME + " has an inconsistent header");
+        }
+
+        ByteBuffer body = (flags & FLAG_DEFLATED) != 0
+                ? ByteBuffer.wrap(inflate(data, HEADER_BYTES, storedLength, rawLength))
+                : ByteBuffer.wrap(data, HEADER_BYTES, storedLength).slice();
+
+        try {
+            String[] names = new String[Short.toUnsignedInt(body.getShort())];
+            for (int i = 0; i < names.length; i++) {
+                byte[] bytes = new byte[Short.toUnsignedInt(body.getShort())];
+                body.get(bytes);
+                names[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            if (body.remaining() != (long) count * RECORD_BYTES) {
+                throw new IOException(FILE_NAME + " record count does not match its size");
+            }
+
+            Map<UUID, String> entries = new HashMap<>((int) (count / 0.75f) + 1);
+            for (int i = 0; i < count; i++) {
+                UUID uuid = new UUID(body.getLong(), body.getLong());
+                int ordinal = Short.toUnsignedInt(body.getShort());
+                body.getShort(); // 💬 Record flags — reserved
+
+                if (ordinal >= names.length) throw new IOException(FILE_NAME + " references unknown difficulty " + ordinal);
+                entries.put(uuid, names[ordinal]);
+            }
+            return entries;
+
+        } catch (BufferUnderflowException e) {
+            throw new IOException(FILE_NAME + " is truncated", e);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔧 Helpers
+    // ─────────────────────────────────────────────────────────────
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int length, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset, length);
+            byte[] raw = new byte[rawLength];
+
+            int filled = 0;
+            while (filled < rawLength) {
+                int read = inflater.inflate(raw, filled, rawLength - filled);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) break;
+                filled += read;
+            }
+            if (filled != rawLength || !inflater.finished()) {
+                throw new IOException(FILE_NAME + " body did not inflate to " + rawLength + " bytes");
+            }
+            return raw;
+
+        } catch (DataFormatException e) {
+            throw new IOException(FILE_NAME + " body is not valid deflate data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // 💬 Same order as Long.compareUnsigned on (most, least)
+    private static int compareUnsigned(UUID a, UUID b) {
+        int most = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return most != 0 ? most : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -8,18 +8,19 @@ package dev.arzor.pickyourdifficulty.storage;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 // ─────────────────────────────────────────────────────────────
 // 🧠 GraceReminderTracker — Anti-Spam Reminder System
 // ─────────────────────────────────────────────────────────────
+// 💬 Written on the main thread; safe to read from any thread.
 public class GraceReminderTracker {
 
     // ╔═══🗺️ Internal Timestamp Map══════════════════════════════════════╗
     // Stores: Player UUID → last reminder timestamp (milliseconds)
-    private static final Map<UUID, Long> lastReminderTimestamps = new HashMap<>();
+    private static final Map<UUID, Long> lastReminderTimestamps = new ConcurrentHashMap<>();
 
     // ╔═══📌 updateReminder() — Mark current time as last reminder═══════╗
     public static void updateReminder(UUID uuid) {
@@ -27,7 +28,7 @@ public class GraceReminderTracker {
         lastReminderTimestamps.put(uuid, now); // Save new timestamp
 
         // 🧪 Debug: log when reminders are marked
-        PickYourDifficulty.debug("🔔 Updated grace reminder timestamp for " + uuid + " → " + now + "ms");
+        PickYourDifficulty.debug(() -> "🔔 Updated grace reminder timestamp for " + uuid + " → " + now + "ms");
     }
 
     // ╔═══⏱️ getSecondsSinceLastReminder() — Time since last reminder════╗
@@ -36,7 +37,7 @@ public class GraceReminderTracker {
 
         // 📭 No reminder ever sent — treat as infinite delay
         if (last == null) {
-            PickYourDifficulty.debug("📭 No previous reminder found for " + uuid + " → returning Long.MAX_VALUE");
+            PickYourDifficulty.debug(() -> "📭 No previous reminder found for " + uuid + " → returning Long.MAX_VALUE");
             return Long.MAX_VALUE;
         }
 
@@ -45,7 +46,7 @@ public class GraceReminderTracker {
         long seconds = diffMillis / 1000;      // 🧮 Convert to seconds (1s = 1000ms)
 
         // 🧪 Debug: show time since last reminder
-        PickYourDifficulty.debug("⏱️ Time since last reminder for " + uuid +
+        PickYourDifficulty.debug(() -> "⏱️ Time since last reminder for " + uuid +
                 " → " + seconds + "s (" + diffMillis + "ms)");
 
         return seconds;
@@ -55,7 +56,7 @@ public class GraceReminderTracker {
     public static void clear(UUID uuid) {
         lastReminderTimestamps.remove(uuid);
 
-        PickYourDifficulty.debug("❌ Cleared grace reminder timestamp for " + uuid);
+        PickYourDifficulty.debug(() -> "❌ Cleared grace reminder timestamp for " + uuid);
     }
 
     // ╔═══💣 clearAll() — ⚠️ Dev wipe of all reminder timestamps══════════╗
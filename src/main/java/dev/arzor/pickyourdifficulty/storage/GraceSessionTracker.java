@@ -0,0 +1,161 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                  🛡️ GraceSessionTracker.java                       ║
+// ║   Per-online-player grace deadline, computed once on join and      ║
+// ║   after a difficulty change instead of on every damage event.      ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.events.GraceExpiredEvent;
+import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
+import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.GraceScheduler;
+import dev.arzor.pickyourdifficulty.managers.ReloadManager;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Statistic;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// ─────────────────────────────────────────────────────────────
+// 🛡️ GraceSessionTracker — Cached grace deadlines (main thread)
+// ─────────────────────────────────────────────────────────────
+// 💬 Grace is measured in playtime (Statistic.PLAY_ONE_MINUTE, in ticks).
+//    While a player is online that statistic advances one per server tick,
+//    so "grace ends after N more playtime ticks" becomes a fixed server-tick
+//    deadline. Checking protection is then a single int comparison.
+// 💬 Sessions are dropped on quit, rebuilt on difficulty change and reload,
+//    and otherwise computed on first lookup.
+// 💬 Every stored session with time left is handed to GraceScheduler, which
+//    fires the expiry transition (GraceExpiredEvent) when the deadline passes.
+public class GraceSessionTracker implements Reloadable {
+
+    // ╔═══📦 Session Record══════════════════════════════════════════════╗
+
+    // 💬 deadlineTick → server tick (Bukkit.getCurrentTick) at which grace ends
+    //    graceSeconds → configured grace for the difficulty at compute time
+    public record GraceSession(String difficulty, int graceSeconds, int deadlineTick) {
+
+        // 🚫 Sentinel deadline — grace disabled, zero, or already used up
+        public static final int NEVER = Integer.MIN_VALUE;
+
+        public boolean isProtected(int currentTick) {
+            return currentTick < deadlineTick;
+        }
+
+        public boolean isNeverProtected() {
+            return deadlineTick == NEVER;
+        }
+
+        // 💬 Whole seconds of grace left (0 once expired)
+        public long getRemainingSeconds(int currentTick) {
+            return isProtected(currentTick) ? (deadlineTick - (long) currentTick) / 20 : 0L; // 🧮 20 ticks = 1s
+        }
+    }
+
+    // ╔═══🗺️ Internal Session Map════════════════════════════════════════╗
+    // Stores: Player UUID → grace session (online players only)
+    private static final Map<UUID, GraceSession> sessions = new HashMap<>();
+
+    private GraceSessionTracker() {} // ❌ Static tracker — the only instance is the reload hook below
+
+    static {
+        ReloadManager.register(new GraceSessionTracker()); // ⏺️ Grace times or grace mode may have changed
+    }
+
+    @Override
+    public void reload() {
+        clearAll();
+
+        // 🔁 Rebuild online sessions now so expiry + reminders are rescheduled
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            refresh(player);
+        }
+    }
+
+    // ╔═══🔍 get() — Cached session, computed on first use═════════════════╗
+    public static GraceSession get(Player player) {
+        GraceSession session = sessions.get(player.getUniqueId());
+        return session != null ? session : refresh(player);
+    }
+
+    // 💬 Current session without computing one (null if none)
+    public static GraceSession getIfPresent(UUID uuid) {
+        return sessions.get(uuid);
+    }
+
+    // ╔═══🧮 compute() — Difficulty + playtime → deadline════════════════╗
+    public static GraceSession compute(Player player) {
+        String difficulty = PlayerDifficultyStorage.getInstance().getDifficulty(player);
+        int graceSeconds = ConfigManager.getProfile(difficulty).graceSeconds();
+
+        // 📦 Grace mode off or zero grace → never protected
+        if (!ConfigManager.enableGraceMode() || graceSeconds <= 0) {
+            return new GraceSession(difficulty, graceSeconds, GraceSession.NEVER);
+        }
+
+        // 🧮 Playtime ticks still covered by grace (20 ticks = 1 sec)
+        long remainingTicks = graceSeconds * 20L - player.getStatistic(Statistic.PLAY_ONE_MINUTE);
+        if (remainingTicks <= 0) {
+            PickYourDifficulty.debug(() -> "🛡️ Grace already used up for " + player.getName() + " (" + difficulty + ")");
+            return new GraceSession(difficulty, graceSeconds, GraceSession.NEVER);
+        }
+
+        int deadline = (int) Math.min(Integer.MAX_VALUE, Bukkit.getCurrentTick() + remainingTicks);
+
+        PickYourDifficulty.debug(() -> "🛡️ Grace session for " + player.getName() + " (" + difficulty + "): "
+                + (remainingTicks / 20) + "s left → deadline tick " + deadline);
+
+        return new GraceSession(difficulty, graceSeconds, deadline);
+    }
+
+    // ╔═══🔄 refresh() — Recompute now (join)═══════════════════════════════╗
+    public static GraceSession refresh(Player player) {
+        GraceSession session = compute(player);
+        sessions.put(player.getUniqueId(), session);
+        GraceScheduler.schedule(player, session);
+        return session;
+    }
+
+    // ╔═══⌛ expire() — Grace ran out mid-session → cache "never protected"═╗
+    // 💬 Called by GraceScheduler at the deadline, or by a damage check that
+    //    notices first. Whichever comes first fires the event; the other no-ops.
+    public static void expire(Player player) {
+        UUID uuid = player.getUniqueId();
+        GraceSession session = sessions.get(uuid);
+        if (session == null || session.isNeverProtected()) return;
+
+        sessions.put(uuid, new GraceSession(session.difficulty(), session.graceSeconds(), GraceSession.NEVER));
+
+        PickYourDifficulty.debug(() -> "⌛ Grace expired for " + player.getName() + " (" + session.difficulty() + ")");
+        Bukkit.getPluginManager().callEvent(new GraceExpiredEvent(player, session.difficulty(), session.graceSeconds()));
+    }
+
+    // ╔═══♻️ invalidate() — Difficulty changed → rebuild if online═════════╗
+    public static void invalidate(UUID uuid) {
+        sessions.remove(uuid);
+
+        // 🔁 Online players get a fresh session right away so expiry stays scheduled
+        Player player = Bukkit.getPlayer(uuid);
+        if (player != null) {
+            refresh(player);
+        }
+    }
+
+    // ╔═══🧼 clear() — Drop a single player's session═════════════════════╗
+    public static void clear(UUID uuid) {
+        sessions.remove(uuid);
+    }
+
+    // ╔═══💣 clearAll() — Drop every session (reload)═════════════════════╗
+    public static void clearAll() {
+        sessions.clear();
+        GraceScheduler.clear();
+
+        PickYourDifficulty.debug("🧹 Cleared all grace sessions");
+    }
+}
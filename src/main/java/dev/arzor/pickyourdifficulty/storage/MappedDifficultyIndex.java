@@ -0,0 +1,219 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                  🗺️ MappedDifficultyIndex.java                     ║
+// ║   Read-only, memory-mapped UUID → difficulty ordinal table on disk ║
+// ║   Keeps stored difficulties out of the Java heap                   ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.utils.StorageUtil;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// ─────────────────────────────────────────────────────────────
+// 🗺️ MappedDifficultyIndex — Open addressing over a MappedByteBuffer
+// ─────────────────────────────────────────────────────────────
+// 💬 Layout (big-endian):
+//      header  int magic 'PYDI', int version, int capacity, int count
+//      slots   capacity × (long most, long least, short ordinal + 1)
+//    An ordinal field of 0 marks an empty slot. Linear probing with the
+//    same hash as UuidKeyTable; load factor ≤ 0.5 keeps probe chains short.
+// 💬 Immutable once built: changes live in PlayerDifficultyStorage's
+//    overlay and are merged into a brand-new file (Builder), so readers
+//    never see a half-written table.
+// 💬 The OS page cache holds the table; heap use is this object only.
+// 💬 Rebuilt from the storage backend on every load — the files under
+//    index/ are scratch space, never a source of truth.
+public final class MappedDifficultyIndex {
+
+    public static final String DIRECTORY = "index";
+
+    // 💬 Returned by get() when the key is absent
+    public static final int NO_VALUE = UuidByteMap.NO_VALUE;
+
+    private static final int MAGIC = 0x50594449; // "PYDI"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 16;
+    private static final int SLOT_BYTES = 18;
+
+    // 💬 One MappedByteBuffer is limited to 2 GB
+    private static final int MAX_CAPACITY = Integer.highestOneBit((Integer.MAX_VALUE - HEADER_BYTES) / SLOT_BYTES);
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int mask;
+    private final int count;
+
+    private MappedDifficultyIndex(Path path, MappedByteBuffer buffer, int capacity, int count) {
+        this.path = path;
+        this.buffer = buffer;
+        this.mask = capacity - 1;
+        this.count = count;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔍 Lookup
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Stored ordinal, or NO_VALUE. Absolute reads only, so safe from any thread.
+    public int get(long most, long least) {
+        int slot = slotFor(most, least, mask);
+        while (true) {
+            int offset = offsetOf(slot);
+            int stored = Short.toUnsignedInt(buffer.getShort(offset + 16));
+            if (stored == 0) return NO_VALUE;
+            if (buffer.getLong(offset) == most && buffer.getLong(offset + 8) == least) {
+                return stored - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // 💬 Slot-level access for allocation-free iteration
+    int capacity() {
+        return mask + 1;
+    }
+
+    boolean isUsed(int slot) {
+        return buffer.getShort(offsetOf(slot) + 16) != 0;
+    }
+
+    long mostAt(int slot) {
+        return buffer.getLong(offsetOf(slot));
+    }
+
+    long leastAt(int slot) {
+        return buffer.getLong(offsetOf(slot) + 8);
+    }
+
+    int valueAt(int slot) {
+        return Short.toUnsignedInt(buffer.getShort(offsetOf(slot) + 16)) - 1;
+    }
+
+    // 💬 Removes the backing file once this index is no longer used. The
+    //    mapping itself is released by the GC; where the OS refuses to delete
+    //    a mapped file, it is cleaned up on the next load instead.
+    void discard() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 🧼 Swept by deleteStale()
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧹 Scratch Directory
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Called before the first build of a load — leftovers from earlier runs
+    static void deleteStale() {
+        Path directory = StorageUtil.getFile(DIRECTORY).toPath();
+        if (!Files.isDirectory(directory)) return;
+
+        try (var files = Files.newDirectoryStream(directory, "*.idx")) {
+            for (Path file : files) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                    // 🧼 Still mapped by this process (Windows) — next time
+                }
+            }
+        } catch (IOException ignored) {
+            // 🧼 Nothing to clean up
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🏗️ Builder — Writes a new index file, then maps it read-only
+    // ─────────────────────────────────────────────────────────────
+
+    public static final class Builder {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int mask;
+        private int count;
+
+        public Builder(int expectedSize) throws IOException {
+            int capacity = 16;
+            while (capacity < (long) Math.max(expectedSize, 1) * 2) {
+                if (capacity >= MAX_CAPACITY) throw new IOException("Too many players for one index (" + expectedSize + ")");
+                capacity <<= 1;
+            }
+            this.mask = capacity - 1;
+
+            Path directory = StorageUtil.getFile(DIRECTORY).toPath();
+            Files.createDirectories(directory);
+            this.path = Files.createTempFile(directory, "playerdata-", ".idx");
+
+            // 💬 New file bytes read as zero, so every slot starts empty
+            this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) capacity * SLOT_BYTES);
+        }
+
+        // 💬 Inserts or overwrites one entry
+        public void put(long most, long least, int ordinal) {
+            int slot = slotFor(most, least, mask);
+            while (true) {
+                int offset = offsetOf(slot);
+                if (buffer.getShort(offset + 16) == 0) {
+                    if (count >= (mask + 1) / 2) throw new IllegalStateException("Index built with too small a size hint");
+                    buffer.putLong(offset, most);
+                    buffer.putLong(offset + 8, least);
+                    count++;
+                    break;
+                }
+                if (buffer.getLong(offset) == most && buffer.getLong(offset + 8) == least) break;
+                slot = (slot + 1) & mask;
+            }
+            buffer.putShort(offsetOf(slot) + 16, (short) (ordinal + 1));
+        }
+
+        // 💬 Writes the header and returns the table, remapped read-only
+        public MappedDifficultyIndex build() throws IOException {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, mask + 1);
+            buffer.putInt(12, count);
+
+            try (channel) {
+                MappedByteBuffer readOnly = channel.map(FileChannel.MapMode.READ_ONLY, 0, buffer.capacity());
+                return new MappedDifficultyIndex(path, readOnly, mask + 1, count);
+            }
+        }
+
+        // 💬 Gives up on a half-built index
+        public void abort() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+                // 🧼 Swept by deleteStale()
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧠 Internals
+    // ─────────────────────────────────────────────────────────────
+
+    private static int offsetOf(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    // 💬 Same hash as the in-memory tables — part of the file format
+    private static int slotFor(long most, long least, int mask) {
+        return UuidKeyTable.slotFor(most, least, mask);
+    }
+}
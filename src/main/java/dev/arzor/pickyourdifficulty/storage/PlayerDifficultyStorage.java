@@ -1,27 +1,51 @@
 // ╔════════════════════════════════════════════════════════════════════╗
 // ║               🧠 PlayerDifficultyStorage.java                      ║
 // ║  Tracks which difficulty each player has selected (in-memory).    ║
-// ║  Source of truth for difficulty state; persists to YAML on disk.  ║
+// ║  Source of truth for difficulty state; persists via StorageBackend.║
 // ╚════════════════════════════════════════════════════════════════════╝
 
 package dev.arzor.pickyourdifficulty.storage;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.Change;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.DataSet;
 import dev.arzor.pickyourdifficulty.managers.ConfigManager;
-import dev.arzor.pickyourdifficulty.utils.StorageUtil;
+import dev.arzor.pickyourdifficulty.placeholders.PlaceholderCache;
 
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
 
 // ─────────────────────────────────────────────────────────────
 // 🧠 PlayerDifficultyStorage — Runtime difficulty state tracker
 // ─────────────────────────────────────────────────────────────
+// 💬 Every change is queued on WriteBehindFlusher, which writes it to the
+//    configured StorageBackend in the background.
+// 💬 With storage.mappedIndex on, stored difficulties live in a
+//    MappedDifficultyIndex on disk and difficultyMap only holds changes
+//    made since the index was built (an overlay, with TOMBSTONE for
+//    resets). Once the overlay reaches storage.indexOverlayMax entries it
+//    is merged into a new index on the writer thread.
+// 💬 With storage.lazyLoading on, nothing is loaded up front: PlayerRecordCache
+//    adds players as they log in (or are looked up) and evicts them again,
+//    so the map and getStoredCount() only cover resident players.
+// 💬 Threading: the main thread is the only writer. Reads (getDifficulty,
+//    hasSelected) are safe from any thread — e.g. PlaceholderAPI requests
+//    from async scoreboard plugins — and take no lock unless they race a
+//    write: each is an optimistic StampedLock read, validated afterwards
+//    and retried under the read lock only if a write overlapped it.
 public class PlayerDifficultyStorage {
 
     // ╔═══🔁 Singleton Access═════════════════════════════════════════════╗
@@ -39,8 +63,176 @@ public class PlayerDifficultyStorage {
 
     // ╔═══🗺️ Internal Difficulty Map═════════════════════════════════════╗
 
-    // 🗺️ Maps player UUID to selected difficulty key from config
-    private final Map<UUID, String> difficultyMap = new HashMap<>();
+    // 📦 Backend entries per page while building the mapped index
+    private static final int INDEX_PAGE_SIZE = 1000;
+
+    // 🗺️ Maps player UUID (two longs) to an interned difficulty ordinal
+    //    (every entry, or only the overlay when the mapped index is on)
+    private final UuidByteMap difficultyMap = new UuidByteMap();
+
+    // 🪦 Overlay value for "reset since the index was built"
+    private static final int TOMBSTONE = UuidByteMap.MAX_VALUE;
+
+    // 🗺️ On-disk table of everything older than the overlay (null = off)
+    private volatile MappedDifficultyIndex index;
+
+    // 🔢 Players with a stored difficulty across overlay + index
+    private volatile int storedCount = 0;
+
+    // 🔀 Set while an overlay merge is running on the writer thread
+    private boolean merging = false;
+
+    // 📖 Ordinal → difficulty key. Append-only so stored ordinals never change meaning,
+    //    even if config.yml is reordered or a difficulty is removed on reload.
+    //    Replaced (never modified) on growth, so readers always see a complete array.
+    private volatile String[] dictionary = new String[0];
+
+    // 📖 Difficulty key → ordinal (only touched on writes/loads, never on reads)
+    private final Map<String, Integer> dictionaryIndex = new HashMap<>();
+
+    // 🔒 Read-only live view handed out by getAllDifficultyData()
+    private final Map<UUID, String> dataView = new DifficultyDataView();
+
+    // 🔒 Write lock held by the main thread while it changes the tables above;
+    //    readers only validate against it (see lookup)
+    private final StampedLock lock = new StampedLock();
+
+    // ╔═══📖 Difficulty Interning══════════════════════════════════════════╗
+
+    // 💬 Returns the ordinal for a difficulty key, appending it to the dictionary if new
+    private int intern(String difficultyKey) {
+        Integer existing = dictionaryIndex.get(difficultyKey);
+        if (existing != null) return existing;
+
+        int ordinal = dictionary.length;
+        if (ordinal >= TOMBSTONE) {
+            throw new IllegalStateException("Too many distinct difficulty keys (max " + TOMBSTONE + ")");
+        }
+
+        String[] grown = Arrays.copyOf(dictionary, ordinal + 1);
+        grown[ordinal] = difficultyKey;
+        dictionary = grown; // 💬 Published only once filled in
+        dictionaryIndex.put(difficultyKey, ordinal);
+
+        PickYourDifficulty.debug(() -> "📖 Interned difficulty '" + difficultyKey + "' as ordinal " + ordinal);
+        return ordinal;
+    }
+
+    // 💬 Seeds the dictionary in config order so ordinals line up with DifficultyProfile ordinals
+    private void seedDictionary() {
+        dictionary = new String[0];
+        dictionaryIndex.clear();
+        for (String key : ConfigManager.getDifficultyNames()) {
+            intern(key);
+        }
+    }
+
+    // 💬 Overlay first, then the mapped index — NO_VALUE if absent or reset
+    private int lookupOrdinal(long most, long least) {
+        int ordinal = difficultyMap.get(most, least);
+        if (ordinal == UuidByteMap.NO_VALUE && index != null) {
+            ordinal = index.get(most, least);
+        }
+        return ordinal == TOMBSTONE ? UuidByteMap.NO_VALUE : ordinal;
+    }
+
+    private String resolve(long most, long least) {
+        int ordinal = lookupOrdinal(most, least);
+        return ordinal == UuidByteMap.NO_VALUE ? null : dictionary[ordinal];
+    }
+
+    // 💬 Raw lookup from any thread — null if the player has never selected a difficulty.
+    //    A read that overlaps a write may see a half-updated table (even throw);
+    //    validate() catches that and the read is repeated under the read lock.
+    private String lookup(UUID uuid) {
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                String difficulty = resolve(most, least);
+                if (lock.validate(stamp)) return difficulty;
+            } catch (RuntimeException torn) {
+                // 🔁 Raced a rehash — retried below
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return resolve(most, least);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 💬 store / remove: main thread, write lock held by the caller
+    private void store(UUID uuid, String difficultyKey) {
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+
+        if (lookupOrdinal(most, least) == UuidByteMap.NO_VALUE) storedCount++;
+        difficultyMap.put(most, least, intern(difficultyKey));
+    }
+
+    private boolean remove(UUID uuid) {
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+
+        boolean removed = lookupOrdinal(most, least) != UuidByteMap.NO_VALUE;
+        if (removed) {
+            storedCount--;
+
+            // 🪦 The index still has the old value — shadow it until the next merge
+            if (index != null && index.get(most, least) != MappedDifficultyIndex.NO_VALUE) {
+                difficultyMap.put(most, least, TOMBSTONE);
+            } else {
+                difficultyMap.remove(most, least);
+            }
+        }
+        return removed;
+    }
+
+    // 💬 After the write lock is released — both trackers read the difficulty back
+    private void afterChange(UUID uuid) {
+        PlaceholderCache.invalidate(uuid); // 🗃️ Placeholders must not show the old difficulty
+        GraceSessionTracker.invalidate(uuid); // 🛡️ Grace deadline depends on the difficulty
+        mergeIfOverlayFull();
+    }
+
+    private void storeLocked(UUID uuid, String difficultyKey) {
+        long stamp = lock.writeLock();
+        try {
+            store(uuid, difficultyKey);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        afterChange(uuid);
+    }
+
+    private boolean removeLocked(UUID uuid) {
+        boolean removed;
+        long stamp = lock.writeLock();
+        try {
+            removed = remove(uuid);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        afterChange(uuid);
+        return removed;
+    }
+
+    // 💬 Persisted changes — applied in memory and queued for the backend
+    private void storeAndPersist(UUID uuid, String difficultyKey) {
+        storeLocked(uuid, difficultyKey);
+        WriteBehindFlusher.append(Change.put(DataSet.DIFFICULTIES, uuid, difficultyKey));
+    }
+
+    private void removeAndPersist(UUID uuid) {
+        if (removeLocked(uuid)) {
+            WriteBehindFlusher.append(Change.delete(DataSet.DIFFICULTIES, uuid));
+        }
+    }
 
     // ╔═══🔍 Get Difficulty — fallback if not set════════════════════════════╗
 
@@ -48,36 +240,46 @@ public class PlayerDifficultyStorage {
         UUID uuid = player.getUniqueId();
 
         // 🪂 Fallback to default if player has no set difficulty
-        String difficulty = difficultyMap.getOrDefault(uuid, ConfigManager.getFallbackDifficulty());
+        String stored = lookup(uuid);
+        String difficulty = stored != null ? stored : ConfigManager.getFallbackDifficulty();
 
-        // 🧪 Debug output if enabled
-        PickYourDifficulty.debug("🔍 Retrieved difficulty for " + player.getName() + " → " + difficulty);
+        // 🧪 Debug output if enabled (guarded — the lambda captures locals and
+        //    this runs for every drop, death, placeholder and message render)
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(() -> "🔍 Retrieved difficulty for " + player.getName() + " → " + difficulty);
+        }
         return difficulty;
     }
 
     public String getDifficulty(OfflinePlayer offlinePlayer) {
         UUID uuid = offlinePlayer.getUniqueId();
-        String difficulty = difficultyMap.getOrDefault(uuid, ConfigManager.getFallbackDifficulty());
+        String stored = lookup(uuid);
+        String difficulty = stored != null ? stored : ConfigManager.getFallbackDifficulty();
 
-        PickYourDifficulty.debug("🔍 Retrieved difficulty for offline player " + uuid + " → " + difficulty);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(() -> "🔍 Retrieved difficulty for offline player " + uuid + " → " + difficulty);
+        }
         return difficulty;
     }
 
     public String getDifficulty(UUID uuid) {
-        String difficulty = difficultyMap.getOrDefault(uuid, ConfigManager.getFallbackDifficulty());
+        String stored = lookup(uuid);
+        String difficulty = stored != null ? stored : ConfigManager.getFallbackDifficulty();
 
-        PickYourDifficulty.debug("🔍 Retrieved difficulty for UUID " + uuid + " → " + difficulty);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(() -> "🔍 Retrieved difficulty for UUID " + uuid + " → " + difficulty);
+        }
         return difficulty;
     }
 
     // ╔═══✅ Check if Player Has Selected═══════════════════════════════════╗
     public boolean hasSelectedDifficulty(Player player) {
         // 📌 True if the player's  UUID exists in memory
-        return difficultyMap.containsKey(player.getUniqueId());
+        return hasSelected(player.getUniqueId());
     }
 
     public boolean hasSelected(UUID uuid) {
-        return difficultyMap.containsKey(uuid);
+        return lookup(uuid) != null;
     }
 
     // ╔═══📝 Set Difficulty═════════════════════════════════════════════════╗
@@ -85,8 +287,8 @@ public class PlayerDifficultyStorage {
     public void setDifficulty(Player player, String difficultyKey) {
         UUID uuid = player.getUniqueId();
 
-        // 💾 Save to in-memory map
-        difficultyMap.put(player.getUniqueId(), difficultyKey);
+        // 💾 Save to in-memory map (+ write-behind)
+        storeAndPersist(uuid, difficultyKey);
 
         // 📣 Console log for server owners (always shown)
         PickYourDifficulty.getInstance().getLogger().info(
@@ -94,82 +296,310 @@ public class PlayerDifficultyStorage {
         );
 
         // 🧪 Debug trace
-        PickYourDifficulty.debug("💾 Updated difficulty for " + player.getName() + " (" + uuid + ") → " + difficultyKey);
+        PickYourDifficulty.debug(() -> "💾 Updated difficulty for " + player.getName() + " (" + uuid + ") → " + difficultyKey);
     }
 
     public void setDifficulty(UUID uuid, String difficultyKey) {
-        difficultyMap.put(uuid, difficultyKey);
+        storeAndPersist(uuid, difficultyKey);
 
-        PickYourDifficulty.debug("💾 Updated difficulty for UUID " + uuid + " → " + difficultyKey);
+        PickYourDifficulty.debug(() -> "💾 Updated difficulty for UUID " + uuid + " → " + difficultyKey);
     }
 
     // ╔═══🧽 Clear Difficulty═══════════════════════════════════════════════╗
 
     public void clearDifficulty(Player player) {
         UUID uuid = player.getUniqueId();
-        difficultyMap.remove(uuid);
+        removeAndPersist(uuid);
 
-        PickYourDifficulty.debug("❌ Cleared difficulty for player " + player.getName() + " (" + uuid + ")");
+        PickYourDifficulty.debug(() -> "❌ Cleared difficulty for player " + player.getName() + " (" + uuid + ")");
     }
 
     public void clearDifficulty(UUID uuid) {
-        difficultyMap.remove(uuid);
+        removeAndPersist(uuid);
+
+        PickYourDifficulty.debug(() -> "❌ Cleared difficulty for UUID " + uuid);
+    }
+
+    // ╔═══💤 Lazy Loading — Resident players only (PlayerRecordCache)════════╗
+
+    // 💬 Memory only — the value came from the backend, so nothing is queued
+    public void cacheLoaded(UUID uuid, String difficultyKey) {
+        if (difficultyKey != null) {
+            storeLocked(uuid, difficultyKey);
+        }
+    }
 
-        PickYourDifficulty.debug("❌ Cleared difficulty for UUID " + uuid);
+    public void evict(UUID uuid) {
+        removeLocked(uuid);
     }
 
     // ╔═══📦 getAllDifficultyData() — For debug/export══════════════════════╗
 
     public Map<UUID, String> getAllDifficultyData() {
-        // 🛡️ Return a defensive copy to prevent external mutation
-        return new HashMap<>(difficultyMap);
+        // 🛡️ Read-only view — entries are materialized lazily from the primitive table
+        return dataView;
+    }
+
+    // 💬 Number of players with a stored difficulty
+    public int getStoredCount() {
+        return storedCount;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 👁️ DifficultyDataView — Read-only Map facade over UuidByteMap
+    // ─────────────────────────────────────────────────────────────
+    // 💬 get/containsKey are O(1) primitive lookups; iteration builds
+    //    UUID + entry objects only for the entries actually visited.
+    // ⚠️ get/containsKey are safe from any thread; iterate on the main thread only.
+    // 💬 Iteration walks the overlay (skipping tombstones), then the mapped
+    //    index (skipping keys the overlay shadows).
+    private final class DifficultyDataView extends AbstractMap<UUID, String> {
+
+        @Override
+        public String get(Object key) {
+            return key instanceof UUID uuid ? lookup(uuid) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof UUID uuid && hasSelected(uuid);
+        }
+
+        @Override
+        public int size() {
+            return storedCount;
+        }
+
+        @Override
+        public Set<Entry<UUID, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return storedCount;
+                }
+
+                @Override
+                public Iterator<Entry<UUID, String>> iterator() {
+                    return new Iterator<>() {
+                        private final MappedDifficultyIndex base = index;
+                        private boolean inIndex = false;
+                        private int slot = advance(0);
+
+                        // 💬 Next visible slot at or after `from`, moving on to the index when the overlay runs out
+                        private int advance(int from) {
+                            if (!inIndex) {
+                                int capacity = difficultyMap.capacity();
+                                while (from < capacity && (!difficultyMap.isUsed(from) || difficultyMap.valueAt(from) == TOMBSTONE)) from++;
+                                if (from < capacity || base == null) return from;
+
+                                inIndex = true;
+                                from = 0;
+                            }
+
+                            int capacity = base.capacity();
+                            while (from < capacity && (!base.isUsed(from)
+                                    || difficultyMap.containsKey(base.mostAt(from), base.leastAt(from)))) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return inIndex ? slot < base.capacity() : slot < difficultyMap.capacity();
+                        }
+
+                        @Override
+                        public Entry<UUID, String> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+
+                            UUID uuid;
+                            String difficulty;
+                            if (inIndex) {
+                                uuid = new UUID(base.mostAt(slot), base.leastAt(slot));
+                                difficulty = dictionary[base.valueAt(slot)];
+                            } else {
+                                uuid = new UUID(difficultyMap.mostAt(slot), difficultyMap.leastAt(slot));
+                                difficulty = dictionary[difficultyMap.valueAt(slot)];
+                            }
+                            slot = advance(slot + 1);
+                            return new SimpleImmutableEntry<>(uuid, difficulty);
+                        }
+                    };
+                }
+            };
+        }
     }
 
     // 🔁 Difficulty effects (grace, despawn, etc.) are applied by:
     //    PlayerDataManager#applyDifficulty — this class stores state only.
 
     // ╔════════════════════════════════════════════════════════════╗
-    // 💾 Persistence to Disk (playerdata.yml)
+    // 💾 Loading from the StorageBackend
     // ╚════════════════════════════════════════════════════════════╝
 
+    // 💬 Readers from other threads wait for the load instead of seeing it half done
     public void loadFromDisk() {
-        // 📂 Load YAML config from disk
-        FileConfiguration config = StorageUtil.loadYaml("playerdata.yml");
+        long stamp = lock.writeLock();
+        try {
+            reloadTables();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
 
+        // 🧹 Rendered placeholders and grace sessions were based on the old data
+        PlaceholderCache.invalidateAll();
+        GraceSessionTracker.clearAll();
+    }
+
+    // 💬 Write lock held
+    private void reloadTables() {
         // 🧹 Clear previous entries before reloading
         difficultyMap.clear();
+        storedCount = 0;
+        seedDictionary();
 
-        for (String key : config.getKeys(false)) {
-            try {
-                UUID uuid = UUID.fromString(key);
-                String difficulty = config.getString(key);
+        if (index != null) {
+            index.discard();
+            index = null;
+        }
+
+        // 💤 Players are loaded one at a time by PlayerRecordCache
+        if (PlayerRecordCache.isActive()) {
+            PickYourDifficulty.debug("💤 Lazy loading on — skipping the bulk difficulty load");
+            return;
+        }
+
+        if (ConfigManager.useMappedDifficultyIndex() && loadIntoIndex()) {
+            return;
+        }
+
+        // 📂 Every stored difficulty from the active backend
+        Map<UUID, String> stored;
+        try {
+            stored = StorageManager.getBackend().loadAll(DataSet.DIFFICULTIES);
+        } catch (IOException e) {
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to load player difficulties: " + e.getMessage());
+            stored = Map.of();
+        }
 
-                // 🛑 Skip null entries
-                if (difficulty != null) {
-                    difficultyMap.put(uuid, difficulty);
+        for (Map.Entry<UUID, String> entry : stored.entrySet()) {
+            store(entry.getKey(), entry.getValue());
+        }
+
+        int loadedCount = stored.size();
+        PickYourDifficulty.debug(() -> "📥 Loaded " + loadedCount + " difficulty entries from "
+                + StorageManager.getBackend().getName() + " storage");
+    }
 
-                    PickYourDifficulty.debug("📥 Loaded difficulty from disk for " + uuid + " → " + difficulty);
+    // 💬 Streams the backend into a fresh mapped index, page by page.
+    //    False if it failed — the caller falls back to loading into the heap.
+    private boolean loadIntoIndex() {
+        MappedDifficultyIndex.deleteStale();
+
+        MappedDifficultyIndex.Builder builder = null;
+        try {
+            // 1️⃣ Count first so the table is sized once
+            int[] total = {0};
+            StorageManager.getBackend().forEachPage(DataSet.DIFFICULTIES, INDEX_PAGE_SIZE, page -> total[0] += page.size());
+
+            // 2️⃣ Insert straight into the mapped file
+            MappedDifficultyIndex.Builder target = new MappedDifficultyIndex.Builder(total[0]);
+            builder = target;
+            StorageManager.getBackend().forEachPage(DataSet.DIFFICULTIES, INDEX_PAGE_SIZE, page -> {
+                for (Map.Entry<UUID, String> entry : page.entrySet()) {
+                    UUID uuid = entry.getKey();
+                    target.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), intern(entry.getValue()));
                 }
+            });
+
+            index = target.build();
+            storedCount = index.size();
 
-            } catch (IllegalArgumentException e) {
-                // 🧯 Skip malformed UUID entries
-                PickYourDifficulty.debug("⚠️ Skipped invalid UUID in playerdata.yml: " + key);
+            PickYourDifficulty.debug(() -> "🗺️ Indexed " + storedCount + " difficulty entries from "
+                    + StorageManager.getBackend().getName() + " storage (memory-mapped)");
+            return true;
+
+        } catch (IOException | RuntimeException e) {
+            if (builder != null) builder.abort();
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to index player difficulties, keeping them in memory instead: " + e.getMessage());
+
+            seedDictionary();
+            return false;
+        }
+    }
+
+    // ╔════════════════════════════════════════════════════════════╗
+    // 🔀 Overlay Merging (mapped index only)
+    // ╚════════════════════════════════════════════════════════════╝
+
+    // 💬 Rebuilds the index from (index + overlay) on the writer thread, then
+    //    drops the overlay entries that haven't changed since the copy was taken
+    private void mergeIfOverlayFull() {
+        if (index == null || merging || difficultyMap.size() < Math.max(1, ConfigManager.getIndexOverlayMax())) return;
+        if (!PickYourDifficulty.getInstance().isEnabled()) return;
+
+        merging = true;
+        MappedDifficultyIndex base = index;
+        UuidByteMap overlay = difficultyMap.copy();
+        int expected = storedCount;
+
+        WriteBehindFlusher.submit(() -> {
+            MappedDifficultyIndex merged = null;
+            try {
+                merged = merge(base, overlay, expected);
+            } catch (IOException | RuntimeException e) {
+                PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to merge difficulty index: " + e.getMessage());
+            }
+
+            MappedDifficultyIndex result = merged;
+            Bukkit.getScheduler().runTask(PickYourDifficulty.getInstance(), () -> applyMerge(base, overlay, result));
+        });
+    }
+
+    // 💬 Writer thread — only reads the immutable base and the overlay copy
+    private static MappedDifficultyIndex merge(MappedDifficultyIndex base, UuidByteMap overlay, int expected) throws IOException {
+        MappedDifficultyIndex.Builder builder = new MappedDifficultyIndex.Builder(Math.max(expected, base.size()) + overlay.size());
+        try {
+            for (int slot = 0; slot < base.capacity(); slot++) {
+                if (!base.isUsed(slot)) continue;
+                long most = base.mostAt(slot);
+                long least = base.leastAt(slot);
+                if (!overlay.containsKey(most, least)) builder.put(most, least, base.valueAt(slot));
             }
+            overlay.forEach((most, least, ordinal) -> {
+                if (ordinal != TOMBSTONE) builder.put(most, least, ordinal);
+            });
+            return builder.build();
+
+        } catch (IOException | RuntimeException e) {
+            builder.abort();
+            throw e;
         }
     }
 
-    public void saveToDisk() {
-        // 🧾 Create fresh YAML structure to store difficulty data
-        FileConfiguration config = new YamlConfiguration();
+    // 💬 Main thread
+    private void applyMerge(MappedDifficultyIndex base, UuidByteMap overlay, MappedDifficultyIndex merged) {
+        merging = false;
+        if (merged == null) return;
 
-        // 💾 Dump all in-memory difficulty entries
-        for (Map.Entry<UUID, String> entry : difficultyMap.entrySet()) {
-            config.set(entry.getKey().toString(), entry.getValue());
+        // 🔁 Reloaded meanwhile — the merge is based on data that no longer applies
+        if (index != base) {
+            merged.discard();
+            return;
         }
 
-        // 💽 Write to disk using utility
-        StorageUtil.saveYaml(config, "playerdata.yml");
+        // 🔒 Index swap + overlay trim must look atomic to readers
+        long stamp = lock.writeLock();
+        try {
+            index = merged;
+            overlay.forEach((most, least, ordinal) -> {
+                if (difficultyMap.get(most, least) == ordinal) difficultyMap.remove(most, least);
+            });
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        base.discard();
 
-        PickYourDifficulty.debug("📤 Saved " + difficultyMap.size() + " difficulty entries to disk (playerdata.yml)");
+        PickYourDifficulty.debug(() -> "🔀 Merged difficulty overlay into index (" + merged.size() + " entries, "
+                + difficultyMap.size() + " changes still pending)");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,323 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                   💤 PlayerRecordCache.java                        ║
+// ║   Lazy per-player loading (storage.lazyLoading): which players'    ║
+// ║   records are in memory, and fetching the rest from the backend    ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.DataSet;
+import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.HologramManager;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// ─────────────────────────────────────────────────────────────
+// 💤 PlayerRecordCache — Online (pinned) + recent (LRU) residency
+// ─────────────────────────────────────────────────────────────
+// 💬 Off by default: every record is loaded at startup and isLoaded()
+//    is always true. With storage.lazyLoading on (sqlite only),
+//    PlayerDifficultyStorage, CooldownTracker and HologramManager start
+//    empty and only hold resident players:
+//      • online players — fetched on AsyncPlayerPreLoginEvent, pinned until quit
+//      • recent players — the last storage.lazyLoading.recentPlayers to quit
+//        or be looked up, evicted least recently used first
+// 💬 Everything else is fetched on demand with loadAsync(). Fetches run on
+//    the WriteBehindFlusher writer thread, behind any write already handed
+//    off, so a fetched record is never older than memory was. A resident
+//    player who logs back in is not evicted until join(), which then keeps
+//    memory and discards the prefetch.
+// 💬 Residency is main-thread state; only prefetch() runs off it.
+public class PlayerRecordCache {
+
+    // ⏱️ Longest a login (or a blocking fallback fetch) waits for the backend
+    private static final long FETCH_TIMEOUT_SECONDS = 5;
+
+    // ⏱️ A login that hasn't reached join() after this long is treated as abandoned
+    private static final long LOGIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    // 💾 One player's stored values (null = nothing stored)
+    public record PlayerRecord(String difficulty, String cooldown, String hologramsHidden) {
+        static final PlayerRecord EMPTY = new PlayerRecord(null, null, null);
+    }
+
+    private static boolean active = false;
+
+    // 📥 Fetched during pre-login, installed on join (login threads → main thread)
+    private static final Map<UUID, PlayerRecord> prefetched = new ConcurrentHashMap<>();
+
+    // 🚪 Logins between pre-login and join (uuid → System.nanoTime() at pre-login).
+    //    trim() never evicts these: a prefetch that read the backend while the
+    //    player was still resident would miss every later in-memory change.
+    private static final Map<UUID, Long> loggingIn = new ConcurrentHashMap<>();
+
+    // 📌 Pinned while online
+    private static final Set<UUID> online = new HashSet<>();
+
+    // 🕘 Offline but resident, in access order (eldest first)
+    private static final LinkedHashMap<UUID, Boolean> recent = new LinkedHashMap<>(16, 0.75f, true);
+
+    // ⏳ On-demand fetches in flight, so concurrent misses share one
+    private static final Map<UUID, CompletableFuture<Void>> loading = new HashMap<>();
+
+    private PlayerRecordCache() {} // ❌ Static utility
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔌 Lifecycle
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Call after StorageManager.init() and before the stores load.
+    //    Restart required to change — it decides what the stores hold.
+    public static void init() {
+        active = false;
+        prefetched.clear();
+        loggingIn.clear();
+        online.clear();
+        recent.clear();
+        loading.clear();
+
+        if (!ConfigManager.useLazyLoading()) return;
+
+        // 🧯 yaml reads whole files per lookup — lazy loading would be slower, not faster
+        if (!(StorageManager.getBackend() instanceof SqliteStorageBackend)) {
+            PickYourDifficulty.getInstance().getLogger().warning("⚠️ storage.lazyLoading needs the sqlite backend — loading all player data at startup");
+            return;
+        }
+
+        active = true;
+        PickYourDifficulty.debug(() -> "💤 Lazy player loading on (" + ConfigManager.getLazyRecentPlayers() + " recent players kept)");
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    // 💬 After the stores were (re)loaded: drops every resident record and
+    //    fetches the players who are online right now (enable, /pyd reload)
+    public static void reloadOnline() {
+        if (!active) return;
+
+        for (UUID uuid : online) evict(uuid);
+        for (UUID uuid : recent.keySet()) evict(uuid);
+        online.clear();
+        recent.clear();
+        prefetched.clear();
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID uuid = player.getUniqueId();
+            install(uuid, fetchNow(uuid));
+            online.add(uuid);
+        }
+
+        PickYourDifficulty.debug(() -> "💤 Loaded records for " + online.size() + " online players");
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔍 Residency
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 True if the stores hold this player's data (always, when inactive)
+    public static boolean isLoaded(UUID uuid) {
+        return !active || online.contains(uuid) || recent.get(uuid) != null; // 💬 get() refreshes LRU order
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🚪 Login / Join / Quit (PlayerPreLoginListener)
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Login thread, once the login is allowed — blocks this login only, never the main thread
+    public static void prefetch(UUID uuid) {
+        if (!active) return;
+
+        // 🚪 Registered before the read, so trim() keeps the player resident while it runs
+        Long started = System.nanoTime();
+        loggingIn.put(uuid, started);
+
+        try {
+            PlayerRecord record = fetch(uuid).get(FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            // 💬 Atomic with evict(): if this login was given up on and the player
+            //    evicted meanwhile, nothing is published and join() fetches again
+            loggingIn.computeIfPresent(uuid, (key, current) -> {
+                if (current.equals(started)) prefetched.put(key, record);
+                return current;
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 💬 join() retries on the main thread
+            PickYourDifficulty.getInstance().getLogger().warning("⚠️ Failed to prefetch player data for " + uuid + ": " + e.getMessage());
+        }
+    }
+
+    // 💬 Main thread, before any other join handler reads the stores
+    public static void join(UUID uuid) {
+        if (!active) return;
+
+        PlayerRecord record = prefetched.remove(uuid);
+        loggingIn.remove(uuid);
+
+        // 🕘 Still resident from an earlier session — memory may be newer than the prefetch
+        if (recent.remove(uuid) != null || online.contains(uuid)) {
+            online.add(uuid);
+            return;
+        }
+
+        if (record == null) {
+            PickYourDifficulty.debug(() -> "💤 No prefetched record for " + uuid + " — loading on the main thread");
+            record = fetchNow(uuid);
+        }
+
+        install(uuid, record);
+        online.add(uuid);
+    }
+
+    // 💬 Main thread — the player stays resident as the most recent entry
+    public static void quit(UUID uuid) {
+        if (!active || !online.remove(uuid)) return;
+
+        recent.put(uuid, Boolean.TRUE);
+        trim();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📥 On-Demand Loading
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Main thread. Completes on the main thread once the player's record
+    //    is in the stores (immediately if it already is). Fails if the
+    //    backend read failed — callers should then leave the player alone.
+    public static CompletableFuture<Void> loadAsync(UUID uuid) {
+        if (isLoaded(uuid)) return CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Void> pending = loading.get(uuid);
+        if (pending != null) return pending;
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        loading.put(uuid, done);
+
+        PickYourDifficulty.debug(() -> "💤 Loading record for " + uuid + " from " + StorageManager.getBackend().getName() + " storage");
+
+        fetch(uuid).whenComplete((record, error) -> {
+            if (!PickYourDifficulty.getInstance().isEnabled()) return; // 💬 Shutting down
+
+            Bukkit.getScheduler().runTask(PickYourDifficulty.getInstance(), () -> {
+                loading.remove(uuid);
+
+                if (error != null) {
+                    PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to load player data for " + uuid + ": " + error.getMessage());
+                    done.completeExceptionally(error);
+                    return;
+                }
+
+                // 💬 Joined (or reloaded) meanwhile — memory already has the newest data
+                if (!isLoaded(uuid)) {
+                    install(uuid, record);
+                    recent.put(uuid, Boolean.TRUE);
+                    trim();
+                }
+                done.complete(null);
+            });
+        });
+
+        return done;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧠 Internals
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Any thread — reads every per-player data set on the writer thread
+    private static CompletableFuture<PlayerRecord> fetch(UUID uuid) {
+        return WriteBehindFlusher.read(() -> {
+            StorageBackend backend = StorageManager.getBackend();
+            return new PlayerRecord(
+                    backend.get(DataSet.DIFFICULTIES, uuid),
+                    backend.get(DataSet.COOLDOWNS, uuid),
+                    backend.get(DataSet.HOLOGRAM_TOGGLES, uuid)
+            );
+        });
+    }
+
+    // 💬 Main thread fallback — an empty record beats keeping the player out
+    private static PlayerRecord fetchNow(UUID uuid) {
+        try {
+            return fetch(uuid).get(FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to load player data for " + uuid + ", treating it as empty: " + e.getMessage());
+        }
+        return PlayerRecord.EMPTY;
+    }
+
+    private static void install(UUID uuid, PlayerRecord record) {
+        PlayerDifficultyStorage.getInstance().cacheLoaded(uuid, record.difficulty());
+        CooldownTracker.cacheLoaded(uuid, record.cooldown());
+        HologramManager.cacheToggle(uuid, record.hologramsHidden());
+    }
+
+    private static void evict(UUID uuid) {
+        // 🧹 A prefetch may predate the writes just flushed for this player
+        loggingIn.remove(uuid);
+        prefetched.remove(uuid);
+
+        PlayerDifficultyStorage.getInstance().evict(uuid);
+        CooldownTracker.evict(uuid);
+        HologramManager.evictToggle(uuid);
+    }
+
+    // 💬 Pending writes are handed to the writer thread first, so a later
+    //    fetch of an evicted player is queued behind them
+    private static void trim() {
+        dropAbandonedLogins();
+
+        int max = Math.max(0, ConfigManager.getLazyRecentPlayers());
+        if (recent.size() <= max) return;
+
+        WriteBehindFlusher.flushPending();
+
+        List<UUID> evicted = new ArrayList<>(recent.size() - max);
+        Iterator<UUID> eldest = recent.keySet().iterator();
+        while (recent.size() - evicted.size() > max && eldest.hasNext()) {
+            UUID uuid = eldest.next();
+            if (loggingIn.containsKey(uuid)) continue; // 🚪 Rejoining — kept until join() takes over
+            evicted.add(uuid);
+        }
+        for (UUID uuid : evicted) {
+            recent.remove(uuid);
+            evict(uuid);
+        }
+
+        PickYourDifficulty.debug(() -> "💤 Evicted " + evicted.size() + " player records (" + recent.size() + " recent kept)");
+    }
+
+    // 🧹 Logins that never reached join() (disconnected, or denied after MONITOR)
+    private static void dropAbandonedLogins() {
+        long now = System.nanoTime();
+        for (Map.Entry<UUID, Long> login : loggingIn.entrySet()) {
+            // 💬 Only this exact login — a newer one for the same player keeps its entry
+            if (now - login.getValue() > LOGIN_TIMEOUT_NANOS && loggingIn.remove(login.getKey(), login.getValue())) {
+                prefetched.remove(login.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                  🗃️ SqliteStorageBackend.java                      ║
+// ║   Embedded SQLite file (playerdata.db) with one indexed table per  ║
+// ║   data set. Local only — no server, no credentials.                ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend;
+import dev.arzor.pickyourdifficulty.utils.StorageUtil;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+// ─────────────────────────────────────────────────────────────
+// 🗃️ SqliteStorageBackend — Prepared statements, WAL, batches
+// ─────────────────────────────────────────────────────────────
+// 💬 Tables: pyd_<dataset> (uuid TEXT PRIMARY KEY, value TEXT) WITHOUT ROWID,
+//    so point lookups and UUID-ordered pages are primary-key index scans.
+// 💬 WAL journal mode + synchronous=NORMAL: a batch commit is one WAL
+//    append, readers never block the writer, and a crash loses at most the
+//    last uncommitted batch.
+// 💬 apply() runs a whole batch in one transaction; consecutive changes of
+//    the same kind share one JDBC batch. Changes are applied in order.
+// 💬 Uses the SQLite JDBC driver bundled with Paper (org.sqlite.JDBC).
+//    One connection, guarded by this object's monitor.
+public class SqliteStorageBackend implements StorageBackend {
+
+    public static final String FILE_NAME = "playerdata.db";
+
+    private Connection connection;
+
+    // 📌 Prepared once per data set in open()
+    private final Map<DataSet, Statements> statements = new EnumMap<>(DataSet.class);
+
+    private record Statements(
+            PreparedStatement get,
+            PreparedStatement page,
+            PreparedStatement all,
+            PreparedStatement upsert,
+            PreparedStatement delete,
+            PreparedStatement clear
+    ) {}
+
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔌 Lifecycle
+    // ─────────────────────────────────────────────────────────────
+
+    @Override
+    public synchronized void open() throws IOException {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new IOException("SQLite JDBC driver not found on the server classpath", e);
+        }
+
+        try {
+            String path = StorageUtil.getFile(FILE_NAME).getAbsolutePath();
+            StorageUtil.getFile(FILE_NAME).getParentFile().mkdirs();
+            connection = DriverManager.getConnection("jdbc:sqlite:" + path);
+
+            try (Statement pragma = connection.createStatement()) {
+                pragma.execute("PRAGMA journal_mode=WAL");
+                pragma.execute("PRAGMA synchronous=NORMAL");
+                pragma.execute("PRAGMA busy_timeout=5000");
+
+                for (DataSet set : DataSet.values()) {
+                    pragma.execute("CREATE TABLE IF NOT EXISTS " + table(set)
+                            + " (uuid TEXT PRIMARY KEY NOT NULL, value TEXT NOT NULL) WITHOUT ROWID");
+                }
+            }
+
+            for (DataSet set : DataSet.values()) {
+                String table = table(set);
+                statements.put(set, new Statements(
+                        connection.prepareStatement("SELECT value FROM " + table + " WHERE uuid = ?"),
+                        connection.prepareStatement("SELECT uuid, value FROM " + table + " WHERE uuid > ? ORDER BY uuid LIMIT ?"),
+                        connection.prepareStatement("SELECT uuid, value FROM " + table),
+                        connection.prepareStatement("INSERT INTO " + table + " (uuid, value) VALUES (?, ?)"
+                                + " ON CONFLICT(uuid) DO UPDATE SET value = excluded.value"),
+                        connection.prepareStatement("DELETE FROM " + table + " WHERE uuid = ?"),
+                        connection.prepareStatement("DELETE FROM " + table)
+                ));
+            }
+
+            PickYourDifficulty.debug(() -> "🗃️ Opened SQLite storage at " + path);
+
+        } catch (SQLException e) {
+            close();
+            throw new IOException("Failed to open " + FILE_NAME + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        statements.clear();
+        if (connection == null) return;
+
+        try {
+            connection.close(); // 💬 Also closes every prepared statement
+        } catch (SQLException e) {
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to close " + FILE_NAME + ": " + e.getMessage());
+        }
+        connection = null;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📥 Reads
+    // ─────────────────────────────────────────────────────────────
+
+    @Override
+    public synchronized Map<UUID, String> loadAll(DataSet set) throws IOException {
+        try (ResultSet rows = statements(set).all().executeQuery()) {
+            Map<UUID, String> entries = new HashMap<>();
+            while (rows.next()) {
+                UUID uuid = parseUuid(rows.getString(1));
+                if (uuid != null) entries.put(uuid, rows.getString(2));
+            }
+            return entries;
+        } catch (SQLException e) {
+            throw new IOException("Failed to load " + table(set) + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized String get(DataSet set, UUID uuid) throws IOException {
+        PreparedStatement get = statements(set).get();
+        try {
+            get.setString(1, uuid.toString());
+            try (ResultSet rows = get.executeQuery()) {
+                return rows.next() ? rows.getString(1) : null;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to read " + uuid + " from " + table(set) + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized Map<UUID, String> page(DataSet set, UUID after, int limit) throws IOException {
+        PreparedStatement page = statements(set).page();
+        try {
+            page.setString(1, after == null ? "" : after.toString()); // 💬 "" sorts before every UUID
+            page.setInt(2, limit);
+
+            Map<UUID, String> entries = new LinkedHashMap<>();
+            try (ResultSet rows = page.executeQuery()) {
+                while (rows.next()) {
+                    UUID uuid = parseUuid(rows.getString(1));
+                    if (uuid != null) entries.put(uuid, rows.getString(2));
+                }
+            }
+            return entries;
+        } catch (SQLException e) {
+            throw new IOException("Failed to page " + table(set) + ": " + e.getMessage(), e);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ✍️ Writes
+    // ─────────────────────────────────────────────────────────────
+
+    @Override
+    public synchronized long apply(List<Change> changes) throws IOException {
+        if (changes.isEmpty()) return 0L;
+        if (connection == null) throw new IOException(FILE_NAME + " is not open");
+
+        try {
+            connection.setAutoCommit(false);
+
+            // 📦 Consecutive changes on the same statement share a JDBC batch
+            PreparedStatement batch = null;
+            for (Change change : changes) {
+                Statements set = statements(change.set());
+                PreparedStatement target = change.isClear() ? set.clear() : change.isDelete() ? set.delete() : set.upsert();
+
+                if (target != batch) {
+                    if (batch != null) batch.executeBatch();
+                    batch = target;
+                }
+
+                if (!change.isClear()) {
+                    target.setString(1, change.uuid().toString());
+                    if (!change.isDelete()) target.setString(2, change.value());
+                }
+                target.addBatch();
+            }
+            if (batch != null) batch.executeBatch();
+
+            connection.commit();
+            return 0L; // 💬 SQLite doesn't report bytes per commit
+
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+                // 🧼 Connection is already unusable — the original error is what matters
+            }
+            throw new IOException("Failed to write " + changes.size() + " change(s) to " + FILE_NAME + ": " + e.getMessage(), e);
+
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+                // 🧼 Reported by the next statement if the connection is broken
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔧 Helpers
+    // ─────────────────────────────────────────────────────────────
+
+    private Statements statements(DataSet set) throws IOException {
+        Statements prepared = statements.get(set);
+        if (prepared == null) throw new IOException(FILE_NAME + " is not open");
+        return prepared;
+    }
+
+    private static String table(DataSet set) {
+        return "pyd_" + set.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static UUID parseUuid(String raw) {
+        try {
+            return UUID.fromString(raw);
+        } catch (IllegalArgumentException e) {
+            return null; // 🧯 Skip rows that were edited by hand
+        }
+    }
+}
@@ -0,0 +1,92 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                     🗄️ StorageManager.java                         ║
+// ║   Picks and owns the active StorageBackend (storage.backend)       ║
+// ║   Opened once on enable, closed after the final flush on disable   ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend;
+import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+// ─────────────────────────────────────────────────────────────
+// 🗄️ StorageManager — Active backend holder
+// ─────────────────────────────────────────────────────────────
+// 💬 Not a Reloadable: switching backends under live data would split it
+//    across two stores, so storage.backend only takes effect on restart.
+public class StorageManager {
+
+    // 🏷️ Valid storage.backend values (also accepted by /pyd migrate)
+    public static final List<String> BACKEND_NAMES = List.of("yaml", "sqlite");
+
+    private static StorageBackend backend;
+
+    private StorageManager() {} // ❌ Static utility
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔌 Lifecycle
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Call before anything loads player data
+    public static void init() {
+        String configured = ConfigManager.getStorageBackend();
+        StorageBackend selected = create(configured);
+
+        if (selected == null) {
+            PickYourDifficulty.getInstance().getLogger().warning("⚠️ Unknown storage.backend '" + configured + "' — using yaml");
+            selected = new YamlStorageBackend();
+        }
+
+        try {
+            selected.open();
+        } catch (IOException e) {
+            PickYourDifficulty.getInstance().getLogger().severe("❌ Failed to open " + selected.getName() + " storage: " + e.getMessage());
+
+            // 🧯 Keep the server playable on the default backend rather than losing every change
+            if (!(selected instanceof YamlStorageBackend)) {
+                PickYourDifficulty.getInstance().getLogger().severe("❌ Falling back to yaml storage for this run");
+                selected = new YamlStorageBackend();
+                try {
+                    selected.open();
+                } catch (IOException fallback) {
+                    PickYourDifficulty.getInstance().getLogger().severe("❌ Failed to open yaml storage: " + fallback.getMessage());
+                }
+            }
+        }
+
+        backend = selected;
+
+        PickYourDifficulty.debug(() -> "🗄️ Using " + backend.getName() + " storage");
+    }
+
+    // 💬 Call after WriteBehindFlusher.stop() has written everything
+    public static void shutdown() {
+        if (backend != null) {
+            backend.close();
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔍 Accessors
+    // ─────────────────────────────────────────────────────────────
+
+    public static StorageBackend getBackend() {
+        return backend;
+    }
+
+    // 💬 New, unopened backend for a storage.backend value (null if unknown)
+    public static StorageBackend create(String name) {
+        if (name == null) return null;
+
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "yaml" -> new YamlStorageBackend();
+            case "sqlite" -> new SqliteStorageBackend();
+            default -> null;
+        };
+    }
+}
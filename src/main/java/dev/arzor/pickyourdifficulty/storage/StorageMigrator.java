@@ -0,0 +1,58 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                    🚚 StorageMigrator.java                         ║
+// ║   One-shot copy of every data set between two storage backends     ║
+// ║   Used by /pyd migrate after switching storage.backend             ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.Change;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.DataSet;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+// ─────────────────────────────────────────────────────────────
+// 🚚 StorageMigrator — Page-by-page backend copy
+// ─────────────────────────────────────────────────────────────
+// 💬 The target is cleared per data set first, so it ends up an exact copy
+//    of the source. Entries move in pages (one target batch per page), so
+//    neither side needs the whole player base in one transaction.
+// 💬 Must run on WriteBehindFlusher's writer thread (WriteBehindFlusher#submit)
+//    so no regular batch is written into the target mid-copy.
+public class StorageMigrator {
+
+    // 📦 Entries per page / target batch
+    public static final int PAGE_SIZE = 500;
+
+    private StorageMigrator() {} // ❌ Static utility
+
+    // 💬 Returns the number of entries copied across every data set
+    public static int migrate(StorageBackend source, StorageBackend target) throws IOException {
+        int total = 0;
+
+        for (DataSet set : DataSet.values()) {
+            target.apply(List.of(Change.clear(set)));
+
+            int[] copied = {0};
+            source.forEachPage(set, PAGE_SIZE, page -> {
+                target.upsert(set, page);
+                copied[0] += page.size();
+            });
+            total += copied[0];
+
+            PickYourDifficulty.debug(() -> "🚚 Migrated " + copied[0] + " " + set.name().toLowerCase(Locale.ROOT) + " entries from "
+                    + source.getName() + " to " + target.getName());
+        }
+
+        // 🧹 Fold the copy into the target's main files right away (yaml)
+        if (target.getPendingLogBytes() > 0) {
+            target.compact();
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,141 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                      🧮 UuidByteMap.java                           ║
+// ║  Open-addressing hash map from UUID (two longs) to a small byte    ║
+// ║  value. No boxing, no entry objects, no per-key UUID instances.    ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+// ─────────────────────────────────────────────────────────────
+// 🧮 UuidByteMap — Primitive UUID → byte table (linear probing)
+// ─────────────────────────────────────────────────────────────
+// 💬 Each slot costs 18 bytes (two longs + used flag + one byte) instead of
+//    a HashMap.Node + UUID + boxed value (~100 bytes with headers).
+// 💬 Stored values are 0..255. Keys, probing, deletion and resizing are
+//    UuidKeyTable's; this class only owns the byte column.
+// ⚠️ Not thread-safe — callers own synchronization. get() alone is safe to
+//    run optimistically against one writer (PlayerDifficultyStorage): a
+//    racing read may return a wrong value or throw, but always terminates.
+public final class UuidByteMap extends UuidKeyTable {
+
+    // ╔═══⚙️ Tuning═══════════════════════════════════════════════════════╗
+
+    // 💬 Largest value that can be stored (one unsigned byte)
+    public static final int MAX_VALUE = 255;
+
+    // 💬 Returned by get() when the key is absent
+    public static final int NO_VALUE = -1;
+
+    // ╔═══📦 Value Column═════════════════════════════════════════════════╗
+
+    private byte[] values; // 💬 No initializer — assigned from the super constructor
+
+    public UuidByteMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public UuidByteMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    // ╔═══🔍 Lookup═══════════════════════════════════════════════════════╗
+
+    // 💬 Returns the stored value, or NO_VALUE if the key is not present.
+    //    The column is read before the probe, so a racing rehash shows up as
+    //    a wrong value or an out-of-bounds read, never an endless loop.
+    public int get(long most, long least) {
+        byte[] values = this.values;
+        int slot = findSlot(most, least);
+        return slot < 0 ? NO_VALUE : values[slot] & 0xFF;
+    }
+
+    public boolean containsKey(long most, long least) {
+        return findSlot(most, least) >= 0;
+    }
+
+    // ╔═══✏️ Insert / Update══════════════════════════════════════════════╗
+
+    // 💬 Stores value for key; returns the previous value or NO_VALUE
+    public int put(long most, long least, int value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("Value out of range: " + value);
+        }
+
+        int slot = probe(most, least);
+        if (slot >= 0) {
+            int previous = values[slot] & 0xFF;
+            values[slot] = (byte) value;
+            return previous;
+        }
+
+        slot = -slot - 1;
+        values[slot] = (byte) value;
+        claim(slot, most, least);
+        return NO_VALUE;
+    }
+
+    // ╔═══🧽 Removal══════════════════════════════════════════════════════╗
+
+    // 💬 Removes key; returns the previous value or NO_VALUE
+    public int remove(long most, long least) {
+        int slot = findSlot(most, least);
+        if (slot < 0) return NO_VALUE;
+
+        int previous = values[slot] & 0xFF;
+        release(slot);
+        return previous;
+    }
+
+    // ╔═══📸 Copy═════════════════════════════════════════════════════════╗
+
+    // 💬 Independent copy (four array clones) — cheap enough to take on the
+    //    main thread and hand to another thread for serialization
+    public UuidByteMap copy() {
+        UuidByteMap copy = new UuidByteMap();
+        copy.copyKeysFrom(this);
+        copy.values = values.clone();
+        return copy;
+    }
+
+    // ╔═══🔁 Iteration════════════════════════════════════════════════════╗
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long most, long least, int value);
+    }
+
+    // 💬 Visits every entry in table order (unspecified, but stable between writes)
+    public void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot < capacity(); slot++) {
+            if (isUsed(slot)) {
+                consumer.accept(mostAt(slot), leastAt(slot), values[slot] & 0xFF);
+            }
+        }
+    }
+
+    // 💬 Slot-level access for allocation-free iterators (see capacity())
+    int valueAt(int slot) {
+        return values[slot] & 0xFF;
+    }
+
+    // ╔═══🧩 Value Column Hooks═══════════════════════════════════════════╗
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new byte[capacity];
+    }
+
+    @Override
+    void remapValues(int[] target, int capacity) {
+        byte[] old = values;
+        values = new byte[capacity];
+        for (int i = 0; i < old.length; i++) {
+            if (target[i] >= 0) values[target[i]] = old[i];
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+}
@@ -0,0 +1,243 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                      🗝️ UuidKeyTable.java                          ║
+// ║  Key side of the primitive UUID maps: two long columns + a used    ║
+// ║  flag, linear probing, backward-shift deletion and resizing.       ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+// ─────────────────────────────────────────────────────────────
+// 🗝️ UuidKeyTable — Shared open-addressing table for UUID keys
+// ─────────────────────────────────────────────────────────────
+// 💬 UuidByteMap and UuidLongMap each add one value column and keep it in
+//    step through the three hooks at the bottom; their public API is the
+//    typed get/put/remove built on findSlot(), probe(), claim() and release().
+// 💬 Deletions use backward-shift, so there are no tombstones and lookups
+//    never degrade after many removes. The table doubles at 75% load and
+//    halves again once it is less than 1/8 of that, down to MIN_CAPACITY.
+// 💬 slotFor() is also the slot layout of MappedDifficultyIndex files —
+//    changing it makes existing index files unreadable.
+// ⚠️ Not thread-safe — callers own synchronization. findSlot() alone is safe
+//    to run optimistically against one writer: a racing read may return a
+//    wrong slot or throw, but always terminates.
+abstract class UuidKeyTable {
+
+    // ╔═══⚙️ Tuning═══════════════════════════════════════════════════════╗
+
+    static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // ╔═══📦 Table State══════════════════════════════════════════════════╗
+
+    private long[] mostBits;
+    private long[] leastBits;
+    private boolean[] used;
+
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    // 💬 Calls allocateValues() before the subclass constructor body runs —
+    //    value column fields must not have initializers
+    UuidKeyTable(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    // ╔═══🔍 Lookup═══════════════════════════════════════════════════════╗
+
+    // 💬 Slot holding the key, or -1. Reads each table field once and stops
+    //    after one full lap, so a rehash on another thread can't send it out
+    //    of bounds or round the table forever.
+    final int findSlot(long most, long least) {
+        long[] mostBits = this.mostBits;
+        long[] leastBits = this.leastBits;
+        boolean[] used = this.used;
+        int mask = used.length - 1;
+
+        int slot = slotFor(most, least, mask);
+        for (int probes = 0; probes <= mask; probes++) {
+            if (!used[slot]) return -1;
+            if (mostBits[slot] == most && leastBits[slot] == least) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // ╔═══✏️ Insert═══════════════════════════════════════════════════════╗
+
+    // 💬 Slot holding the key, or -(free slot) - 1 where it belongs (writer only)
+    final int probe(long most, long least) {
+        int slot = slotFor(most, least, mask);
+        while (used[slot]) {
+            if (mostBits[slot] == most && leastBits[slot] == least) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    // 💬 Takes the free slot from probe() for the key. Write its value first —
+    //    this may grow the table, which moves values along with their keys.
+    final void claim(int slot, long most, long least) {
+        mostBits[slot] = most;
+        leastBits[slot] = least;
+        used[slot] = true;
+
+        if (++size >= resizeAt) {
+            rehash(used.length << 1);
+        }
+    }
+
+    // ╔═══🧽 Removal══════════════════════════════════════════════════════╗
+
+    // 💬 Empties an occupied slot; read its value first
+    final void release(int slot) {
+        shiftBack(slot);
+
+        // 📉 Shrink once mostly empty, so memory follows the live entry count
+        if (--size < resizeAt >> 3 && used.length > MIN_CAPACITY) {
+            rehash(used.length >> 1);
+        }
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 💬 Key columns of `source` (for copy(); the caller clones its values)
+    final void copyKeysFrom(UuidKeyTable source) {
+        mostBits = source.mostBits.clone();
+        leastBits = source.leastBits.clone();
+        used = source.used.clone();
+        mask = source.mask;
+        size = source.size;
+        resizeAt = source.resizeAt;
+    }
+
+    // ╔═══🔁 Slot Access══════════════════════════════════════════════════╗
+
+    // 💬 For allocation-free iterators: slots 0..capacity()-1, skip unused
+    int capacity() {
+        return used.length;
+    }
+
+    boolean isUsed(int slot) {
+        return used[slot];
+    }
+
+    long mostAt(int slot) {
+        return mostBits[slot];
+    }
+
+    long leastAt(int slot) {
+        return leastBits[slot];
+    }
+
+    // ╔═══🧩 Value Column Hooks═══════════════════════════════════════════╗
+
+    // 💬 Replaces the column with an empty one of `capacity` slots
+    abstract void allocateValues(int capacity);
+
+    // 💬 Replaces the column with one of `capacity` slots, where old slot i
+    //    moves to target[i] (-1 = unused)
+    abstract void remapValues(int[] target, int capacity);
+
+    // 💬 Copies one value within the column
+    abstract void moveValue(int from, int to);
+
+    // ╔═══🧠 Internals════════════════════════════════════════════════════╗
+
+    // 💬 Fills the gap left at `slot` by pulling later probe-chain members back
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+
+        while (used[next]) {
+            int home = slotFor(mostBits[next], leastBits[next], mask);
+
+            // 🧮 Move `next` into the gap only if its home slot is not between gap and next (cyclically)
+            boolean movable = (next > gap)
+                    ? (home <= gap || home > next)
+                    : (home <= gap && home > next);
+
+            if (movable) {
+                mostBits[gap] = mostBits[next];
+                leastBits[gap] = leastBits[next];
+                moveValue(next, gap);
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        used[gap] = false;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldMost = mostBits;
+        long[] oldLeast = leastBits;
+        boolean[] oldUsed = used;
+
+        mostBits = new long[newCapacity];
+        leastBits = new long[newCapacity];
+        used = new boolean[newCapacity];
+        setCapacity(newCapacity);
+
+        int[] target = new int[oldUsed.length];
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i]) {
+                target[i] = -1;
+                continue;
+            }
+            int slot = slotFor(oldMost[i], oldLeast[i], mask);
+            while (used[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            mostBits[slot] = oldMost[i];
+            leastBits[slot] = oldLeast[i];
+            used[slot] = true;
+            target[i] = slot;
+        }
+
+        remapValues(target, newCapacity);
+    }
+
+    private void allocate(int capacity) {
+        mostBits = new long[capacity];
+        leastBits = new long[capacity];
+        used = new boolean[capacity];
+        setCapacity(capacity);
+        allocateValues(capacity);
+    }
+
+    private void setCapacity(int capacity) {
+        mask = capacity - 1;
+        resizeAt = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    static int slotFor(long most, long least, int mask) {
+        // 🧮 Mix both halves; random (v4) UUIDs are already well distributed,
+        //    offline-mode (v3) UUIDs less so, hence the extra avalanche step.
+        long h = most * 0x9E3779B97F4A7C15L ^ least;
+        h ^= h >>> 32;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 29;
+        return (int) h & mask;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,97 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                      🧮 UuidLongMap.java                           ║
+// ║  Open-addressing hash map from UUID (two longs) to a long value.   ║
+// ║  UuidByteMap's layout with a full-width value column.              ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+// ─────────────────────────────────────────────────────────────
+// 🧮 UuidLongMap — Primitive UUID → long table (linear probing)
+// ─────────────────────────────────────────────────────────────
+// 💬 Each slot costs 25 bytes (three longs + one used flag) instead of a
+//    HashMap.Node + UUID + boxed Long.
+// 💬 Long.MIN_VALUE is reserved as NO_VALUE and cannot be stored.
+// 💬 Keys, probing, deletion and resizing are UuidKeyTable's; this class
+//    only owns the long column.
+// ⚠️ Not thread-safe — callers own synchronization. get() alone is safe to
+//    run optimistically against one writer (CooldownTracker): a racing
+//    read may return a wrong value or throw, but always terminates.
+public final class UuidLongMap extends UuidKeyTable {
+
+    // ╔═══⚙️ Tuning═══════════════════════════════════════════════════════╗
+
+    // 💬 Returned by get() when the key is absent
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    // ╔═══📦 Value Column═════════════════════════════════════════════════╗
+
+    private long[] values; // 💬 No initializer — assigned from the super constructor
+
+    public UuidLongMap() {
+        super(0); // 💬 Starts at MIN_CAPACITY
+    }
+
+    // ╔═══🔍 Lookup═══════════════════════════════════════════════════════╗
+
+    // 💬 Returns the stored value, or NO_VALUE (see UuidByteMap#get)
+    public long get(long most, long least) {
+        long[] values = this.values;
+        int slot = findSlot(most, least);
+        return slot < 0 ? NO_VALUE : values[slot];
+    }
+
+    // ╔═══✏️ Insert / Update══════════════════════════════════════════════╗
+
+    // 💬 Stores value for key; returns the previous value or NO_VALUE
+    public long put(long most, long least, long value) {
+        if (value == NO_VALUE) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is reserved");
+        }
+
+        int slot = probe(most, least);
+        if (slot >= 0) {
+            long previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+
+        slot = -slot - 1;
+        values[slot] = value;
+        claim(slot, most, least);
+        return NO_VALUE;
+    }
+
+    // ╔═══🧽 Removal══════════════════════════════════════════════════════╗
+
+    // 💬 Removes key; returns the previous value or NO_VALUE
+    public long remove(long most, long least) {
+        int slot = findSlot(most, least);
+        if (slot < 0) return NO_VALUE;
+
+        long previous = values[slot];
+        release(slot);
+        return previous;
+    }
+
+    // ╔═══🧩 Value Column Hooks═══════════════════════════════════════════╗
+
+    @Override
+    void allocateValues(int capacity) {
+        values = new long[capacity];
+    }
+
+    @Override
+    void remapValues(int[] target, int capacity) {
+        long[] old = values;
+        values = new long[capacity];
+        for (int i = 0; i < old.length; i++) {
+            if (target[i] >= 0) values[target[i]] = old[i];
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+}
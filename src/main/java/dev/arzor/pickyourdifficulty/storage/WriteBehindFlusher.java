@@ -0,0 +1,351 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                    💾 WriteBehindFlusher.java                      ║
+// ║   Persists player data off the main thread: changes are handed to  ║
+// ║   the active StorageBackend in batches, and append-only backends   ║
+// ║   are compacted once their change log grows past a threshold.     ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend.Change;
+import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// ─────────────────────────────────────────────────────────────
+// 💾 WriteBehindFlusher — Batched backend writes + compaction
+// ─────────────────────────────────────────────────────────────
+// 💬 Stores call append() with one StorageBackend.Change per change. The
+//    main thread only adds it to a list; every
+//    storage.journalSyncIntervalTicks (or once storage.journalSyncBatchSize
+//    changes are pending) the batch is handed to the writer thread, which
+//    applies it with one StorageBackend#apply call (one fsync for yaml, one
+//    transaction for sqlite). I/O per change is O(1) regardless of how
+//    many players are stored.
+// 💬 Once the backend's change log passes storage.journalCompactKb, it is
+//    compacted on the writer thread (yaml folds changes.journal into its
+//    files; sqlite has nothing to compact).
+// 💬 A failed batch is kept and retried in front of the next one, so
+//    changes still reach the backend in the order they were made.
+// 💬 A single writer thread runs every write, so batches, compactions and
+//    migrations never overlap.
+public class WriteBehindFlusher {
+
+    // ⏳ Longest we wait for pending writes on reload/shutdown
+    private static final long DRAIN_TIMEOUT_SECONDS = 10L;
+
+    // ╔═══📦 State (main thread)═══════════════════════════════════════════╗
+
+    // ✏️ Changes not yet handed to the writer thread
+    private static List<Change> pending = new ArrayList<>();
+
+    // ⏱️ Ticks since the last batch hand-off
+    private static int ticksSinceSync = 0;
+
+    // 💬 Volatile: read() is called from async login threads
+    private static volatile ExecutorService writer;
+
+    // Stores the task ID so we can stop it later
+    private static int taskId = -1;
+
+    // ╔═══📦 State (writer thread)═════════════════════════════════════════╗
+
+    // 🔁 Changes from failed batches, retried in front of the next batch
+    private static final List<Change> retry = new ArrayList<>();
+
+    // 💬 Read on the main thread: set while a compaction is queued, and while
+    //    failed changes wait for a retry (so a hand-off happens even if idle)
+    private static volatile boolean compacting = false;
+    private static volatile boolean retryPending = false;
+
+    // ╔═══📊 Metrics (updated on the writer thread)════════════════════════╗
+
+    private static final AtomicLong syncCount = new AtomicLong();
+    private static final AtomicLong compactionCount = new AtomicLong();
+    private static final AtomicLong failedWrites = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static final AtomicLong lastLatencyNanos = new AtomicLong();
+    private static final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private WriteBehindFlusher() {} // ❌ Static utility
+
+    // ─────────────────────────────────────────────────────────────
+    // ▶ Start / ⛔ Stop
+    // ─────────────────────────────────────────────────────────────
+
+    public static void start(JavaPlugin plugin) {
+        if (taskId != -1) return;
+
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PickYourDifficulty-Flusher");
+            thread.setDaemon(true); // 💬 Journal replay / SQLite rollback make an abandoned write harmless
+            return thread;
+        });
+
+        taskId = new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }.runTaskTimer(plugin, 1L, 1L).getTaskId();
+
+        PickYourDifficulty.debug("💾 WriteBehindFlusher started");
+    }
+
+    // 💬 Final write on disable — applies everything pending and compacts
+    public static void stop() {
+        if (taskId != -1) {
+            Bukkit.getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+
+        flushAllAndWait();
+
+        // 💾 Leave the next start with nothing to replay
+        if (getPendingLogBytes() > 0) {
+            compact();
+            awaitWriter();
+        }
+
+        if (writer != null) {
+            writer.shutdown();
+            writer = null;
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ✍️ Appending (main thread)
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Queues one change; written with the next batch
+    public static void append(Change change) {
+        pending.add(change);
+
+        // 📦 Bulk changes (mass /pyd set or reset) don't wait for the interval
+        if (pending.size() >= Math.max(1, ConfigManager.getJournalSyncBatchSize())) {
+            handOff();
+        }
+    }
+
+    // 💬 Per-tick check — batch hand-off on the interval, compaction on size
+    private static void tick() {
+        if (++ticksSinceSync >= Math.max(1, ConfigManager.getJournalSyncIntervalTicks())) {
+            handOff();
+        }
+
+        if (!compacting && getPendingLogBytes() >= Math.max(1, ConfigManager.getJournalCompactKb()) * 1024L) {
+            compact();
+        }
+    }
+
+    private static void handOff() {
+        ticksSinceSync = 0;
+        if (pending.isEmpty() && !retryPending) return;
+
+        List<Change> batch = pending;
+        pending = new ArrayList<>();
+        run(() -> writeBatch(batch));
+    }
+
+    // 💬 Pending changes first, so the compaction includes them
+    private static void compact() {
+        handOff();
+
+        compacting = true;
+        run(WriteBehindFlusher::compactBackend);
+    }
+
+    // 💬 Hands a write to the writer thread, or runs it inline before start()/after stop()
+    private static Future<?> run(Runnable task) {
+        if (writer == null || writer.isShutdown()) {
+            task.run();
+            return null;
+        }
+        return writer.submit(task);
+    }
+
+    // 💬 Blocks until everything handed off so far has been written
+    private static void awaitWriter() {
+        Future<?> barrier = run(() -> {});
+        if (barrier == null) return;
+
+        try {
+            barrier.get(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Gave up waiting for pending data writes: " + e);
+        }
+    }
+
+    // 💬 Runs a task on the writer thread after every write handed off so far
+    //    (used by /pyd migrate so nothing is written mid-copy)
+    public static Future<?> submit(Runnable task) {
+        handOff();
+        return run(task);
+    }
+
+    // 💬 Hands pending changes to the writer thread without waiting (main thread)
+    public static void flushPending() {
+        handOff();
+    }
+
+    // 💬 Runs a backend read on the writer thread, after every write handed
+    //    off so far — so it never sees data older than what was handed off.
+    //    Safe to call from any thread.
+    public static <T> CompletableFuture<T> read(Callable<T> query) {
+        ExecutorService executor = writer;
+        if (executor == null || executor.isShutdown()) {
+            try {
+                return CompletableFuture.completedFuture(query.call());
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(query.call());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e); // 💬 Shutting down
+        }
+        return result;
+    }
+
+    // 💬 Writes every pending change and waits (before /pyd reload re-reads the backend)
+    public static void flushAllAndWait() {
+        handOff();
+        awaitWriter();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 💽 Writes (writer thread)
+    // ─────────────────────────────────────────────────────────────
+
+    private static void writeBatch(List<Change> batch) {
+        // 🔁 Earlier failures go first so later changes still win
+        List<Change> changes = batch;
+        if (!retry.isEmpty()) {
+            changes = new ArrayList<>(retry.size() + batch.size());
+            changes.addAll(retry);
+            changes.addAll(batch);
+        }
+        if (changes.isEmpty()) return;
+
+        StorageBackend backend = StorageManager.getBackend();
+        long started = System.nanoTime();
+        try {
+            long written = backend.apply(changes);
+
+            long latency = System.nanoTime() - started;
+            syncCount.incrementAndGet();
+            bytesWritten.addAndGet(written);
+            recordLatency(latency);
+
+            retry.clear();
+            retryPending = false;
+
+            int count = changes.size();
+            PickYourDifficulty.debug(() -> "💾 Wrote " + count + " change(s) to " + backend.getName() + ": "
+                    + written + " bytes in " + TimeUnit.NANOSECONDS.toMicros(latency) + "µs");
+
+        } catch (IOException | RuntimeException e) {
+            failedWrites.incrementAndGet();
+            if (!retry.isEmpty()) retry.clear(); // 💬 Already at the front of changes
+            retry.addAll(changes);
+            retryPending = true; // 🔁 These changes are only in memory now — try again next interval
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to write " + changes.size()
+                    + " change(s) to " + backend.getName() + " storage: " + e.getMessage());
+        }
+    }
+
+    private static void compactBackend() {
+        StorageBackend backend = StorageManager.getBackend();
+        long started = System.nanoTime();
+        try {
+            long written = backend.compact();
+
+            long latency = System.nanoTime() - started;
+            compactionCount.incrementAndGet();
+            bytesWritten.addAndGet(written);
+            recordLatency(latency);
+
+            PickYourDifficulty.debug(() -> "💾 Compacted " + backend.getName() + " storage: "
+                    + written + " bytes in " + TimeUnit.NANOSECONDS.toMillis(latency) + "ms");
+
+        } catch (IOException | RuntimeException e) {
+            failedWrites.incrementAndGet();
+            PickYourDifficulty.getInstance().getLogger().warning("❌ Failed to compact " + backend.getName() + " storage: " + e.getMessage());
+        } finally {
+            compacting = false;
+        }
+    }
+
+    private static void recordLatency(long latency) {
+        lastLatencyNanos.set(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📊 Metrics (shown in /pyddebug)
+    // ─────────────────────────────────────────────────────────────
+
+    public static long getSyncCount() {
+        return syncCount.get();
+    }
+
+    public static long getCompactionCount() {
+        return compactionCount.get();
+    }
+
+    public static long getFailedWrites() {
+        return failedWrites.get();
+    }
+
+    public static long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    // 💬 Change log not yet compacted (always 0 for sqlite)
+    public static long getPendingLogBytes() {
+        StorageBackend backend = StorageManager.getBackend();
+        return backend != null ? backend.getPendingLogBytes() : 0L;
+    }
+
+    public static long getLastLatencyNanos() {
+        return lastLatencyNanos.get();
+    }
+
+    public static long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    // 💬 Changes not yet handed to the writer thread (main thread)
+    public static int getPendingRecordCount() {
+        return pending.size();
+    }
+}
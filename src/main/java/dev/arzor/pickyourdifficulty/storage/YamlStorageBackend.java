@@ -0,0 +1,283 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                   📄 YamlStorageBackend.java                       ║
+// ║   Default backend: flat files in the data folder (YAML + binary    ║
+// ║   difficulty snapshot), kept current through ChangeJournal.        ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.StorageBackend;
+import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.utils.StorageUtil;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// ─────────────────────────────────────────────────────────────
+// 📄 YamlStorageBackend — Files + change journal
+// ─────────────────────────────────────────────────────────────
+// 💬 File layouts:
+//      playerdata.dat         binary, see DifficultySnapshot
+//      cooldowns.yml          <uuid>: <cooldown end, epoch millis>
+//      holograms.yml          <uuid>.expiresAt: <epochMillis>
+//      holograms_toggles.yml  toggles.<uuid>: <true|false>
+//    playerdata.yml (<uuid>: <difficulty>) is converted to playerdata.dat
+//    once on open and kept as playerdata.yml.bak.
+// 💬 apply() only appends to changes.journal (one fsync per batch).
+//    Reads parse the file and replay the journal on top; compact() folds
+//    the journal into the files with an atomic rename per file.
+// 💬 YAML has no index: get() and page() read the whole set. Use the
+//    sqlite backend for indexed point lookups on large player bases.
+// 💬 All methods are synchronized — appends (writer thread) never
+//    interleave with replays or compaction.
+public class YamlStorageBackend implements StorageBackend {
+
+    private final ChangeJournal journal = new ChangeJournal();
+
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔌 Lifecycle
+    // ─────────────────────────────────────────────────────────────
+
+    @Override
+    public synchronized void open() throws IOException {
+        convertLegacyDifficulties();
+
+        // 📒 Left over from the last run (crash or unclean stop) → fold it in before appending again
+        if (ChangeJournal.exists()) {
+            long written = compact();
+            PickYourDifficulty.debug(() -> "📒 Folded leftover journal into YAML files (" + written + " bytes)");
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        journal.close();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📥 Reads
+    // ─────────────────────────────────────────────────────────────
+
+    @Override
+    public synchronized Map<UUID, String> loadAll(DataSet set) throws IOException {
+        Map<UUID, String> entries = readFile(set);
+        ChangeJournal.replayAll(change -> {
+            if (change.set() == set) applyTo(entries, change);
+        });
+        return entries;
+    }
+
+    @Override
+    public synchronized String get(DataSet set, UUID uuid) throws IOException {
+        return loadAll(set).get(uuid);
+    }
+
+    @Override
+    public synchronized Map<UUID, String> page(DataSet set, UUID after, int limit) throws IOException {
+        // 🔤 Same order as the sqlite backend: UUID string order
+        TreeMap<String, Map.Entry<UUID, String>> sorted = new TreeMap<>();
+        for (Map.Entry<UUID, String> entry : loadAll(set).entrySet()) {
+            sorted.put(entry.getKey().toString(), entry);
+        }
+
+        Map<UUID, String> page = new LinkedHashMap<>();
+        var tail = after == null ? sorted : sorted.tailMap(after.toString(), false);
+        for (Map.Entry<UUID, String> entry : tail.values()) {
+            if (page.size() >= limit) break;
+            page.put(entry.getKey(), entry.getValue());
+        }
+        return page;
+    }
+
+    // 💬 One file read for the whole walk instead of one per page
+    @Override
+    public synchronized void forEachPage(DataSet set, int pageSize, PageHandler handler) throws IOException {
+        TreeMap<String, Map.Entry<UUID, String>> sorted = new TreeMap<>();
+        for (Map.Entry<UUID, String> entry : loadAll(set).entrySet()) {
+            sorted.put(entry.getKey().toString(), entry);
+        }
+
+        Map<UUID, String> page = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> entry : sorted.values()) {
+            page.put(entry.getKey(), entry.getValue());
+            if (page.size() >= pageSize) {
+                handler.accept(page);
+                page = new LinkedHashMap<>();
+            }
+        }
+        if (!page.isEmpty()) handler.accept(page);
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // ✍️ Writes
+    // ─────────────────────────────────────────────────────────────
+
+    @Override
+    public synchronized long apply(List<Change> changes) throws IOException {
+        if (changes.isEmpty()) return 0L;
+        return journal.append(changes);
+    }
+
+    @Override
+    public long getPendingLogBytes() {
+        return journal.size();
+    }
+
+    // 💬 Rotate the journal, fold the rotated records into the files they
+    //    touch, then delete it. Records appended meanwhile go to a fresh journal.
+    @Override
+    public synchronized long compact() throws IOException {
+        journal.rotate();
+
+        List<Change> changes = new ArrayList<>();
+        ChangeJournal.replay(ChangeJournal.ROTATED_FILE_NAME, changes::add);
+
+        // 📂 Only the files the journal touched are read and rewritten
+        Map<DataSet, Map<UUID, String>> loaded = new EnumMap<>(DataSet.class);
+        Set<DataSet> touched = EnumSet.noneOf(DataSet.class);
+        for (Change change : changes) {
+            touched.add(change.set());
+        }
+        for (DataSet set : touched) {
+            loaded.put(set, readFile(set));
+        }
+        for (Change change : changes) {
+            applyTo(loaded.get(change.set()), change);
+        }
+
+        long written = 0;
+        for (DataSet set : touched) {
+            written += writeFile(set, loaded.get(set));
+        }
+
+        journal.deleteRotated();
+        return written;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧾 YAML Layout per DataSet
+    // ─────────────────────────────────────────────────────────────
+
+    // 💬 Throws if the difficulty snapshot is damaged, so compaction never
+    //    replaces it with a partial copy
+    private static Map<UUID, String> readFile(DataSet set) throws IOException {
+        if (set == DataSet.DIFFICULTIES && snapshotPath().toFile().exists()) {
+            Map<UUID, String> entries = DifficultySnapshot.read(snapshotPath());
+            PickYourDifficulty.debug(() -> "📥 Read " + entries.size() + " entries from " + DifficultySnapshot.FILE_NAME);
+            return entries;
+        }
+
+        FileConfiguration config = StorageUtil.loadYaml(set.fileName());
+        Map<UUID, String> entries = new HashMap<>();
+
+        ConfigurationSection root = set == DataSet.HOLOGRAM_TOGGLES ? config.getConfigurationSection("toggles") : config;
+        if (root == null) return entries;
+
+        int skipped = 0;
+        for (String key : root.getKeys(false)) {
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(key);
+            } catch (IllegalArgumentException e) {
+                skipped++; // 🧯 Skip malformed UUID entries
+                continue;
+            }
+
+            String value = switch (set) {
+                case DIFFICULTIES -> root.getString(key);
+                case COOLDOWNS -> String.valueOf(root.getLong(key));
+                case HOLOGRAMS -> String.valueOf(root.getLong(key + ".expiresAt"));
+                case HOLOGRAM_TOGGLES -> String.valueOf(root.getBoolean(key));
+            };
+            if (value != null) entries.put(uuid, value);
+        }
+
+        int skippedCount = skipped;
+        PickYourDifficulty.debug(() -> "📥 Read " + entries.size() + " entries from " + set.fileName()
+                + (skippedCount > 0 ? " (skipped " + skippedCount + " invalid UUIDs)" : ""));
+        return entries;
+    }
+
+    private static long writeFile(DataSet set, Map<UUID, String> entries) throws IOException {
+        if (set == DataSet.DIFFICULTIES) {
+            byte[] data = DifficultySnapshot.encode(entries, ConfigManager.compressSnapshots());
+            StorageUtil.writeAtomically(DifficultySnapshot.FILE_NAME, data);
+
+            PickYourDifficulty.debug(() -> "📤 Wrote " + entries.size() + " entries to " + DifficultySnapshot.FILE_NAME
+                    + " (" + data.length + " bytes)");
+            return data.length;
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+
+        for (Map.Entry<UUID, String> entry : entries.entrySet()) {
+            String key = entry.getKey().toString();
+            String value = entry.getValue();
+
+            switch (set) {
+                case DIFFICULTIES -> config.set(key, value);
+                case COOLDOWNS -> config.set(key, Long.parseLong(value));
+                case HOLOGRAMS -> config.set(key + ".expiresAt", Long.parseLong(value));
+                case HOLOGRAM_TOGGLES -> config.set("toggles." + key, Boolean.parseBoolean(value));
+            }
+        }
+
+        byte[] data = config.saveToString().getBytes(StandardCharsets.UTF_8);
+        StorageUtil.writeAtomically(set.fileName(), data);
+
+        PickYourDifficulty.debug(() -> "📤 Wrote " + entries.size() + " entries to " + set.fileName());
+        return data.length;
+    }
+
+    // 💬 One-time move from playerdata.yml to the binary snapshot. The YAML
+    //    file is renamed, not deleted, so a downgrade can restore it by hand.
+    private static void convertLegacyDifficulties() throws IOException {
+        Path legacy = StorageUtil.getFile(DataSet.DIFFICULTIES.fileName()).toPath();
+        if (snapshotPath().toFile().exists() || !Files.exists(legacy)) return;
+
+        Map<UUID, String> entries = readFile(DataSet.DIFFICULTIES);
+        writeFile(DataSet.DIFFICULTIES, entries);
+        Files.move(legacy, legacy.resolveSibling(legacy.getFileName() + ".bak"), StandardCopyOption.REPLACE_EXISTING);
+
+        PickYourDifficulty.getInstance().getLogger().info("📦 Converted " + entries.size() + " player difficulties from "
+                + DataSet.DIFFICULTIES.fileName() + " to " + DifficultySnapshot.FILE_NAME
+                + " (old file kept as " + DataSet.DIFFICULTIES.fileName() + ".bak)");
+    }
+
+    private static Path snapshotPath() {
+        return StorageUtil.getFile(DifficultySnapshot.FILE_NAME).toPath();
+    }
+
+    static void applyTo(Map<UUID, String> entries, Change change) {
+        if (change.isClear()) {
+            entries.clear();
+        } else if (change.isDelete()) {
+            entries.remove(change.uuid());
+        } else {
+            entries.put(change.uuid(), change.value());
+        }
+    }
+}
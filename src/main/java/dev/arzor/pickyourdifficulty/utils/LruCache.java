@@ -0,0 +1,105 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                         🗂️ LruCache.java                           ║
+// ║   Small bounded, thread-safe least-recently-used cache with        ║
+// ║   hit/miss counters for /pyddebug.                                 ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// ─────────────────────────────────────────────────────────────
+// 🗂️ LruCache — Bounded memoization for immutable values
+// ─────────────────────────────────────────────────────────────
+// 💬 Backed by an access-ordered LinkedHashMap guarded by its own monitor.
+// 💬 Values are computed OUTSIDE the lock, so a slow loader never blocks
+//    other readers; two threads missing the same key may both compute it,
+//    which is harmless for the pure functions this is used with.
+public final class LruCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final Map<K, V> entries;
+
+    // 📊 Guarded by `entries`
+    private long hits;
+    private long misses;
+
+    public LruCache(String name, int maxEntries) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxEntries;
+            }
+        };
+    }
+
+    // ╔═══🔍 Lookup═══════════════════════════════════════════════════════╗
+
+    // 💬 Returns the cached value for key, computing and storing it on a miss
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        synchronized (entries) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        V computed = loader.apply(key);
+        if (computed != null) {
+            synchronized (entries) {
+                entries.put(key, computed);
+            }
+        }
+        return computed;
+    }
+
+    // ╔═══🧽 Invalidation═════════════════════════════════════════════════╗
+
+    // 💬 Drops all entries and resets the counters
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    // ╔═══📊 Stats════════════════════════════════════════════════════════╗
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        synchronized (entries) {
+            return hits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (entries) {
+            return misses;
+        }
+    }
+
+    // 💬 Fraction of lookups served from the cache (0.0 when unused)
+    public double getHitRate() {
+        synchronized (entries) {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : hits / (double) total;
+        }
+    }
+}
@@ -6,6 +6,8 @@
 package dev.arzor.pickyourdifficulty.utils;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.managers.ConfigManager;
+import dev.arzor.pickyourdifficulty.managers.DebugLogManager;
 
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -15,6 +17,8 @@ import java.util.Collection;
 // ─────────────────────────────────────────────────────────────
 // 🔐 PermissionUtil — Central permission handling logic
 // ─────────────────────────────────────────────────────────────
+// 💬 has() runs once per icon on every GUI render and selection; the debug
+//    lines capture locals, so they are only built when debug mode is on.
 public class PermissionUtil {
 
     // ╔═══✅ Basic Permission Check (player only)════════════════════════╗
@@ -24,8 +28,10 @@ public class PermissionUtil {
         boolean result = player.hasPermission(node) || player.isOp();
 
         // 🧪 Debug: show permission result
-        PickYourDifficulty.debug("🔐 Permission check for " + player.getName() +
-                " → " + node + " = " + result + " (OP: " + player.isOp() + ")");
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🔐 Permission check for " + player.getName() +
+                    " → " + node + " = " + result + " (OP: " + player.isOp() + ")");
+        }
         return result;
     }
 
@@ -36,8 +42,10 @@ public class PermissionUtil {
         boolean result = sender.hasPermission(node);
 
         // 🧪 Debug: show sender permission check
-        PickYourDifficulty.debug("🔐 Permission check for sender " + sender.getName() +
-                " → " + node + " = " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🔐 Permission check for sender " + sender.getName() +
+                    " → " + node + " = " + result);
+        }
         return result;
     }
 
@@ -49,23 +57,29 @@ public class PermissionUtil {
         // 🛡️ OPs bypass all permission checks
         if (player.isOp()) {
             // 🧪 Debug: show if OP bypass granted
-            PickYourDifficulty.debug("🔐 Multi-permission check → " + player.getName() +
-                    " is OP → bypass granted");
+            if (ConfigManager.isDebugMode()) {
+                PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🔐 Multi-permission check → " + player.getName() +
+                        " is OP → bypass granted");
+            }
             return true;
         }
 
         for (String node : nodes) {
             if (player.hasPermission(node)) {
                 // 🧪 Debug: show which permission matched
-                PickYourDifficulty.debug("🔐 Multi-permission match → " + player.getName() +
-                        " has " + node);
+                if (ConfigManager.isDebugMode()) {
+                    PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🔐 Multi-permission match → " + player.getName() +
+                            " has " + node);
+                }
                 return true;
             }
         }
 
         // 🧪 Debug: none matched
-        PickYourDifficulty.debug("🔐 Multi-permission check → " + player.getName() +
-                " has no matching permissions");
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🔐 Multi-permission check → " + player.getName() +
+                    " has no matching permissions");
+        }
         return false;
     }
 
@@ -77,7 +91,9 @@ public class PermissionUtil {
         boolean result = player.hasPermission("pickyourdifficulty.admin") || player.isOp();
 
         // 🧪 Debug: log admin check
-        PickYourDifficulty.debug("🛡️ Admin check for " + player.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🛡️ Admin check for " + player.getName() + " → " + result);
+        }
         return result;
     }
 
@@ -86,7 +102,9 @@ public class PermissionUtil {
         boolean result = sender.hasPermission("pickyourdifficulty.admin") || sender.isOp();
 
         // 🧪 Debug: log sender admin check
-        PickYourDifficulty.debug("🛡️ Admin check for sender " + sender.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🛡️ Admin check for sender " + sender.getName() + " → " + result);
+        }
         return result;
     }
 
@@ -97,7 +115,9 @@ public class PermissionUtil {
         boolean result = has(player, "pickyourdifficulty.gui");
 
         // 🧪 Debug: log GUI access check
-        PickYourDifficulty.debug("🧭 GUI access check for " + player.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🧭 GUI access check for " + player.getName() + " → " + result);
+        }
         return result;
     }
 
@@ -106,7 +126,9 @@ public class PermissionUtil {
         boolean result = has(player, "pickyourdifficulty.info");
 
         // 🧪 Debug: log info permission check
-        PickYourDifficulty.debug("ℹ️ Info access check for " + player.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "ℹ️ Info access check for " + player.getName() + " → " + result);
+        }
         return result;
     }
 
@@ -115,7 +137,20 @@ public class PermissionUtil {
         boolean result = sender.hasPermission("pickyourdifficulty.reload") || sender.isOp();
 
         // 🧪 Debug: log reload permission check
-        PickYourDifficulty.debug("♻️ Reload permission check for " + sender.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "♻️ Reload permission check for " + sender.getName() + " → " + result);
+        }
+        return result;
+    }
+
+    // 💬 Checks if a sender is allowed to migrate stored data between backends
+    public static boolean hasMigratePermission(CommandSender sender) {
+        boolean result = sender.hasPermission("pickyourdifficulty.migrate") || sender.isOp();
+
+        // 🧪 Debug: log migrate permission check
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🚚 Migrate permission check for " + sender.getName() + " → " + result);
+        }
         return result;
     }
 
@@ -124,7 +159,9 @@ public class PermissionUtil {
         boolean result = sender.hasPermission("pickyourdifficulty.reset") || sender.isOp();
 
         // 🧪 Debug: log reset permission check
-        PickYourDifficulty.debug("🔁 Reset permission check for " + sender.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "🔁 Reset permission check for " + sender.getName() + " → " + result);
+        }
         return result;
     }
 
@@ -133,7 +170,9 @@ public class PermissionUtil {
         boolean result = sender.hasPermission("pickyourdifficulty.set") || sender.isOp();
 
         // 🧪 Debug: log set permission check
-        PickYourDifficulty.debug("✳️ Set permission check for " + sender.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "✳️ Set permission check for " + sender.getName() + " → " + result);
+        }
         return result;
     }
 
@@ -142,7 +181,9 @@ public class PermissionUtil {
         boolean result = has(player, "pickyourdifficulty.toggleholograms");
 
         // 🧪 Debug: log hologram toggle check
-        PickYourDifficulty.debug("👓 Hologram toggle permission check for " + player.getName() + " → " + result);
+        if (ConfigManager.isDebugMode()) {
+            PickYourDifficulty.debug(DebugLogManager.PERMISSIONS, () -> "👓 Hologram toggle permission check for " + player.getName() + " → " + result);
+        }
         return result;
     }
 }
\ No newline at end of file
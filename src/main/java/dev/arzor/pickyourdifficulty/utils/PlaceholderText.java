@@ -0,0 +1,31 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                       🏷️ PlaceholderText.java                      ║
+// ║   A config string pre-scanned once for %papi%, <player> and        ║
+// ║   <world> tokens, so static text skips replacement entirely.       ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.utils;
+
+import org.bukkit.entity.Player;
+
+// ─────────────────────────────────────────────────────────────
+// 🏷️ PlaceholderText — Raw text + which token kinds it contains
+// ─────────────────────────────────────────────────────────────
+// 💬 tokens is a bit set of TextUtil.TOKEN_* flags (0 = nothing to replace)
+public record PlaceholderText(String raw, int tokens) {
+
+    // 💬 Scans the text once; null stays null so optional config values pass through
+    public static PlaceholderText of(String raw) {
+        return raw != null ? new PlaceholderText(raw, TextUtil.scanPlaceholders(raw)) : null;
+    }
+
+    // 💬 True if the text is the same for every viewer
+    public boolean isStatic() {
+        return tokens == 0;
+    }
+
+    // 💬 Resolves only the token kinds found by the scan
+    public String resolve(Player player) {
+        return tokens == 0 ? raw : TextUtil.replacePlaceholders(raw, tokens, player);
+    }
+}
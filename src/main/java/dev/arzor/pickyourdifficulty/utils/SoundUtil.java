@@ -26,7 +26,7 @@ public class SoundUtil {
 
         // 🧪 Debug: log the sound name, volume, and pitch
         // 🧠 Note: sound.toString() gives safe enum name like "BLOCK_ANVIL_LAND"
-        PickYourDifficulty.debug("🔊 Played sound to " + player.getName()
+        PickYourDifficulty.debug(() -> "🔊 Played sound to " + player.getName()
                 + " → " + sound + " | vol=" + volume + " | pitch=" + pitch);
     }
 }
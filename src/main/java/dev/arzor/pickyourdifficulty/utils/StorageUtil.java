@@ -13,6 +13,13 @@ import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 // ─────────────────────────────────────────────────────────────
 // 🗃️ StorageUtil — YAML load/save/delete logic
@@ -39,7 +46,7 @@ public class StorageUtil {
                 boolean fileCreated = file.createNewFile();         // Attempt to create the file
 
                 // 🧪 Debug: log directory and file creation result
-                PickYourDifficulty.debug("📁 Created file: " + filename +
+                PickYourDifficulty.debug(() -> "📁 Created file: " + filename +
                         " (dirsMade=" + dirsMade + ", fileCreated=" + fileCreated + ")");
 
             } catch (IOException e) {
@@ -60,7 +67,7 @@ public class StorageUtil {
             config.save(getFile(filename));
 
             // 🧪 Debug: log confirmed save
-            PickYourDifficulty.debug("💾 Saved file: " + filename);
+            PickYourDifficulty.debug(() -> "💾 Saved file: " + filename);
 
         } catch (IOException e) {
             // ⚠️ Log file saving failure
@@ -68,6 +75,34 @@ public class StorageUtil {
         }
     }
 
+    // ╔═══⚛️ Atomic Write══════════════════════════════════════════════╗
+
+    // 💬 Writes data to <filename>.tmp, forces it to disk, then renames it over
+    //    the target. A crash mid-write leaves the previous file intact.
+    // 💬 Safe to call off the main thread (no Bukkit API involved).
+    public static void writeAtomically(String filename, byte[] data) throws IOException {
+        Path target = getFile(filename).toPath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        Files.createDirectories(target.getParent());
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true); // 💽 Data must be on disk before the rename makes it visible
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 🪂 Some filesystems can't rename atomically — a plain replace is still better than an in-place rewrite
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     // ╔═══🗑️ Delete YAML File═══════════════════════════════════════════╗
 
     @SuppressWarnings("unused") // ⚠️ Dev/test usage only
@@ -79,7 +114,7 @@ public class StorageUtil {
             boolean deleted = file.delete();
 
             // 🧪 Debug: log deletion result
-            PickYourDifficulty.debug("🗑️ Deleted file: " + filename + " → success=" + deleted);
+            PickYourDifficulty.debug(() -> "🗑️ Deleted file: " + filename + " → success=" + deleted);
         }
     }
 }
@@ -7,9 +7,12 @@
 package dev.arzor.pickyourdifficulty.utils;
 
 import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.interfaces.Reloadable;
+import dev.arzor.pickyourdifficulty.managers.ReloadManager;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 import org.bukkit.Bukkit;
@@ -21,33 +24,106 @@ import java.util.List;
 // ─────────────────────────────────────────────────────────────
 // 📝 TextUtil — MiniMessage & PlaceholderAPI handling
 // ─────────────────────────────────────────────────────────────
-public class TextUtil {
+public class TextUtil implements Reloadable {
 
     // ╔═══🎨 MiniMessage Engine═════════════════════════════════════════╗
 
     // 💬 Global MiniMessage instance (thread-safe singleton)
     private static final MiniMessage mm = MiniMessage.miniMessage();
 
+    // ╔═══🗂️ Parse Caches═══════════════════════════════════════════════╗
+
+    // 💬 Raw MiniMessage → Component / legacy (§) string. Both outputs are immutable,
+    //    so one instance can be shared by every caller. Only fed strings without
+    //    per-player placeholders, so the key space is bounded by the config files.
+    private static final int MAX_CACHED_STRINGS = 512;
+
+    private static final LruCache<String, Component> componentCache = new LruCache<>("MiniMessage", MAX_CACHED_STRINGS);
+    private static final LruCache<String, String> legacyCache = new LruCache<>("Legacy", MAX_CACHED_STRINGS);
+
+    private TextUtil() {} // ❌ Static utility — the only instance is the reload hook below
+
+    static {
+        ReloadManager.register(new TextUtil()); // ⏺️ Drop parsed strings from the previous config
+    }
+
+    @Override
+    public void reload() {
+        componentCache.clear();
+        legacyCache.clear();
+        PickYourDifficulty.debug("🗂️ Cleared MiniMessage parse caches");
+    }
+
+    // 💬 Cache stats for /pyddebug
+    public static List<LruCache<?, ?>> getCaches() {
+        return List.of(componentCache, legacyCache);
+    }
+
     // ╔═══🔍 PlaceholderAPI Detection═══════════════════════════════════╗
 
+    // 💬 Resolved once on enable, then kept current by PluginHookListener —
+    //    replacePlaceholders() never asks the plugin manager per string
+    private static volatile boolean placeholderApiHooked;
+
+    // 💬 Re-reads PlaceholderAPI state from the plugin manager (call on enable)
+    public static void refreshPlaceholderAPIHook() {
+        setPlaceholderAPIHooked(Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI"));
+    }
+
+    public static void setPlaceholderAPIHooked(boolean hooked) {
+        placeholderApiHooked = hooked;
+
+        // 🧪 Debug: log detection result
+        PickYourDifficulty.debug(() -> "🔍 PlaceholderAPI enabled = " + hooked);
+    }
+
     // 💬 Checks if PlaceholderAPI is available on the server
     public static boolean isPlaceholderAPIEnabled() {
-        boolean enabled = Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI");
+        return placeholderApiHooked;
+    }
 
-        // 🧪 Debug: log detection result
-        PickYourDifficulty.debug("🔍 PlaceholderAPI enabled = " + enabled);
+    // ╔═══🔎 Player Placeholder Detection═══════════════════════════════╗
+
+    // 🏷️ Token kinds found by scanPlaceholders() — combined as a bit set
+    public static final int TOKEN_PAPI = 1;   // %placeholder%
+    public static final int TOKEN_PLAYER = 2; // <player>
+    public static final int TOKEN_WORLD = 4;  // <world>
+
+    // 💬 Which token kinds replacePlaceholders() would act on (0 = text is static)
+    public static int scanPlaceholders(String text) {
+        if (text == null || text.isEmpty()) return 0;
 
-        return enabled;
+        int tokens = 0;
+        int percent = text.indexOf('%');
+        if (percent >= 0 && text.indexOf('%', percent + 1) > percent) tokens |= TOKEN_PAPI;
+        if (text.contains("<player>")) tokens |= TOKEN_PLAYER;
+        if (text.contains("<world>")) tokens |= TOKEN_WORLD;
+        return tokens;
+    }
+
+    // 💬 True if the text contains anything replacePlaceholders() would change:
+    //    a %papi% token, <player>, or <world>. Used to decide what can be pre-rendered.
+    public static boolean hasPlayerPlaceholders(String text) {
+        return scanPlaceholders(text) != 0;
     }
 
     // ╔═══🔁 Placeholder Resolution═════════════════════════════════════╗
 
-    // 💬 Replaces both PlaceholderAPI placeholders and custom tags
+    // 💬 Replaces both PlaceholderAPI placeholders and custom tags.
+    //    Prefer PlaceholderText for config strings — it scans once at load.
     public static String replacePlaceholders(String text, Player player) {
+        return replacePlaceholders(text, scanPlaceholders(text), player);
+    }
+
+    // 💬 Same, but only for the token kinds already found by scanPlaceholders()
+    public static String replacePlaceholders(String text, int tokens, Player player) {
+        // ⚡ Static text — nothing to do
+        if (tokens == 0) return text;
+
         String result = text;
 
         // 📦 Phase 1: Try PlaceholderAPI first (if installed)
-        if (isPlaceholderAPIEnabled()) {
+        if ((tokens & TOKEN_PAPI) != 0 && placeholderApiHooked) {
             try {
                 result = me.clip.placeholderapi.PlaceholderAPI.setPlaceholders(player, result);
             } catch (Exception e) {
@@ -59,21 +135,26 @@ public class TextUtil {
         }
 
         // 📦 Phase 2: Fallback <player> and <world> tags (even without PAPI)
-        result = result
-                .replace("<player>", player.getName())                    // 👤 Replace <player>
-                .replace("<world>", player.getWorld().getName());         // 🌍 Replace <world>
+        if ((tokens & TOKEN_PLAYER) != 0) {
+            result = result.replace("<player>", player.getName());                 // 👤 Replace <player>
+        }
+        if ((tokens & TOKEN_WORLD) != 0) {
+            result = result.replace("<world>", player.getWorld().getName());       // 🌍 Replace <world>
+        }
 
         // 🧪 Debug: log final resolved string after all substitutions
-        PickYourDifficulty.debug("🔁 Final placeholder output for " + player.getName() + " = " + result);
+        String resolved = result;
+        PickYourDifficulty.debug(() -> "🔁 Final placeholder output for " + player.getName() + " = " + resolved);
 
-        return result;
+        return resolved;
     }
 
     // ╔═══🧾 mm() — MiniMessage to Component═════════════════════════════╗
 
-    // 💬 Converts a MiniMessage string into a Component
+    // 💬 Converts a MiniMessage string into a Component (cached — pass only
+    //    strings whose placeholders are already resolved or player-independent)
     public static Component mm(String input) {
-        return mm.deserialize(input);
+        return componentCache.get(input, mm::deserialize);
     }
 
     // ╔═══📋 deserializeMiniMessageList() — List Conversion══════════════╗
@@ -84,7 +165,7 @@ public class TextUtil {
 
         // 🎨 Convert each line separately to preserve per-line formatting
         for (String line : lines) {
-            components.add(mm.deserialize(line));
+            components.add(mm(line));
         }
 
         return components;
@@ -95,10 +176,18 @@ public class TextUtil {
     // 💬 Converts a MiniMessage-formatted string into a legacy (§) formatted line
     public static List<String> parseLegacyString(String message) {
 
-        // 🧮 MiniMessage → Component → §-formatted legacy string
-        String legacy = LegacyComponentSerializer.legacySection().serialize(mm.deserialize(message));
-
         // 🪄 Return it as a single-line list (for holograms, bossbars, etc.)
-        return List.of(legacy);
+        return List.of(toLegacy(message));
+    }
+
+    // 💬 MiniMessage → Component → §-formatted legacy string (cached — static strings only)
+    public static String toLegacy(String message) {
+        return legacyCache.get(message, raw -> LegacyComponentSerializer.legacySection().serialize(mm(raw)));
+    }
+
+    // 💬 Same, with tags filled in by resolvers. Never cached: for text whose
+    //    values change per call (countdowns), which would only churn the LRUs.
+    public static String toLegacy(String format, TagResolver... resolvers) {
+        return LegacyComponentSerializer.legacySection().serialize(mm.deserialize(format, resolvers));
     }
 }
\ No newline at end of file
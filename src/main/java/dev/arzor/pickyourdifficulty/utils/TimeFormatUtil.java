@@ -31,7 +31,7 @@ public class TimeFormatUtil {
         String result = applyFormatPlaceholders(format, hours, minutes, seconds);
 
         // 🧪 Debug: log full conversion trace
-        PickYourDifficulty.debug("⏱️ formatCooldown(" + totalSeconds + "s) → " + result);
+        PickYourDifficulty.debug(() -> "⏱️ formatCooldown(" + totalSeconds + "s) → " + result);
 
         return result;
     }
@@ -50,7 +50,7 @@ public class TimeFormatUtil {
         String result = buildSimpleString(hours, minutes, seconds);
 
         // 🧪 Debug: confirm trimmed fallback output
-        PickYourDifficulty.debug("⏱️ formatSimple(" + totalSeconds + "s) → " + result);
+        PickYourDifficulty.debug(() -> "⏱️ formatSimple(" + totalSeconds + "s) → " + result);
 
         return result;
     }
@@ -0,0 +1,258 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║               ⏱️ DebugOffAllocationBenchmark.java                  ║
+// ║   Bytes allocated per call on the debug-instrumented hot paths     ║
+// ║   with debugMode off — every one should report ≈ 0 B/op            ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import dev.arzor.pickyourdifficulty.PickYourDifficulty;
+import dev.arzor.pickyourdifficulty.listeners.DespawnTimerListener;
+import dev.arzor.pickyourdifficulty.listeners.GraceProtectionListener;
+import dev.arzor.pickyourdifficulty.storage.PlayerDifficultyStorage;
+import dev.arzor.pickyourdifficulty.utils.PermissionUtil;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.ItemSpawnEvent;
+import org.bukkit.metadata.MetadataValue;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+// ─────────────────────────────────────────────────────────────
+// ⏱️ DebugOffAllocationBenchmark — gc.alloc.rate.norm with debug off
+// ─────────────────────────────────────────────────────────────
+// 💬 Read gc.alloc.rate.norm from -prof gc: each path should stay at ≈ 0
+//    B/op. Anything more is a message, capturing lambda or boxed value
+//    built for a debug line that is never written.
+// 💬 The paths, each in its steady state:
+//    • permissionCheck  → PermissionUtil.has, permission granted
+//    • difficultyLookup → PlayerDifficultyStorage.getDifficulty(Player),
+//                         player without a stored difficulty (fallback)
+//    • graceDamage      → GraceProtectionListener.onEntityDamage, FALL hit
+//                         on a player under grace (only LAVA is blocked —
+//                         a blocked hit writes an info line by design)
+//    • itemSpawn        → DespawnTimerListener.onItemSpawn, untagged drop
+//                         with a dropper UUID, timer applied
+//    • hologramPass     → HologramTaskManager.updateAll, 16 tracked items
+//                         in an unloaded chunk (updating needs DecentHolograms).
+//                         The pass may keep its one map iterator (a few dozen
+//                         bytes per pass), never anything per item.
+// 💬 There is no server in a benchmark fork: Bukkit's side is played by
+//    Proxy stand-ins answering from preallocated values, and the plugin
+//    instance is allocated without JavaPlugin's class-loader check. Each
+//    stand-in has a single handler, which C2 inlines, so the argument
+//    arrays it is handed stay off the heap.
+// ▶ mvn -P benchmarks test-compile exec:exec -Djmh.args="DebugOffAllocation -prof gc"
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DebugOffAllocationBenchmark {
+
+    private static final int HOLOGRAM_ITEMS = 16;
+
+    // 💬 Preboxed zero values for stand-in methods nobody configured
+    private static final Double ZERO_DOUBLE = 0.0;
+    private static final Float ZERO_FLOAT = 0.0f;
+
+    private Player player;
+    private PlayerDifficultyStorage storage;
+    private GraceProtectionListener graceListener;
+    private DespawnTimerListener despawnListener;
+    private EntityDamageEvent damageEvent;
+    private ItemSpawnEvent spawnEvent;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // 📭 One world with one unloaded chunk, which will hold the hologram items
+        Entity[] chunkEntities = new Entity[HOLOGRAM_ITEMS];
+        Chunk chunk = standIn(Chunk.class, Map.of("getEntities", chunkEntities, "isLoaded", false));
+        World world = standIn(World.class, Map.of(
+                "getName", "world",
+                "getUID", UUID.randomUUID(),
+                "getLoadedChunks", new Chunk[]{chunk},
+                "getChunkAt", chunk));
+        Location location = new Location(world, 0, 64, 0);
+
+        // 🖥️ Server + plugin must exist before ConfigManager captures the instance
+        setStatic(Bukkit.class, "server", standIn(Server.class, Map.of(
+                "getWorlds", List.of(world),
+                "getCurrentTick", 0,
+                "getLogger", Logger.getLogger("Server"))));
+        installPlugin();
+
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("debugMode", false);
+        config.set("fallbackDifficulty", "normal");
+        config.set("difficulties.normal.slot", 0);
+        config.set("difficulties.normal.despawn-seconds", 300);
+        config.set("difficulties.normal.grace-playtime-seconds", 3600);
+        config.set("graceMode.enabled", true);
+        config.set("graceMode.bypassDamageTypes", List.of("LAVA"));
+        config.set("despawnBehavior.onlyAffectsDeathDrops", false);
+        ConfigManager.apply(config);
+
+        // 🧑 Player — granted every node, no playtime yet, no stored difficulty
+        player = standIn(Player.class, Map.of(
+                "getUniqueId", UUID.randomUUID(),
+                "getName", "Steve",
+                "hasPermission", true,
+                "getStatistic", 0));
+        storage = PlayerDifficultyStorage.getInstance();
+
+        // 🛡️ First hit builds the grace session; the measured hits reuse it
+        graceListener = new GraceProtectionListener();
+        damageEvent = new EntityDamageEvent(player, EntityDamageEvent.DamageCause.FALL,
+                standIn(DamageSource.class, Map.of()), 1.0);
+        graceListener.onEntityDamage(damageEvent);
+
+        // 🎯 Untagged drop whose metadata names its dropper
+        MetadataValue dropper = standIn(MetadataValue.class, Map.of("value", UUID.randomUUID()));
+        PersistentDataContainer untagged = standIn(PersistentDataContainer.class, Map.of("has", false, "getOrDefault", -1));
+        despawnListener = new DespawnTimerListener(storage);
+        spawnEvent = new ItemSpawnEvent(item(UUID.randomUUID(), location, untagged, dropper));
+
+        // 👓 Tracked holograms far from expiry
+        for (int i = 0; i < HOLOGRAM_ITEMS; i++) {
+            UUID itemId = UUID.randomUUID();
+            chunkEntities[i] = item(itemId, location, untagged, dropper);
+            HologramManager.getTrackedData().put(itemId, new HologramManager.TrackedHologram(itemId, Long.MAX_VALUE));
+        }
+    }
+
+    // ╔═══🔐 PermissionUtil.has═══════════════════════════════════════════╗
+    @Benchmark
+    public boolean permissionCheck() {
+        return PermissionUtil.has(player, "pickyourdifficulty.gui");
+    }
+
+    // ╔═══🔍 PlayerDifficultyStorage.getDifficulty════════════════════════╗
+    @Benchmark
+    public String difficultyLookup() {
+        return storage.getDifficulty(player);
+    }
+
+    // ╔═══🛡️ GraceProtectionListener.onEntityDamage═══════════════════════╗
+    @Benchmark
+    public void graceDamage() {
+        graceListener.onEntityDamage(damageEvent);
+    }
+
+    // ╔═══⏱️ DespawnTimerListener.onItemSpawn═════════════════════════════╗
+    @Benchmark
+    public void itemSpawn() {
+        despawnListener.onItemSpawn(spawnEvent);
+    }
+
+    // ╔═══👓 HologramTaskManager.updateAll════════════════════════════════╗
+    @Benchmark
+    public void hologramPass() {
+        HologramTaskManager.updateAll();
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🎭 Stand-ins
+    // ─────────────────────────────────────────────────────────────
+
+    private static Item item(UUID id, Location location, PersistentDataContainer data, MetadataValue dropper) {
+        return standIn(Item.class, Map.of(
+                "getUniqueId", id,
+                "isValid", true,
+                "getLocation", location,
+                "getPersistentDataContainer", data,
+                "hasMetadata", true,
+                "getMetadata", List.of(dropper)));
+    }
+
+    // 💬 Answers by method name; anything unlisted returns its type's zero value
+    private static <T> T standIn(Class<T> type, Map<String, Object> answers) {
+        Map<String, Object> byName = new HashMap<>(answers);
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object answer = byName.get(method.getName());
+            return answer != null ? answer : zeroOf(method.getReturnType());
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object zeroOf(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return Boolean.FALSE;
+        if (type == double.class) return ZERO_DOUBLE;
+        if (type == float.class) return ZERO_FLOAT;
+        if (type == long.class) return 0L;
+        if (type == int.class) return 0;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        return (char) 0;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧩 Plugin Instance Without a Server
+    // ─────────────────────────────────────────────────────────────
+    // 💬 JavaPlugin refuses to be constructed outside a plugin class loader,
+    //    so the instance is allocated bare and given the three fields the
+    //    measured code reaches: its name (NamespacedKey), meta and logger.
+    private static void installPlugin() throws ReflectiveOperationException {
+        Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        PickYourDifficulty plugin = (PickYourDifficulty) ((Unsafe) theUnsafe.get(null)).allocateInstance(PickYourDifficulty.class);
+
+        PluginDescriptionFile description = new PluginDescriptionFile("PickYourDifficulty", "benchmark", PickYourDifficulty.class.getName());
+        setIfPresent(JavaPlugin.class, plugin, "description", description);
+        setIfPresent(JavaPlugin.class, plugin, "pluginMeta", description);
+        setIfPresent(JavaPlugin.class, plugin, "logger", Logger.getLogger("PickYourDifficulty"));
+        setStatic(PickYourDifficulty.class, "instance", plugin);
+    }
+
+    private static void setStatic(Class<?> owner, String name, Object value) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+
+    // 💬 Field names differ between Bukkit and Paper builds — skip the absent ones
+    private static void setIfPresent(Class<?> owner, Object target, String name, Object value) throws IllegalAccessException {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (NoSuchFieldException ignored) {
+            // Not in this API version
+        }
+    }
+}
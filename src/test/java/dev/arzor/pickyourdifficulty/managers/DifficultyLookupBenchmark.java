@@ -0,0 +1,89 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                 ⏱️ DifficultyLookupBenchmark.java                  ║
+// ║   Case-insensitive difficulty lookup: lowercase index vs the old   ║
+// ║   equalsIgnoreCase scan, as the number of difficulties grows       ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// ─────────────────────────────────────────────────────────────
+// ⏱️ DifficultyLookupBenchmark — findProfileIgnoreCase() cost per call
+// ─────────────────────────────────────────────────────────────
+// 💬 Expected: `index` stays flat across `difficulties`, `linearScan`
+//    grows with it. Inputs cycle through exact-cased, lowercase and
+//    uppercase spellings of keys spread over the whole table.
+// ▶ mvn -P benchmarks test-compile exec:exec -Djmh.args="DifficultyLookup"
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DifficultyLookupBenchmark {
+
+    @Param({"4", "64", "1024"})
+    public int difficulties;
+
+    private String[] inputs;
+    private List<String> names;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        YamlConfiguration config = new YamlConfiguration();
+        for (int i = 0; i < difficulties; i++) {
+            config.set("difficulties.Level" + i + ".slot", i);
+        }
+        ConfigManager.apply(config);
+        names = ConfigManager.getDifficultyNames();
+
+        // 🎯 Hits near the start, middle and end of config order, in three spellings
+        int[] picks = {0, difficulties / 2, difficulties - 1};
+        inputs = new String[picks.length * 3];
+        for (int i = 0; i < picks.length; i++) {
+            String key = "Level" + picks[i];
+            inputs[i * 3] = key;
+            inputs[i * 3 + 1] = key.toLowerCase(Locale.ROOT);
+            inputs[i * 3 + 2] = key.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    private String nextInput() {
+        String input = inputs[next];
+        next = (next + 1) % inputs.length;
+        return input;
+    }
+
+    // ╔═══⚡ Current — one lowercase index probe══════════════════════════╗
+    @Benchmark
+    public DifficultyProfile index() {
+        return ConfigManager.findProfileIgnoreCase(nextInput());
+    }
+
+    // ╔═══🐢 Before — stream over every key with equalsIgnoreCase═════════╗
+    @Benchmark
+    public String linearScan() {
+        String input = nextInput();
+        return names.stream()
+                .filter(name -> name.equalsIgnoreCase(input))
+                .findFirst()
+                .orElse(null);
+    }
+}
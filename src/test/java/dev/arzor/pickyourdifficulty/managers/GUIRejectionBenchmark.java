@@ -0,0 +1,142 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                   ⏱️ GUIRejectionBenchmark.java                    ║
+// ║   Cost of ignoring a click in someone else's inventory: holder     ║
+// ║   instanceof vs the old parse-and-compare title check              ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.managers;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ─────────────────────────────────────────────────────────────
+// ⏱️ GUIRejectionBenchmark — Click in a non-plugin inventory
+// ─────────────────────────────────────────────────────────────
+// 💬 Every InventoryClickEvent on the server reaches both click listeners;
+//    almost all of them come from chests, furnaces and player inventories.
+// 💬 `titleComparison` inlines what both listeners did before holders, as
+//    the code stood then: read the title from YAML, resolve placeholders
+//    (plugin-manager lookup for PlaceholderAPI, <player>/<world> replaces,
+//    eagerly built debug lines with the debug flag read from YAML), parse
+//    it with MiniMessage and compare it with the open view's title.
+// 💬 Without a server, the plugin-manager lookup is modelled on Paper's
+//    (normalized name → map probe) with PlaceholderAPI not installed, and
+//    the player/world names are constants — both keep the baseline cheap,
+//    so the measured gap is a lower bound.
+// ▶ mvn -P benchmarks test-compile exec:exec -Djmh.args="GUIRejection -prof gc"
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GUIRejectionBenchmark {
+
+    private static final String PLAYER_NAME = "Steve";
+    private static final String WORLD_NAME = "world";
+
+    // 📦 Stand-in for a chest's block-state holder
+    private static final class ChestHolder implements InventoryHolder {
+        @Override
+        public @NotNull Inventory getInventory() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final MiniMessage mm = MiniMessage.miniMessage();
+
+    // 📘 config.yml as the old code read it — debug off, default titles
+    private final YamlConfiguration config = new YamlConfiguration();
+
+    // 🔌 Stand-in for the server's plugin name index (PlaceholderAPI absent)
+    private final Map<String, Boolean> enabledPlugins = new HashMap<>(Map.of("pickyourdifficulty", true));
+
+    // 💬 Read through fields so neither check is constant-folded
+    private InventoryHolder clickedHolder = new ChestHolder();
+    private Component clickedTitle = Component.text("Chest");
+
+    {
+        config.set("debugMode", false);
+        config.set("gui.title", "<gold><bold>Select Your Difficulty</bold></gold>");
+        config.set("confirmationGUI.title", "<gold><bold>Confirm Your Difficulty</bold></gold>");
+    }
+
+    // ╔═══⚡ Current — one instanceof per listener════════════════════════╗
+    @Benchmark
+    public boolean holderCheck() {
+        return clickedHolder instanceof DifficultyGUIHolder
+                || clickedHolder instanceof ConfirmationGUIHolder;
+    }
+
+    // ╔═══🐢 Before — GUIClickListener + ConfirmGUIClickListener titles═══╗
+    @Benchmark
+    public boolean titleComparison(Blackhole blackhole) {
+        // 🎛️ Selector listener compared Components
+        String rawTitle = config.getString("gui.title", "<gold><bold>Select Your Difficulty</bold></gold>");
+        Component expectedTitle = mm.deserialize(replacePlaceholders(rawTitle, blackhole));
+        Component actualTitle = clickedTitle;
+        debug("GUIClick → Expected title: " + expectedTitle + ", Actual: " + actualTitle, blackhole);
+
+        boolean selector = expectedTitle.equals(actualTitle);
+        if (!selector) {
+            debug("GUIClick → Title mismatch. Ignoring.", blackhole);
+        }
+
+        // ✅ Confirmation listener compared their toString() forms
+        String rawConfirm = config.getString("confirmationGUI.title", "<gold><bold>Confirm Your Difficulty</bold></gold>");
+        String expectedConfirm = mm.deserialize(replacePlaceholders(rawConfirm, blackhole)).toString();
+        String actualConfirm = clickedTitle.toString();
+        debug("Confirm GUI title check for " + PLAYER_NAME + ": expected = " + expectedConfirm + " | actual = " + actualConfirm, blackhole);
+
+        return selector || actualConfirm.equals(expectedConfirm);
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🐢 Baseline Helpers — TextUtil / PickYourDifficulty as they were
+    // ─────────────────────────────────────────────────────────────
+
+    private String replacePlaceholders(String text, Blackhole blackhole) {
+        String result = text;
+
+        // 📦 Phase 1: PlaceholderAPI check per string (plugin-manager lookup)
+        boolean enabled = enabledPlugins.getOrDefault("PlaceholderAPI".replace(' ', '_').toLowerCase(Locale.ENGLISH), false);
+        debug("🔍 PlaceholderAPI enabled = " + enabled, blackhole);
+
+        // 📦 Phase 2: <player> and <world> replaced unconditionally
+        result = result
+                .replace("<player>", PLAYER_NAME)
+                .replace("<world>", WORLD_NAME);
+
+        debug("🔁 Final placeholder output for " + PLAYER_NAME + " = " + result, blackhole);
+        return result;
+    }
+
+    // 💬 The message was built by the caller and the flag read from YAML per
+    //    call; the length is consumed so the JIT cannot drop the concatenation
+    private void debug(String message, Blackhole blackhole) {
+        if (config.getBoolean("debugMode", false)) {
+            blackhole.consume(message);
+        }
+        blackhole.consume(message.length());
+    }
+}
@@ -0,0 +1,301 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                  ⏱️ OptimisticReadBenchmark.java                   ║
+// ║   8 reader threads vs one writer on UuidByteMap / UuidLongMap:     ║
+// ║   optimistic StampedLock reads across rehash, shift-back & shrink  ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+// ─────────────────────────────────────────────────────────────
+// ⏱️ OptimisticReadBenchmark — Correctness + throughput under contention
+// ─────────────────────────────────────────────────────────────
+// 💬 Readers use the same protocol as PlayerDifficultyStorage#lookup and
+//    CooldownTracker#read: optimistic read + validate, a torn read
+//    (RuntimeException) or failed validation falls back to the read lock.
+// 💬 The writer (the main thread's role) holds the write lock per change
+//    and cycles a batch of churn keys in and out, so the table keeps
+//    doubling on insert, shifting entries back on remove and halving
+//    again once mostly empty.
+// ✅ Every read is checked: stable keys (never written after setup) must
+//    return their value and absent keys NO_VALUE — one wrong answer throws
+//    and fails the run. `optimistic` / `fallback` show how often the
+//    lock-free path was enough.
+// 💬 `*ReadLock` groups are the baseline: every read takes the read lock.
+// ▶ mvn -P benchmarks test-compile exec:exec -Djmh.args="OptimisticRead"
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OptimisticReadBenchmark {
+
+    private static final int STABLE = 1024;
+    private static final int CHURN = 16_384;
+    private static final int READERS = 8;
+
+    // ─────────────────────────────────────────────────────────────
+    // 🗝️ Keys — generated once, no UUID objects on the measured path
+    // ─────────────────────────────────────────────────────────────
+
+    private static final long[] STABLE_MOST = new long[STABLE];
+    private static final long[] STABLE_LEAST = new long[STABLE];
+    private static final long[] ABSENT_MOST = new long[STABLE];
+    private static final long[] ABSENT_LEAST = new long[STABLE];
+    private static final long[] CHURN_MOST = new long[CHURN];
+    private static final long[] CHURN_LEAST = new long[CHURN];
+
+    static {
+        // 💬 Distinct by construction: the low bits of `least` tag the key kind
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < STABLE; i++) {
+            STABLE_MOST[i] = random.nextLong();
+            STABLE_LEAST[i] = (random.nextLong() & ~3L) | 1;
+            ABSENT_MOST[i] = random.nextLong();
+            ABSENT_LEAST[i] = (random.nextLong() & ~3L) | 2;
+        }
+        for (int i = 0; i < CHURN; i++) {
+            CHURN_MOST[i] = random.nextLong();
+            CHURN_LEAST[i] = random.nextLong() & ~3L;
+        }
+    }
+
+    private static int byteValue(int i) {
+        return i % (UuidByteMap.MAX_VALUE + 1);
+    }
+
+    private static long longValue(int i) {
+        return i * 1_000_003L + 1;
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📦 Shared Tables (one pair per benchmark group)
+    // ─────────────────────────────────────────────────────────────
+
+    @State(Scope.Group)
+    public static class Tables {
+        final StampedLock lock = new StampedLock();
+        final UuidByteMap bytes = new UuidByteMap();
+        final UuidLongMap longs = new UuidLongMap();
+
+        // ✏️ Writer position: inserting churn keys while `growing`, then removing them
+        int cursor;
+        boolean growing;
+
+        @Setup(Level.Trial)
+        public void fill() {
+            for (int i = 0; i < STABLE; i++) {
+                bytes.put(STABLE_MOST[i], STABLE_LEAST[i], byteValue(i));
+                longs.put(STABLE_MOST[i], STABLE_LEAST[i], longValue(i));
+            }
+            cursor = 0;
+            growing = true;
+        }
+
+        // 💬 Next churn step; the caller applies it to one map
+        int step() {
+            int i = cursor;
+            if (++cursor == CHURN) {
+                cursor = 0;
+                growing = !growing;
+            }
+            return i;
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 📊 Per-Reader State
+    // ─────────────────────────────────────────────────────────────
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Reader {
+        public long optimistic;
+        public long fallback;
+
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            optimistic = 0;
+            fallback = 0;
+        }
+
+        // 💬 Even = stable key, odd = absent key; stride spreads readers over the table
+        int nextKey() {
+            next += 0x9E37;
+            return next;
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧮 UuidByteMap
+    // ─────────────────────────────────────────────────────────────
+
+    @Benchmark
+    @Group("byteMap")
+    @GroupThreads(READERS)
+    public int byteMapRead(Tables tables, Reader reader) {
+        int key = reader.nextKey();
+        int i = (key >>> 1) & (STABLE - 1);
+        boolean stable = (key & 1) == 0;
+        long most = stable ? STABLE_MOST[i] : ABSENT_MOST[i];
+        long least = stable ? STABLE_LEAST[i] : ABSENT_LEAST[i];
+
+        int value = UuidByteMap.NO_VALUE;
+        boolean done = false;
+        long stamp = tables.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                value = tables.bytes.get(most, least);
+                done = tables.lock.validate(stamp);
+            } catch (RuntimeException torn) {
+                // 🔁 Raced a rehash — retried below
+            }
+        }
+
+        if (done) {
+            reader.optimistic++;
+        } else {
+            reader.fallback++;
+            stamp = tables.lock.readLock();
+            try {
+                value = tables.bytes.get(most, least);
+            } finally {
+                tables.lock.unlockRead(stamp);
+            }
+        }
+
+        int expected = stable ? byteValue(i) : UuidByteMap.NO_VALUE;
+        if (value != expected) {
+            throw new IllegalStateException("UuidByteMap read " + value + ", expected " + expected);
+        }
+        return value;
+    }
+
+    @Benchmark
+    @Group("byteMap")
+    @GroupThreads(1)
+    public int byteMapWrite(Tables tables) {
+        boolean growing = tables.growing;
+        int i = tables.step();
+
+        long stamp = tables.lock.writeLock();
+        try {
+            return growing
+                    ? tables.bytes.put(CHURN_MOST[i], CHURN_LEAST[i], byteValue(i))
+                    : tables.bytes.remove(CHURN_MOST[i], CHURN_LEAST[i]);
+        } finally {
+            tables.lock.unlockWrite(stamp);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧮 UuidLongMap
+    // ─────────────────────────────────────────────────────────────
+
+    @Benchmark
+    @Group("longMap")
+    @GroupThreads(READERS)
+    public long longMapRead(Tables tables, Reader reader) {
+        int key = reader.nextKey();
+        int i = (key >>> 1) & (STABLE - 1);
+        boolean stable = (key & 1) == 0;
+        long most = stable ? STABLE_MOST[i] : ABSENT_MOST[i];
+        long least = stable ? STABLE_LEAST[i] : ABSENT_LEAST[i];
+
+        long value = UuidLongMap.NO_VALUE;
+        boolean done = false;
+        long stamp = tables.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                value = tables.longs.get(most, least);
+                done = tables.lock.validate(stamp);
+            } catch (RuntimeException torn) {
+                // 🔁 Raced a rehash — retried below
+            }
+        }
+
+        if (done) {
+            reader.optimistic++;
+        } else {
+            reader.fallback++;
+            stamp = tables.lock.readLock();
+            try {
+                value = tables.longs.get(most, least);
+            } finally {
+                tables.lock.unlockRead(stamp);
+            }
+        }
+
+        long expected = stable ? longValue(i) : UuidLongMap.NO_VALUE;
+        if (value != expected) {
+            throw new IllegalStateException("UuidLongMap read " + value + ", expected " + expected);
+        }
+        return value;
+    }
+
+    @Benchmark
+    @Group("longMap")
+    @GroupThreads(1)
+    public long longMapWrite(Tables tables) {
+        boolean growing = tables.growing;
+        int i = tables.step();
+
+        long stamp = tables.lock.writeLock();
+        try {
+            return growing
+                    ? tables.longs.put(CHURN_MOST[i], CHURN_LEAST[i], longValue(i))
+                    : tables.longs.remove(CHURN_MOST[i], CHURN_LEAST[i]);
+        } finally {
+            tables.lock.unlockWrite(stamp);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🔒 Baseline — every read takes the read lock
+    // ─────────────────────────────────────────────────────────────
+
+    @Benchmark
+    @Group("byteMapReadLock")
+    @GroupThreads(READERS)
+    public int byteMapLockedRead(Tables tables, Reader reader) {
+        int key = reader.nextKey();
+        int i = (key >>> 1) & (STABLE - 1);
+        boolean stable = (key & 1) == 0;
+
+        long stamp = tables.lock.readLock();
+        try {
+            return stable
+                    ? tables.bytes.get(STABLE_MOST[i], STABLE_LEAST[i])
+                    : tables.bytes.get(ABSENT_MOST[i], ABSENT_LEAST[i]);
+        } finally {
+            tables.lock.unlockRead(stamp);
+        }
+    }
+
+    @Benchmark
+    @Group("byteMapReadLock")
+    @GroupThreads(1)
+    public int byteMapLockedWrite(Tables tables) {
+        return byteMapWrite(tables);
+    }
+}
@@ -0,0 +1,146 @@
+// ╔════════════════════════════════════════════════════════════════════╗
+// ║                   ⏱️ SnapshotLoadBenchmark.java                    ║
+// ║   Startup load of every stored difficulty: playerdata.yml through  ║
+// ║   YamlConfiguration vs the binary playerdata.dat snapshot          ║
+// ╚════════════════════════════════════════════════════════════════════╝
+
+package dev.arzor.pickyourdifficulty.storage;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// ─────────────────────────────────────────────────────────────
+// ⏱️ SnapshotLoadBenchmark — Load time + heap per full load
+// ─────────────────────────────────────────────────────────────
+// 💬 `yaml` repeats what YamlStorageBackend#readFile did for
+//    playerdata.yml (parse, then UUID.fromString + getString per key);
+//    `snapshot` is DifficultySnapshot.read(). Both return the same map.
+// 💬 Heap: -prof gc reports bytes allocated per load (gc.alloc.rate.norm);
+//    the peakHeapMb counter is the highest heap pool usage the JVM saw
+//    during the iteration (summed over pools, so an upper bound).
+// ▶ mvn -P benchmarks test-compile exec:exec -Djmh.args="SnapshotLoad -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SnapshotLoadBenchmark {
+
+    private static final String[] DIFFICULTIES = {"easy", "normal", "hard", "hardcore"};
+
+    // 💬 Same as the storage.compressSnapshots default
+    private static final boolean COMPRESSED = true;
+
+    @Param({"10000", "100000", "1000000"})
+    public int players;
+
+    private Path directory;
+    private File yamlFile;
+    private Path snapshotFile;
+
+    // ╔═══📊 Peak Heap Counter════════════════════════════════════════════╗
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long peakHeapMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakHeapMb = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+            }
+        }
+
+        void sample() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+            }
+            peakHeapMb = Math.max(peakHeapMb, peak >> 20);
+        }
+    }
+
+    // ─────────────────────────────────────────────────────────────
+    // 🧰 Fixture — same players in both formats
+    // ─────────────────────────────────────────────────────────────
+
+    @Setup(Level.Trial)
+    public void writeFiles() throws IOException {
+        directory = Files.createTempDirectory("pyd-snapshot-bench");
+        yamlFile = directory.resolve("playerdata.yml").toFile();
+        snapshotFile = directory.resolve(DifficultySnapshot.FILE_NAME);
+
+        Random random = new Random(players);
+        Map<UUID, String> entries = new HashMap<>(players * 2);
+        while (entries.size() < players) {
+            entries.put(new UUID(random.nextLong(), random.nextLong()), DIFFICULTIES[random.nextInt(DIFFICULTIES.length)]);
+        }
+
+        // 📝 Same layout YamlConfiguration#saveToString writes: <uuid>: <difficulty>
+        try (BufferedWriter out = Files.newBufferedWriter(yamlFile.toPath(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<UUID, String> entry : entries.entrySet()) {
+                out.write(entry.getKey() + ": " + entry.getValue());
+                out.newLine();
+            }
+        }
+
+        Files.write(snapshotFile, DifficultySnapshot.encode(entries, COMPRESSED));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(yamlFile.toPath());
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(directory);
+    }
+
+    // ╔═══🐢 Before — playerdata.yml════════════════════════════════════╗
+    @Benchmark
+    public Map<UUID, String> yaml(Heap heap) {
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(yamlFile);
+        Map<UUID, String> entries = new HashMap<>();
+        for (String key : config.getKeys(false)) {
+            entries.put(UUID.fromString(key), config.getString(key));
+        }
+        heap.sample();
+        return entries;
+    }
+
+    // ╔═══⚡ Current — playerdata.dat═══════════════════════════════════╗
+    @Benchmark
+    public Map<UUID, String> snapshot(Heap heap) throws IOException {
+        Map<UUID, String> entries = DifficultySnapshot.read(snapshotFile);
+        heap.sample();
+        return entries;
+    }
+}